@@ -439,10 +439,10 @@ public abstract class AbstractRxGenerator extends Generator<ClassModel> {
     writer.println();
 
     if (model.isReadStream()) {
-      genToObservable(model.getReadStreamArg(), writer);
+      genToObservable(constructor, model.getReadStreamArg(), writer);
     }
     if (model.isWriteStream()) {
-      genToSubscriber(model.getWriteStreamArg(), writer);
+      genToSubscriber(constructor, model.getWriteStreamArg(), writer);
     }
     List<MethodInfo> methods = new ArrayList<>();
     methods.addAll(model.getMethods());
@@ -485,9 +485,15 @@ public abstract class AbstractRxGenerator extends Generator<ClassModel> {
     }
   }
 
-  protected abstract void genToObservable(TypeInfo streamType, PrintWriter writer);
+  /**
+   * @param className the simple name of the generated class
+   */
+  protected abstract void genToObservable(String className, TypeInfo streamType, PrintWriter writer);
 
-  protected abstract void genToSubscriber(TypeInfo streamType, PrintWriter writer);
+  /**
+   * @param className the simple name of the generated class
+   */
+  protected abstract void genToSubscriber(String className, TypeInfo streamType, PrintWriter writer);
 
   protected abstract void genMethods(ClassModel model, MethodInfo method, List<String> cacheDecls, boolean genBody, PrintWriter writer);
 
@@ -36,7 +36,7 @@ class RxJavaGenerator extends Vertx3RxGeneratorBase {
   }
 
   @Override
-  protected void genToObservable(TypeInfo streamType, PrintWriter writer) {
+  protected void genToObservable(String className, TypeInfo streamType, PrintWriter writer) {
     writer.print("  private Observable<");
     writer.print(genTranslatedTypeName(streamType));
     writer.println("> observable;");
@@ -83,7 +83,7 @@ class RxJavaGenerator extends Vertx3RxGeneratorBase {
   }
 
   @Override
-  protected void genToSubscriber(TypeInfo streamType, PrintWriter writer) {
+  protected void genToSubscriber(String className, TypeInfo streamType, PrintWriter writer) {
     writer.format("  private WriteStreamSubscriber<%s> subscriber;%n", genTranslatedTypeName(streamType));
     writer.println();
 
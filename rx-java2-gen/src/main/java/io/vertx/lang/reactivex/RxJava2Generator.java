@@ -40,7 +40,7 @@ class RxJava2Generator extends Vertx3RxGeneratorBase {
   }
 
   @Override
-  protected void genToObservable(TypeInfo streamType, PrintWriter writer) {
+  protected void genToObservable(String className, TypeInfo streamType, PrintWriter writer) {
     writer.print("  private io.reactivex.Observable<");
     writer.print(genTranslatedTypeName(streamType));
     writer.println("> observable;");
@@ -124,7 +124,7 @@ class RxJava2Generator extends Vertx3RxGeneratorBase {
   }
 
   @Override
-  protected void genToSubscriber(TypeInfo streamType, PrintWriter writer) {
+  protected void genToSubscriber(String className, TypeInfo streamType, PrintWriter writer) {
     writer.format("  private WriteStreamObserver<%s> observer;%n", genTranslatedTypeName(streamType));
 
     writer.format("  private WriteStreamSubscriber<%s> subscriber;%n", genTranslatedTypeName(streamType));
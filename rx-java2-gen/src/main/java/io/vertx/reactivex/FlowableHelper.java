@@ -5,9 +5,11 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import io.reactivex.Flowable;
 import io.reactivex.FlowableTransformer;
 import io.reactivex.plugins.RxJavaPlugins;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.reactivex.impl.FlowableReadStream;
+import io.vertx.reactivex.impl.MappedFile;
 import io.vertx.reactivex.impl.ReadStreamSubscriber;
 import io.vertx.reactivex.impl.FlowableUnmarshaller;
 
@@ -29,6 +31,13 @@ public class FlowableHelper {
     return ReadStreamSubscriber.asReadStream(observable, Function.identity());
   }
 
+  /**
+   * Like {@link #toReadStream(Flowable)} but reporting the adapter activity to {@code metrics}.
+   */
+  public static <T> ReadStream<T> toReadStream(Flowable<T> observable, StreamMetrics metrics) {
+    return ReadStreamSubscriber.asReadStream(observable, Function.identity(), metrics);
+  }
+
   /**
    * Like {@link #toFlowable(ReadStream)} but with a {@code mapping} function
    */
@@ -36,6 +45,13 @@ public class FlowableHelper {
     return RxJavaPlugins.onAssembly(new FlowableReadStream<>(stream, FlowableReadStream.DEFAULT_MAX_BUFFER_SIZE, mapping));
   }
 
+  /**
+   * Like {@link #toFlowable(ReadStream, Function)} but reporting the adapter activity to {@code metrics}.
+   */
+  public static <T, U> Flowable<U> toFlowable(ReadStream<T> stream, Function<T, U> mapping, StreamMetrics metrics) {
+    return RxJavaPlugins.onAssembly(new FlowableReadStream<>(stream, FlowableReadStream.DEFAULT_MAX_BUFFER_SIZE, mapping, metrics));
+  }
+
   /**
    * Adapts a Vert.x {@link ReadStream<T>} to an RxJava {@link Flowable<T>}. After
    * the stream is adapted to a flowable, the original stream handlers should not be used anymore
@@ -75,4 +91,24 @@ public class FlowableHelper {
   public static <T> FlowableTransformer<Buffer, T>unmarshaller(TypeReference<T> mappedTypeRef, ObjectCodec mapper) {
     return new FlowableUnmarshaller<>(java.util.function.Function.identity(), mappedTypeRef, mapper);
   }
+
+  /**
+   * Create a {@link Flowable} emitting the content of the file at {@code path} in {@code chunkSize} buffers, the last one
+   * being possibly smaller.
+   * <p>
+   * The file is memory-mapped in windows as the demand progresses, and the buffers are read-only views of the mapped
+   * windows: the content is neither copied to the heap nor read by a worker task per chunk. A window is unmapped once
+   * no buffer sharing it is reachable anymore.
+   * <p>
+   * Since accessing a mapped region can block on disk reads, the file is mapped and the buffers are emitted on the
+   * worker pool of {@code vertx}, use {@code observeOn} to consume them on an event loop.
+   *
+   * @param vertx the vertx instance
+   * @param path the file path
+   * @param chunkSize the size of the buffers
+   * @return the flowable
+   */
+  public static Flowable<Buffer> mappedFile(Vertx vertx, String path, int chunkSize) {
+    return MappedFile.flowable(path, chunkSize).subscribeOn(RxHelper.blockingScheduler(vertx));
+  }
 }
@@ -91,6 +91,13 @@ public class RxHelper {
     return new WriteStreamSubscriberImpl<>(stream, mapping);
   }
 
+  /**
+   * Like {@link #toSubscriber(WriteStream, Function)} but reporting the adapter activity to {@code metrics}.
+   */
+  public static <R, T> WriteStreamSubscriber<R> toSubscriber(WriteStream<T> stream, Function<R, T> mapping, StreamMetrics metrics) {
+    return new WriteStreamSubscriberImpl<>(stream, mapping, metrics);
+  }
+
   /**
    * Adapts a Vert.x {@link WriteStream} to an RxJava {@link Observer}.
    * <p>
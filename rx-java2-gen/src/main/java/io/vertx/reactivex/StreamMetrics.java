@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.reactivex;
+
+/**
+ * The metrics SPI of the stream adapters.
+ * <p>
+ * Implementations are called from the adapters hot path and must be thread safe and cheap, the same instance can be
+ * shared by several adapters. The {@link #NOOP} instance is used when no metrics are configured.
+ */
+public interface StreamMetrics {
+
+  /**
+   * The metrics instance that does nothing.
+   */
+  StreamMetrics NOOP = new StreamMetrics() {
+  };
+
+  /**
+   * Items have been requested from the producer.
+   *
+   * @param amount the requested amount
+   */
+  default void requested(long amount) {
+  }
+
+  /**
+   * An item has been delivered to the consumer.
+   */
+  default void emitted() {
+  }
+
+  /**
+   * An item has been buffered by the adapter until the consumer demands it.
+   */
+  default void buffered() {
+  }
+
+  /**
+   * A buffered item has been removed from the adapter buffer.
+   */
+  default void unbuffered() {
+  }
+
+  /**
+   * The write stream reported its write queue is full, the adapter stops requesting items.
+   */
+  default void writeQueueFull() {
+  }
+
+  /**
+   * The write stream drain handler has been called, the adapter requests items again.
+   */
+  default void drained() {
+  }
+}
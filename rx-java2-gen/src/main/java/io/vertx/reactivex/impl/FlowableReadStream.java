@@ -6,6 +6,7 @@ import io.reactivex.internal.subscriptions.BasicIntQueueSubscription;
 import io.reactivex.internal.subscriptions.EmptySubscription;
 import io.reactivex.processors.UnicastProcessor;
 import io.vertx.core.streams.ReadStream;
+import io.vertx.reactivex.StreamMetrics;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
@@ -22,14 +23,20 @@ public class FlowableReadStream<T, U> extends Flowable<U> {
   private final ReadStream<T> stream;
   private final Function<T, U> f;
   private final AtomicReference<Subscription> current;
+  private final StreamMetrics metrics;
 
   public FlowableReadStream(ReadStream<T> stream, long maxBufferSize, Function<T, U> f) {
+    this(stream, maxBufferSize, f, StreamMetrics.NOOP);
+  }
+
+  public FlowableReadStream(ReadStream<T> stream, long maxBufferSize, Function<T, U> f, StreamMetrics metrics) {
 
     stream.pause();
 
     this.stream = stream;
     this.f = f;
     this.current = new AtomicReference<>();
+    this.metrics = metrics;
   }
 
   private void release() {
@@ -58,6 +65,7 @@ public class FlowableReadStream<T, U> extends Flowable<U> {
       @Override
       public void request(long l) {
         if (current.get() == this) {
+          metrics.requested(l);
           stream.fetch(l);
         }
       }
@@ -83,6 +91,7 @@ public class FlowableReadStream<T, U> extends Flowable<U> {
       subscriber.onError(err);
     });
     stream.handler(item -> {
+      metrics.emitted();
       subscriber.onNext(f.apply(item));
     });
 
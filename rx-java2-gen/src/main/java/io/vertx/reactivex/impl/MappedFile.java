@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.reactivex.impl;
+
+import io.netty.buffer.Unpooled;
+import io.reactivex.Emitter;
+import io.reactivex.Flowable;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferInternal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file by mapping it in memory.
+ * <p>
+ * The file is mapped in windows of at most {@link #WINDOW_SIZE} bytes, a window is mapped when the demand reaches it.
+ * The emitted buffers are read-only slices of the window: the content is not copied, it is loaded by the page cache
+ * when a buffer is accessed.
+ * <p>
+ * The reader drops its reference to a window once all its chunks are emitted, the window is unmapped when the JVM
+ * collects it, i.e. once the last buffer sharing it is unreachable. It is not unmapped eagerly, accessing a buffer
+ * of an unmapped window would crash the JVM.
+ */
+public final class MappedFile {
+
+  /**
+   * The default maximum size of a window.
+   */
+  public static final long WINDOW_SIZE = 64L * 1024 * 1024;
+
+  /**
+   * Create a flowable emitting the content of the file at {@code path} in {@code chunkSize} buffers, the last one
+   * being possibly smaller. The file is opened and mapped by the thread subscribing and requesting items.
+   */
+  public static Flowable<Buffer> flowable(String path, int chunkSize) {
+    return flowable(path, chunkSize, WINDOW_SIZE);
+  }
+
+  /**
+   * Like {@link #flowable(String, int)} with windows of at most {@code windowSize} bytes, rounded down to a multiple
+   * of {@code chunkSize}.
+   */
+  public static Flowable<Buffer> flowable(String path, int chunkSize, long windowSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+    }
+    if (windowSize < chunkSize) {
+      throw new IllegalArgumentException("Invalid window size: " + windowSize);
+    }
+    long size = Math.min(windowSize, Integer.MAX_VALUE) / chunkSize * chunkSize;
+    return Flowable.generate(() -> new MappedFile(path, chunkSize, size), MappedFile::next, MappedFile::close);
+  }
+
+  private final FileChannel channel;
+  private final int chunkSize;
+  private final long windowSize;
+  private final long size;
+  private long offset;
+  private MappedByteBuffer window;
+
+  private MappedFile(String path, int chunkSize, long windowSize) throws IOException {
+    this.channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ);
+    this.chunkSize = chunkSize;
+    this.windowSize = windowSize;
+    this.size = channel.size();
+  }
+
+  private void next(Emitter<Buffer> emitter) throws IOException {
+    if (window == null || !window.hasRemaining()) {
+      window = null;
+      if (offset >= size) {
+        emitter.onComplete();
+        return;
+      }
+      window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(windowSize, size - offset));
+    }
+    int len = Math.min(chunkSize, window.remaining());
+    ByteBuffer chunk = window.slice();
+    chunk.limit(len);
+    window.position(window.position() + len);
+    offset += len;
+    emitter.onNext(BufferInternal.buffer(Unpooled.wrappedBuffer(chunk)));
+  }
+
+  private void close() throws IOException {
+    window = null;
+    channel.close();
+  }
+}
@@ -5,6 +5,7 @@ import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.vertx.core.Handler;
 import io.vertx.core.streams.ReadStream;
+import io.vertx.reactivex.StreamMetrics;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -40,6 +41,10 @@ public class ReadStreamSubscriber<R, J> implements Subscriber<R>, ReadStream<J>
     return new ReadStreamSubscriber<>(adapter, flowable);
   }
 
+  public static <R, J> ReadStream<J> asReadStream(Flowable<R> flowable, Function<R, J> adapter, StreamMetrics metrics) {
+    return new ReadStreamSubscriber<>(adapter, flowable, metrics);
+  }
+
   public static <R, J> ReadStream<J> asReadStream(Observable<R> observable, Function<R, J> adapter) {
     return asReadStream(observable.toFlowable(BackpressureStrategy.BUFFER), adapter);
   }
@@ -54,15 +59,22 @@ public class ReadStreamSubscriber<R, J> implements Subscriber<R>, ReadStream<J>
   private int requested = 0;
   private Subscription subscription;
   private Publisher<R> publisher;
+  private final StreamMetrics metrics;
 
   public ReadStreamSubscriber(Function<R, J> adapter, Publisher<R> publisher) {
+    this(adapter, publisher, StreamMetrics.NOOP);
+  }
+
+  public ReadStreamSubscriber(Function<R, J> adapter, Publisher<R> publisher, StreamMetrics metrics) {
     this.adapter = adapter;
     this.publisher = publisher;
+    this.metrics = metrics;
   }
 
   @Override
   public ReadStream<J> handler(Handler<J> handler) {
     Runnable action;
+    int discarded = 0;
     synchronized (this) {
       elementHandler = handler;
       if (handler != null) {
@@ -70,8 +82,15 @@ public class ReadStreamSubscriber<R, J> implements Subscriber<R>, ReadStream<J>
       } else {
         Subscription s = subscription;
         action = s != null ? s::cancel : NOOP_ACTION;
+        // The pending items are not delivered anymore
+        discarded = pending.size();
+        requested -= discarded;
+        pending.clear();
       }
     }
+    for (int i = 0; i < discarded; i++) {
+      metrics.unbuffered();
+    }
     action.run();
     checkStatus();
     return this;
@@ -125,6 +144,7 @@ public class ReadStreamSubscriber<R, J> implements Subscriber<R>, ReadStream<J>
           }
           requested--;
           R item = pending.poll();
+          metrics.unbuffered();
           adapted = adapter.apply(item);
         } else {
           if (completed != null) {
@@ -155,12 +175,16 @@ public class ReadStreamSubscriber<R, J> implements Subscriber<R>, ReadStream<J>
             }
           } else if (elementHandler != null && requested < BUFFER_SIZE / 2) {
             int request = BUFFER_SIZE - requested;
-            action = () -> subscription.request(request);
+            action = () -> {
+              metrics.requested(request);
+              subscription.request(request);
+            };
             requested = BUFFER_SIZE;
           }
           break;
         }
       }
+      metrics.emitted();
       handler.handle(adapted);
     }
     action.run();
@@ -215,6 +239,7 @@ public class ReadStreamSubscriber<R, J> implements Subscriber<R>, ReadStream<J>
     synchronized (this) {
       pending.add(item);
     }
+    metrics.buffered();
     checkStatus();
   }
 }
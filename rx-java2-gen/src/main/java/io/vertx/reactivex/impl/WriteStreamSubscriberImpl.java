@@ -25,6 +25,7 @@ import io.reactivex.plugins.RxJavaPlugins;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.streams.WriteStream;
 import io.vertx.reactivex.WriteStreamSubscriber;
+import io.vertx.reactivex.StreamMetrics;
 import org.reactivestreams.Subscription;
 
 import java.util.Objects;
@@ -39,10 +40,12 @@ public class WriteStreamSubscriberImpl<R, T> implements WriteStreamSubscriber<R>
 
   private final WriteStream<T> writeStream;
   private final Function<R, T> mapping;
+  private final StreamMetrics metrics;
 
   private Subscription subscription;
   private int outstanding;
   private boolean done;
+  private boolean writeQueueFull;
 
   private Consumer<? super Throwable> flowableErrorHandler;
   private Consumer<? super Throwable> writeStreamExceptionHandler;
@@ -50,10 +53,16 @@ public class WriteStreamSubscriberImpl<R, T> implements WriteStreamSubscriber<R>
   private Consumer<? super Throwable> writeStreamEndErrorHandler;
 
   public WriteStreamSubscriberImpl(WriteStream<T> writeStream, Function<R, T> mapping) {
+    this(writeStream, mapping, StreamMetrics.NOOP);
+  }
+
+  public WriteStreamSubscriberImpl(WriteStream<T> writeStream, Function<R, T> mapping, StreamMetrics metrics) {
     Objects.requireNonNull(writeStream, "writeStream");
     Objects.requireNonNull(mapping, "mapping");
+    Objects.requireNonNull(metrics, "metrics");
     this.writeStream = writeStream;
     this.mapping = mapping;
+    this.metrics = metrics;
   }
 
   @Override
@@ -82,7 +91,13 @@ public class WriteStreamSubscriberImpl<R, T> implements WriteStreamSubscriber<R>
         }
       }
     });
-    writeStream.drainHandler(v -> requestMore());
+    writeStream.drainHandler(v -> {
+      synchronized (this) {
+        writeQueueFull = false;
+      }
+      metrics.drained();
+      requestMore();
+    });
     requestMore();
   }
 
@@ -109,6 +124,7 @@ public class WriteStreamSubscriberImpl<R, T> implements WriteStreamSubscriber<R>
       synchronized (this) {
         outstanding--;
       }
+      metrics.emitted();
     } catch (Throwable t) {
       Exceptions.throwIfFatal(t);
       Throwable throwable;
@@ -125,6 +141,15 @@ public class WriteStreamSubscriberImpl<R, T> implements WriteStreamSubscriber<R>
 
     if (!writeStream.writeQueueFull()) {
       requestMore();
+    } else {
+      boolean reported;
+      synchronized (this) {
+        reported = writeQueueFull;
+        writeQueueFull = true;
+      }
+      if (!reported) {
+        metrics.writeQueueFull();
+      }
     }
   }
 
@@ -221,6 +246,7 @@ public class WriteStreamSubscriberImpl<R, T> implements WriteStreamSubscriber<R>
       }
       outstanding = BATCH_SIZE;
     }
+    metrics.requested(BATCH_SIZE);
     s.request(BATCH_SIZE);
   }
 
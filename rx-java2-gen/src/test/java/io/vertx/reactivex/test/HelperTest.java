@@ -12,15 +12,22 @@ import io.reactivex.functions.Function;
 import io.reactivex.plugins.RxJavaPlugins;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.reactivex.CompletableHelper;
 import io.vertx.reactivex.FlowableHelper;
 import io.vertx.reactivex.MaybeHelper;
 import io.vertx.reactivex.ObservableHelper;
 import io.vertx.reactivex.SingleHelper;
+import io.vertx.reactivex.impl.MappedFile;
 import io.vertx.test.core.VertxTestBase;
 import io.vertx.test.fakestream.FakeStream;
 import org.junit.Test;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+
 import static java.util.function.Function.identity;
 
 /**
@@ -157,4 +164,42 @@ public class HelperTest extends VertxTestBase {
       RxJavaPlugins.reset();
     }
   }
+
+  @Test
+  public void testMappedFile() throws Exception {
+    byte[] content = new byte[100_000];
+    new Random().nextBytes(content);
+    File file = File.createTempFile("mapped", ".bin");
+    file.deleteOnExit();
+    Files.write(file.toPath(), content);
+    List<Buffer> chunks = FlowableHelper.mappedFile(vertx, file.getAbsolutePath(), 4096).toList().blockingGet();
+    assertEquals((content.length + 4095) / 4096, chunks.size());
+    Buffer result = Buffer.buffer();
+    for (Buffer chunk : chunks) {
+      assertTrue(chunk.length() <= 4096);
+      result.appendBuffer(chunk);
+    }
+    assertEquals(Buffer.buffer(content), result);
+  }
+
+  @Test
+  public void testMappedFileWindows() throws Exception {
+    byte[] content = new byte[10_500];
+    new Random().nextBytes(content);
+    File file = File.createTempFile("mapped", ".bin");
+    file.deleteOnExit();
+    Files.write(file.toPath(), content);
+    // Windows of 4000 bytes
+    Flowable<Buffer> flowable = MappedFile.flowable(file.getAbsolutePath(), 1000, 4500);
+    flowable.test(0L)
+      .requestMore(3)
+      .assertValueCount(3)
+      .assertNotComplete();
+    List<Buffer> chunks = flowable.toList().blockingGet();
+    assertEquals(11, chunks.size());
+    assertEquals(500, chunks.get(10).length());
+    Buffer result = Buffer.buffer();
+    chunks.forEach(result::appendBuffer);
+    assertEquals(Buffer.buffer(content), result);
+  }
 }
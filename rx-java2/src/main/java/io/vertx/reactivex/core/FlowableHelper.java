@@ -2,6 +2,7 @@ package io.vertx.reactivex.core;
 
 import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.core.type.TypeReference;
+import io.reactivex.Flowable;
 import io.reactivex.FlowableTransformer;
 import io.vertx.reactivex.core.buffer.Buffer;
 import io.vertx.reactivex.impl.FlowableUnmarshaller;
@@ -26,4 +27,17 @@ public class FlowableHelper {
   public static <T> FlowableTransformer<Buffer, T> unmarshaller(TypeReference<T> mappedTypeRef, ObjectCodec mapper) {
     return new FlowableUnmarshaller<>(Buffer::getDelegate, mappedTypeRef, mapper);
   }
+
+  /**
+   * Create a {@link Flowable} emitting the content of the file at {@code path} in {@code chunkSize} buffers, the file is
+   * memory-mapped, see {@link io.vertx.reactivex.FlowableHelper#mappedFile(io.vertx.core.Vertx, String, int)}.
+   *
+   * @param vertx the vertx instance
+   * @param path the file path
+   * @param chunkSize the size of the buffers
+   * @return the flowable
+   */
+  public static Flowable<Buffer> mappedFile(Vertx vertx, String path, int chunkSize) {
+    return io.vertx.reactivex.FlowableHelper.mappedFile(vertx.getDelegate(), path, chunkSize).map(Buffer::newInstance);
+  }
 }
@@ -42,12 +42,12 @@ class RxJava3Generator extends AbstractRxGenerator {
   }
 
   @Override
-  protected void genToObservable(TypeInfo streamType, PrintWriter writer) {
-    writer.print("  private io.reactivex.rxjava3.core.Observable<");
+  protected void genToObservable(String className, TypeInfo streamType, PrintWriter writer) {
+    writer.print("  private volatile io.reactivex.rxjava3.core.Observable<");
     writer.print(genTranslatedTypeName(streamType));
     writer.println("> observable;");
 
-    writer.print("  private io.reactivex.rxjava3.core.Flowable<");
+    writer.print("  private volatile io.reactivex.rxjava3.core.Flowable<");
     writer.print(genTranslatedTypeName(streamType));
     writer.println("> flowable;");
 
@@ -57,23 +57,30 @@ class RxJava3Generator extends AbstractRxGenerator {
     genToXXXAble(streamType, "Flowable", "flowable", writer);
   }
 
-  private void genToXXXAble(TypeInfo streamType, String rxType, String rxName, PrintWriter writer) {
-    writer.print("  public synchronized ");
-    writer.print("io.reactivex.rxjava3.core.");
-    writer.print(rxType);
-    writer.print("<");
-    writer.print(genTranslatedTypeName(streamType));
-    writer.print("> to");
-    writer.print(rxType);
-    writer.println("() {");
+  // Generates the field updaters used for publishing each lazily created field of the className class, fields are given as (name, type) pairs
+  private void genFieldUpdaters(String className, PrintWriter writer, String... fields) {
+    for (int i = 0; i < fields.length; i += 2) {
+      // Class literals are raw types
+      writer.println("  @SuppressWarnings(\"rawtypes\")");
+      writer.format("  private static final java.util.concurrent.atomic.AtomicReferenceFieldUpdater<%s, %s> __%s = java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater(%s.class, %s.class, \"%s\");%n",
+        className, fields[i + 1], fields[i].toUpperCase(), className, fields[i + 1], fields[i]);
+    }
+    writer.println();
+  }
 
-    writer.print("    ");
-    writer.print("if (");
-    writer.print(rxName);
-    writer.println(" == null) {");
+  // Double-checked publication: the read stream adapters pause the stream when they are created, building an adapter
+  // that loses the race would pause a stream already fetched by the published one
+  private void genToXXXAble(TypeInfo streamType, String rxType, String rxName, PrintWriter writer) {
+    String rxTypeName = "io.reactivex.rxjava3.core." + rxType + "<" + genTranslatedTypeName(streamType) + ">";
+    writer.format("  public %s to%s() {%n", rxTypeName, rxType);
+    writer.format("    %s ret = %s;%n", rxTypeName, rxName);
+    writer.println("    if (ret == null) {");
+    writer.println("      synchronized (this) {");
+    writer.format("        ret = %s;%n", rxName);
+    writer.println("        if (ret == null) {");
 
     if (streamType.getKind() == ClassKind.API) {
-      writer.print("      Function<");
+      writer.print("          Function<");
       writer.print(streamType.getName());
       writer.print(", ");
       writer.print(genTranslatedTypeName(streamType));
@@ -81,16 +88,14 @@ class RxJava3Generator extends AbstractRxGenerator {
       writer.print(genTranslatedTypeName(streamType.getRaw()));
       writer.println("::newInstance;");
 
-      writer.print("      ");
-      writer.print(rxName);
-      writer.print(" = ");
+      writer.print("          ret = ");
       writer.print(rxType);
       writer.print("Helper.to");
       writer.print(rxType);
       writer.println("(delegate, conv);");
     } else if (streamType.isVariable()) {
       String typeVar = streamType.getSimpleName();
-      writer.print("      Function<");
+      writer.print("          Function<");
       writer.print(typeVar);
       writer.print(", ");
       writer.print(typeVar);
@@ -100,55 +105,63 @@ class RxJava3Generator extends AbstractRxGenerator {
       writer.print(typeVar);
       writer.println(">) __typeArg_0.wrap;");
 
-      writer.print("      ");
-      writer.print(rxName);
-      writer.print(" = ");
+      writer.print("          ret = ");
       writer.print(rxType);
       writer.print("Helper.to");
       writer.print(rxType);
       writer.println("(delegate, conv);");
     } else {
-      writer.print("      ");
-      writer.print(rxName);
-      writer.print(" = ");
+      writer.print("          ret = ");
       writer.print(rxType);
       writer.print("Helper.to");
       writer.print(rxType);
       writer.println("(this.getDelegate());");
     }
 
+    writer.format("          %s = ret;%n", rxName);
+    writer.println("        }");
+    writer.println("      }");
     writer.println("    }");
-    writer.print("    return ");
-    writer.print(rxName);
-    writer.println(";");
+    writer.println("    return ret;");
     writer.println("  }");
     writer.println();
   }
 
+  // Lock-free publication: when another thread won the race, its instance is returned so callers share a single adapter
+  private void genPublish(String rxName, PrintWriter writer) {
+    writer.format("      if (!__%s.compareAndSet(this, null, ret)) {%n", rxName.toUpperCase());
+    writer.format("        ret = %s;%n", rxName);
+    writer.println("      }");
+  }
+
   @Override
-  protected void genToSubscriber(TypeInfo streamType, PrintWriter writer) {
-    writer.format("  private WriteStreamObserver<%s> observer;%n", genTranslatedTypeName(streamType));
-    writer.format("  private WriteStreamSubscriber<%s> subscriber;%n", genTranslatedTypeName(streamType));
+  protected void genToSubscriber(String className, TypeInfo streamType, PrintWriter writer) {
+    writer.format("  private volatile WriteStreamObserver<%s> observer;%n", genTranslatedTypeName(streamType));
+    writer.format("  private volatile WriteStreamSubscriber<%s> subscriber;%n", genTranslatedTypeName(streamType));
     writer.println();
+    genFieldUpdaters(className, writer, "observer", "WriteStreamObserver", "subscriber", "WriteStreamSubscriber");
     genToXXXEr(streamType, "Observer", "observer", writer);
     genToXXXEr(streamType, "Subscriber", "subscriber", writer);
   }
 
   private void genToXXXEr(TypeInfo streamType, String rxType, String rxName, PrintWriter writer) {
-    writer.format("  public synchronized WriteStream%s<%s> to%s() {%n", rxType, genTranslatedTypeName(streamType), rxType);
-    writer.format("    if (%s == null) {%n", rxName);
+    String rxTypeName = String.format("WriteStream%s<%s>", rxType, genTranslatedTypeName(streamType));
+    writer.format("  public %s to%s() {%n", rxTypeName, rxType);
+    writer.format("    %s ret = %s;%n", rxTypeName, rxName);
+    writer.println("    if (ret == null) {");
     if (streamType.getKind() == ClassKind.API) {
       writer.format("      Function<%s, %s> conv = %s::getDelegate;%n", genTranslatedTypeName(streamType.getRaw()), streamType.getName(), genTranslatedTypeName(streamType));
-      writer.format("      %s = RxHelper.to%s(getDelegate(), conv);%n", rxName, rxType);
+      writer.format("      ret = RxHelper.to%s(getDelegate(), conv);%n", rxType);
     } else if (streamType.isVariable()) {
       String typeVar = streamType.getSimpleName();
       writer.format("      Function<%s, %s> conv = (Function<%s, %s>) __typeArg_0.unwrap;%n", typeVar, typeVar, typeVar, typeVar);
-      writer.format("      %s = RxHelper.to%s(getDelegate(), conv);%n", rxName, rxType);
+      writer.format("      ret = RxHelper.to%s(getDelegate(), conv);%n", rxType);
     } else {
-      writer.format("      %s = RxHelper.to%s(getDelegate());%n", rxName, rxType);
+      writer.format("      ret = RxHelper.to%s(getDelegate());%n", rxType);
     }
+    genPublish(rxName, writer);
     writer.println("    }");
-    writer.format("    return %s;%n", rxName);
+    writer.println("    return ret;");
     writer.println("  }");
     writer.println();
   }
@@ -205,7 +218,11 @@ class RxJava3Generator extends AbstractRxGenerator {
       if (method.getKind() == MethodKind.FUTURE) {
         writer.print("    return ");
         writer.print(adapterType);
-        writer.print("(() -> ");
+        writer.print("(\"");
+        writer.print(model.getType().getName());
+        writer.print("#");
+        writer.print(method.getName());
+        writer.print("\", () -> ");
         writer.print(genInvokeDelegate(model, method));
         if (!futMethod.getReturnType().getSimpleName().equals("Completable")) {
           writer.print(", __value -> ");
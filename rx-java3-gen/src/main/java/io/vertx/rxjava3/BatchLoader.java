@@ -0,0 +1,294 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.vertx.rxjava3;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.core.SingleObserver;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.internal.disposables.DisposableHelper;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Merges the keys loaded on a Vert.x context within a short period into a single call of a batch function.
+ * <p>
+ * The keys of the {@link #load} subscriptions are collected on the context of the subscribing thread, or for non Vert.x
+ * threads on a context of the loader {@code Vertx} obtained when the loader is created. A batch is dispatched when the context runs the tasks queued
+ * before the first key was added, i.e. on the next event loop iteration, or after a {@code maxDelay}, or as soon as it
+ * holds {@code maxBatchSize} distinct keys. A key loaded several times in a batch is passed once to the batch function.
+ * <p>
+ * The batch function returns the values of the keys, a key missing from the result fails its subscriptions with a
+ * {@link NoSuchElementException}, a failure of the batch function fails all the subscriptions of the batch. The results
+ * are signalled on the thread succeeding the batch single.
+ * <p>
+ * A disposed subscription is removed from its pending batch, a dispatched batch is disposed when all its subscriptions
+ * are disposed.
+ */
+public final class BatchLoader<K, V> {
+
+  /**
+   * Create a loader dispatching the batches on the next event loop iteration, with at most {@code maxBatchSize} keys.
+   *
+   * @param vertx the vertx instance
+   * @param batchFunction the function returning the values of a list of keys
+   * @param maxBatchSize the maximum number of distinct keys of a batch
+   * @return the loader
+   */
+  public static <K, V> BatchLoader<K, V> create(Vertx vertx, Function<? super List<K>, ? extends Single<? extends Map<K, ? extends V>>> batchFunction, int maxBatchSize) {
+    return create(vertx, batchFunction, maxBatchSize, 0L, TimeUnit.MILLISECONDS, BatchMetrics.NOOP);
+  }
+
+  /**
+   * Create a loader.
+   *
+   * @param vertx the vertx instance
+   * @param batchFunction the function returning the values of a list of keys
+   * @param maxBatchSize the maximum number of distinct keys of a batch
+   * @param maxDelay the delay between the first key of a batch and its dispatch, {@code 0} to dispatch on the next event loop iteration
+   * @param unit the {@code maxDelay} unit
+   * @param metrics the batch metrics
+   * @return the loader
+   */
+  public static <K, V> BatchLoader<K, V> create(Vertx vertx, Function<? super List<K>, ? extends Single<? extends Map<K, ? extends V>>> batchFunction,
+                                                int maxBatchSize, long maxDelay, TimeUnit unit, BatchMetrics metrics) {
+    return new BatchLoader<>(vertx, batchFunction, maxBatchSize, maxDelay, unit, metrics);
+  }
+
+  private final Vertx vertx;
+  private final Context loaderContext;
+  private final Function<? super List<K>, ? extends Single<? extends Map<K, ? extends V>>> batchFunction;
+  private final int maxBatchSize;
+  private final long maxDelayMillis;
+  private final BatchMetrics metrics;
+  private final Map<Context, Batch> pending = new ConcurrentHashMap<>();
+
+  private BatchLoader(Vertx vertx, Function<? super List<K>, ? extends Single<? extends Map<K, ? extends V>>> batchFunction,
+                      int maxBatchSize, long maxDelay, TimeUnit unit, BatchMetrics metrics) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("Invalid max batch size: " + maxBatchSize);
+    }
+    if (maxDelay < 0L) {
+      throw new IllegalArgumentException("Invalid max delay: " + maxDelay);
+    }
+    this.vertx = Objects.requireNonNull(vertx, "vertx");
+    this.loaderContext = vertx.getOrCreateContext();
+    this.batchFunction = Objects.requireNonNull(batchFunction, "batchFunction");
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelayMillis = maxDelay > 0L ? Math.max(1L, unit.toMillis(maxDelay)) : 0L;
+    this.metrics = Objects.requireNonNull(metrics, "metrics");
+  }
+
+  /**
+   * @return a single loading the {@code key} in a batch when subscribed
+   */
+  public Single<V> load(K key) {
+    Objects.requireNonNull(key, "key");
+    return RxJavaPlugins.onAssembly(new Single<V>() {
+      @Override
+      protected void subscribeActual(@NonNull SingleObserver<? super V> observer) {
+        Waiter waiter = new Waiter(key, observer);
+        observer.onSubscribe(waiter);
+        Context context = Vertx.currentContext();
+        if (context != null && Context.isOnEventLoopThread() && context.owner() == vertx) {
+          add(context, waiter);
+        } else {
+          Context ctx = context != null && context.owner() == vertx ? context : loaderContext;
+          ctx.runOnContext(v -> add(ctx, waiter));
+        }
+      }
+    });
+  }
+
+  // Called on the context thread
+  private void add(Context context, Waiter waiter) {
+    if (waiter.get()) {
+      return;
+    }
+    Batch batch = pending.get(context);
+    if (batch == null) {
+      Batch created = new Batch(context);
+      pending.put(context, created);
+      if (maxDelayMillis > 0L) {
+        created.timerId = vertx.setTimer(maxDelayMillis, id -> created.dispatch());
+      } else {
+        context.runOnContext(v -> created.dispatch());
+      }
+      batch = created;
+    }
+    batch.add(waiter);
+    if (batch.waiters.size() >= maxBatchSize) {
+      batch.dispatch();
+    }
+  }
+
+  /**
+   * The keys collected on a context, the value is the disposable of the batch call.
+   */
+  private final class Batch extends AtomicReference<Disposable> implements SingleObserver<Map<K, ? extends V>> {
+
+    private final Context context;
+    private final Map<K, List<Waiter>> waiters = new LinkedHashMap<>();
+    private final AtomicInteger live = new AtomicInteger();
+    private volatile boolean dispatched;
+    private long timerId = -1L;
+    private long startNanos;
+
+    private Batch(Context context) {
+      this.context = context;
+    }
+
+    private void add(Waiter waiter) {
+      waiter.batch = this;
+      waiters.computeIfAbsent(waiter.key, k -> new ArrayList<>(1)).add(waiter);
+      live.incrementAndGet();
+    }
+
+    private void dispatch() {
+      if (dispatched) {
+        return;
+      }
+      dispatched = true;
+      pending.remove(context, this);
+      if (timerId >= 0L) {
+        // Dispatched before the max delay
+        vertx.cancelTimer(timerId);
+      }
+      // Drop the keys whose subscriptions have all been disposed
+      List<K> keys = new ArrayList<>(waiters.size());
+      int requests = 0;
+      for (Map.Entry<K, List<Waiter>> entry : waiters.entrySet()) {
+        int count = 0;
+        for (Waiter waiter : entry.getValue()) {
+          if (!waiter.get()) {
+            count++;
+          }
+        }
+        if (count > 0) {
+          keys.add(entry.getKey());
+          requests += count;
+        }
+      }
+      if (keys.isEmpty()) {
+        return;
+      }
+      metrics.dispatched(keys.size(), requests);
+      startNanos = System.nanoTime();
+      Single<? extends Map<K, ? extends V>> single;
+      try {
+        single = Objects.requireNonNull(batchFunction.apply(keys), "The batch function returned a null single");
+      } catch (Throwable t) {
+        Exceptions.throwIfFatal(t);
+        onSubscribe(Disposable.disposed());
+        onError(t);
+        return;
+      }
+      single.subscribe(this);
+    }
+
+    // Called when a subscription is disposed, a pending batch drops the disposed subscriptions when dispatched
+    private void release() {
+      if (live.decrementAndGet() == 0 && dispatched && DisposableHelper.dispose(this)) {
+        metrics.cancelled();
+      }
+    }
+
+    @Override
+    public void onSubscribe(@NonNull Disposable d) {
+      DisposableHelper.setOnce(this, d);
+    }
+
+    @Override
+    public void onSuccess(@NonNull Map<K, ? extends V> values) {
+      metrics.succeeded(System.nanoTime() - startNanos);
+      for (Map.Entry<K, List<Waiter>> entry : waiters.entrySet()) {
+        V value = values.get(entry.getKey());
+        for (Waiter waiter : entry.getValue()) {
+          if (value != null) {
+            waiter.signal(value, null);
+          } else {
+            waiter.signal(null, new NoSuchElementException("No value for key " + entry.getKey()));
+          }
+        }
+      }
+    }
+
+    @Override
+    public void onError(@NonNull Throwable error) {
+      metrics.failed(System.nanoTime() - startNanos);
+      for (List<Waiter> list : waiters.values()) {
+        for (Waiter waiter : list) {
+          waiter.signal(null, error);
+        }
+      }
+    }
+  }
+
+  /**
+   * A {@link #load} subscription, the value is the disposed state.
+   */
+  private final class Waiter extends AtomicBoolean implements Disposable {
+
+    private final K key;
+    private final SingleObserver<? super V> observer;
+    private volatile Batch batch;
+
+    private Waiter(K key, SingleObserver<? super V> observer) {
+      this.key = key;
+      this.observer = observer;
+    }
+
+    private void signal(V value, Throwable error) {
+      if (compareAndSet(false, true)) {
+        if (error != null) {
+          observer.onError(error);
+        } else {
+          observer.onSuccess(value);
+        }
+      }
+    }
+
+    @Override
+    public void dispose() {
+      if (compareAndSet(false, true)) {
+        Batch b = batch;
+        if (b != null) {
+          b.release();
+        }
+      }
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return get();
+    }
+  }
+}
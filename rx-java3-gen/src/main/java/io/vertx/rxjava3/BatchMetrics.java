@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.vertx.rxjava3;
+
+/**
+ * The metrics SPI of {@link BatchLoader}.
+ * <p>
+ * A batch is dispatched with the distinct keys requested on a context, it then succeeds, fails, or is cancelled
+ * when all its callers dispose their subscription.
+ * <p>
+ * Implementations must be thread safe, the same instance can be shared by several loaders. The {@link #NOOP} instance
+ * is used when no metrics are configured.
+ */
+public interface BatchMetrics {
+
+  /**
+   * The metrics instance that does nothing.
+   */
+  BatchMetrics NOOP = new BatchMetrics() {
+  };
+
+  /**
+   * A batch has been dispatched to the backend.
+   *
+   * @param keys the number of distinct keys of the batch
+   * @param requests the number of load requests served by the batch
+   */
+  default void dispatched(int keys, int requests) {
+  }
+
+  /**
+   * A dispatched batch has succeeded.
+   *
+   * @param latencyNanos the backend call duration, in nanoseconds
+   */
+  default void succeeded(long latencyNanos) {
+  }
+
+  /**
+   * A dispatched batch has failed.
+   *
+   * @param latencyNanos the backend call duration, in nanoseconds
+   */
+  default void failed(long latencyNanos) {
+  }
+
+  /**
+   * A dispatched batch has been cancelled because all its callers disposed their subscription.
+   */
+  default void cancelled() {
+  }
+}
@@ -5,13 +5,19 @@ import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.core.SingleObserver;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.CompletableObserver;
+import io.reactivex.rxjava3.core.CompletableTransformer;
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.rxjava3.impl.AsyncResultCompletable;
+import io.vertx.rxjava3.impl.TimerWheel;
+import io.vertx.rxjava3.impl.CompletableTimeout;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
@@ -105,4 +111,28 @@ public class CompletableHelper {
     maybe.subscribe(promise::complete, promise::fail);
     return promise.future();
   }
+
+  /**
+   * Returns a transformer signalling a {@link java.util.concurrent.TimeoutException} when the upstream does not terminate within
+   * the {@code timeout}, the upstream is then disposed.
+   * <p>
+   * Unlike {@code Completable#timeout}, the timeouts share a coarse-grained timer wheel instead of being scheduled as Vert.x
+   * timers, see {@link SingleHelper#timeout(Vertx, long, TimeUnit)}.
+   *
+   * @param vertx the vertx instance, providing a shared wheel when subscribed from a non Vert.x thread
+   * @param timeout the timeout
+   * @param unit the timeout unit
+   * @return the transformer
+   */
+  public static CompletableTransformer timeout(Vertx vertx, long timeout, TimeUnit unit) {
+    return new CompletableTimeout(() -> TimerWheel.get(vertx), timeout, unit);
+  }
+
+  /**
+   * Like {@link #timeout(Vertx, long, TimeUnit)} but the timeouts are signalled on the {@code context}.
+   */
+  public static CompletableTransformer timeout(Context context, long timeout, TimeUnit unit) {
+    TimerWheel wheel = TimerWheel.get(context);
+    return new CompletableTimeout(() -> wheel, timeout, unit);
+  }
 }
@@ -23,7 +23,11 @@ import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
 import io.vertx.core.impl.WorkerExecutorInternal;
 import io.vertx.core.json.JsonObject;
+import io.vertx.rxjava3.impl.FlightRecorderEvents;
 
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -38,19 +42,38 @@ public class ContextScheduler extends Scheduler {
   private final Vertx vertx;
   private final boolean blocking;
   private final boolean ordered;
+  private final boolean inline;
   private final Context context;
   private final WorkerExecutor workerExecutor;
+  private final SchedulerMetrics metrics;
 
   public ContextScheduler(Context context, boolean blocking) {
     this(context, blocking, true);
   }
 
   public ContextScheduler(Context context, boolean blocking, boolean ordered) {
+    this(context, blocking, ordered, false);
+  }
+
+  /**
+   * @param inline when {@code true} and {@code blocking} is {@code false}, actions are executed immediately when they
+   *               are scheduled from the context, see {@link RxHelper#scheduler(Context, boolean)}
+   */
+  public ContextScheduler(Context context, boolean blocking, boolean ordered, boolean inline) {
+    this(context, blocking, ordered, inline, null);
+  }
+
+  /**
+   * @param metrics the metrics recording the actions queue delay and execution time, can be {@code null}
+   */
+  public ContextScheduler(Context context, boolean blocking, boolean ordered, boolean inline, SchedulerMetrics metrics) {
     this.vertx = context.owner();
     this.context = context;
     this.blocking = blocking;
     this.ordered = ordered;
+    this.inline = inline && !blocking;
     this.workerExecutor = null;
+    this.metrics = metrics;
   }
 
   public ContextScheduler(Vertx vertx, boolean blocking) {
@@ -58,11 +81,28 @@ public class ContextScheduler extends Scheduler {
   }
 
   public ContextScheduler(Vertx vertx, boolean blocking, boolean ordered) {
+    this(vertx, blocking, ordered, false);
+  }
+
+  /**
+   * @param inline when {@code true} and {@code blocking} is {@code false}, actions are executed immediately when they
+   *               are scheduled from the context they are bound to, see {@link RxHelper#scheduler(Vertx, boolean)}
+   */
+  public ContextScheduler(Vertx vertx, boolean blocking, boolean ordered, boolean inline) {
+    this(vertx, blocking, ordered, inline, null);
+  }
+
+  /**
+   * @param metrics the metrics recording the actions queue delay and execution time, can be {@code null}
+   */
+  public ContextScheduler(Vertx vertx, boolean blocking, boolean ordered, boolean inline, SchedulerMetrics metrics) {
     this.vertx = vertx;
     this.context = null;
     this.blocking = blocking;
     this.ordered = ordered;
+    this.inline = inline && !blocking;
     this.workerExecutor = null;
+    this.metrics = metrics;
   }
 
   public ContextScheduler(WorkerExecutor workerExecutor) {
@@ -70,12 +110,21 @@ public class ContextScheduler extends Scheduler {
   }
 
   public ContextScheduler(WorkerExecutor workerExecutor, boolean ordered) {
+    this(workerExecutor, ordered, null);
+  }
+
+  /**
+   * @param metrics the metrics recording the actions queue delay and execution time, can be {@code null}
+   */
+  public ContextScheduler(WorkerExecutor workerExecutor, boolean ordered, SchedulerMetrics metrics) {
     Objects.requireNonNull(workerExecutor, "workerExecutor is null");
     this.vertx = ((WorkerExecutorInternal) workerExecutor).vertx();
     this.context = null;
     this.workerExecutor = workerExecutor;
     this.blocking = true;
     this.ordered = ordered;
+    this.inline = false;
+    this.metrics = metrics;
   }
 
   @Override
@@ -89,6 +138,10 @@ public class ContextScheduler extends Scheduler {
 
     private final ConcurrentHashMap<TimedAction, Object> actions = new ConcurrentHashMap<>();
     private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final FlightRecorderEvents.CorrelationId correlationId = new FlightRecorderEvents.CorrelationId();
+
+    // Inline execution state of each context, guarded by the map
+    private final Map<Context, Trampoline> trampolines = new HashMap<>();
 
     public int countActions() {
       return actions.size();
@@ -106,6 +159,7 @@ public class ContextScheduler extends Scheduler {
       }
       action = RxJavaPlugins.onSchedule(action);
       long delayMillis = unit.toMillis(delayTime);
+      FlightRecorderEvents.TASK_SCHEDULED.emit(correlationId, delayMillis);
       TimedAction timed = new TimedAction(action, 0);
       actions.put(timed, DUMB);
       timed.schedule(delayMillis);
@@ -119,6 +173,7 @@ public class ContextScheduler extends Scheduler {
       }
       action = RxJavaPlugins.onSchedule(action);
       long delayMillis = unit.toMillis(initialDelay);
+      FlightRecorderEvents.TASK_SCHEDULED.emit(correlationId, delayMillis);
       TimedAction timed = new TimedAction(action, unit.toMillis(period));
       actions.put(timed, DUMB);
       timed.schedule(delayMillis);
@@ -137,6 +192,57 @@ public class ContextScheduler extends Scheduler {
       return cancelled.get();
     }
 
+    /**
+     * Run the action on its context: inline when the current thread is the event loop running the action context and
+     * no previously dispatched action of this worker is still pending on this context (to preserve ordering), otherwise
+     * using {@link Context#runOnContext}.
+     * <p>
+     * Actions scheduled while an action of the same context runs, inline or dispatched, are queued in the trampoline
+     * of this context and executed after it returns to preserve ordering and bound the stack depth.
+     */
+    private void dispatch(TimedAction timed, Context ctx) {
+      Trampoline trampoline;
+      synchronized (trampolines) {
+        trampoline = trampolines.computeIfAbsent(ctx, c -> new Trampoline());
+        if (trampoline.dispatched > 0 || !Context.isOnEventLoopThread() || ctx != Vertx.currentContext()) {
+          trampoline.dispatched++;
+          ctx.runOnContext(v -> {
+            synchronized (trampolines) {
+              trampoline.dispatched--;
+            }
+            drain(ctx, trampoline, timed);
+          });
+          return;
+        }
+      }
+      drain(ctx, trampoline, timed);
+    }
+
+    // Only called on the thread running the context
+    private void drain(Context ctx, Trampoline trampoline, TimedAction timed) {
+      synchronized (trampolines) {
+        trampoline.actions.add(timed);
+        if (trampoline.draining) {
+          return;
+        }
+        trampoline.draining = true;
+      }
+      while (true) {
+        TimedAction next;
+        synchronized (trampolines) {
+          next = trampoline.actions.poll();
+          if (next == null) {
+            trampoline.draining = false;
+            if (trampoline.dispatched == 0) {
+              trampolines.remove(ctx, trampoline);
+            }
+            return;
+          }
+        }
+        next.run(null);
+      }
+    }
+
     class TimedAction implements Disposable {
 
       private final Context context;
@@ -144,24 +250,36 @@ public class ContextScheduler extends Scheduler {
       private final Runnable action;
       private final long periodMillis;
       private boolean disposed;
+      private long queuedAt;
+      private final Throwable assemblySite;
 
       TimedAction(Runnable action, long periodMillis) {
+        StallDetector detector = blocking ? null : StallDetector.current();
         this.context = ContextScheduler.this.context != null ? ContextScheduler.this.context : vertx.getOrCreateContext();
         this.disposed = false;
         this.action = action;
         this.periodMillis = periodMillis;
+        this.assemblySite = detector != null ? detector.assemblySite() : null;
       }
 
-      private synchronized void schedule(long delayMillis) {
-        if (delayMillis > 0) {
-          id = vertx.setTimer(delayMillis, this::execute);
-        } else {
+      private void schedule(long delayMillis) {
+        synchronized (this) {
+          if (delayMillis > 0) {
+            id = vertx.setTimer(delayMillis, this::execute);
+            return;
+          }
           id = -1;
-          execute(null);
         }
+        execute(null);
       }
 
       private void execute(Object o) {
+        if (metrics != null || FlightRecorderEvents.TASK_EXECUTED.isEnabled()) {
+          queuedAt = System.nanoTime();
+        }
+        if (metrics != null) {
+          metrics.queued();
+        }
         if (workerExecutor != null) {
           workerExecutor.executeBlocking(() -> {
             run(null);
@@ -174,6 +292,8 @@ public class ContextScheduler extends Scheduler {
               run(null);
               return null;
             }, ordered);
+          } else if (inline) {
+            dispatch(this, ctx);
           } else {
             ctx.runOnContext(this::run);
           }
@@ -183,10 +303,23 @@ public class ContextScheduler extends Scheduler {
       private void run(Object arg) {
         synchronized (TimedAction.this) {
           if (disposed) {
+            if (metrics != null) {
+              metrics.discarded();
+            }
             return;
           }
         }
-        action.run();
+        StallDetector detector = blocking ? null : StallDetector.current();
+        if (detector != null) {
+          StallDetector.Task task = detector.enter(assemblySite);
+          try {
+            runAction();
+          } finally {
+            detector.exit(task);
+          }
+        } else {
+          runAction();
+        }
         synchronized (TimedAction.this) {
           if (!disposed) {
             if (periodMillis > 0) {
@@ -199,6 +332,27 @@ public class ContextScheduler extends Scheduler {
         }
       }
 
+      private void runAction() {
+        Object event = FlightRecorderEvents.TASK_EXECUTED.begin();
+        if (metrics != null || event != null) {
+          long start = System.nanoTime();
+          long queueDelay = queuedAt != 0L ? start - queuedAt : 0L;
+          if (metrics != null) {
+            metrics.started(queueDelay);
+          }
+          try {
+            action.run();
+          } finally {
+            if (metrics != null) {
+              metrics.completed(System.nanoTime() - start);
+            }
+            FlightRecorderEvents.TASK_EXECUTED.commit(event, correlationId, queueDelay);
+          }
+        } else {
+          action.run();
+        }
+      }
+
       @Override
       public synchronized void dispose() {
         if (!disposed) {
@@ -216,4 +370,14 @@ public class ContextScheduler extends Scheduler {
       }
     }
   }
+
+  /**
+   * The inline execution state of a worker on a context.
+   */
+  private static class Trampoline {
+
+    private final ArrayDeque<ContextWorker.TimedAction> actions = new ArrayDeque<>();
+    private int dispatched;
+    private boolean draining;
+  }
 }
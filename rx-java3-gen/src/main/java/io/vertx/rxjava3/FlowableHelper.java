@@ -2,15 +2,31 @@ package io.vertx.rxjava3;
 
 import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.core.type.TypeReference;
+import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.FlowableTransformer;
+import io.reactivex.rxjava3.core.Scheduler;
 import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.core.streams.ReadStream;
+import io.vertx.rxjava3.impl.CompletableFileWriter;
+import io.vertx.rxjava3.impl.FlowableCodec;
+import io.vertx.rxjava3.impl.FlowableFile;
+import io.vertx.rxjava3.impl.FlowableMapBlocking;
 import io.vertx.rxjava3.impl.FlowableReadStream;
+import io.vertx.rxjava3.impl.FlowableRecordParser;
+import io.vertx.rxjava3.impl.MappedFile;
 import io.vertx.rxjava3.impl.ReadStreamSubscriber;
 import io.vertx.rxjava3.impl.FlowableUnmarshaller;
+import io.vertx.rxjava3.impl.TimerWheel;
+import io.vertx.rxjava3.impl.FlowableTimeout;
 
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
@@ -29,6 +45,13 @@ public class FlowableHelper {
     return ReadStreamSubscriber.asReadStream(observable, Function.identity());
   }
 
+  /**
+   * Like {@link #toReadStream(Flowable)} but reporting the adapter activity to {@code metrics}.
+   */
+  public static <T> ReadStream<T> toReadStream(Flowable<T> observable, StreamMetrics metrics) {
+    return ReadStreamSubscriber.asReadStream(observable, Function.identity(), metrics);
+  }
+
   /**
    * Like {@link #toFlowable(ReadStream)} but with a {@code mapping} function
    */
@@ -36,6 +59,13 @@ public class FlowableHelper {
     return RxJavaPlugins.onAssembly(new FlowableReadStream<>(stream, FlowableReadStream.DEFAULT_MAX_BUFFER_SIZE, mapping));
   }
 
+  /**
+   * Like {@link #toFlowable(ReadStream, Function)} but reporting the adapter activity to {@code metrics}.
+   */
+  public static <T, U> Flowable<U> toFlowable(ReadStream<T> stream, Function<T, U> mapping, StreamMetrics metrics) {
+    return RxJavaPlugins.onAssembly(new FlowableReadStream<>(stream, FlowableReadStream.DEFAULT_MAX_BUFFER_SIZE, mapping, metrics));
+  }
+
   /**
    * Adapts a Vert.x {@link ReadStream<T>} to an RxJava {@link Flowable<T>}. After
    * the stream is adapted to a flowable, the original stream handlers should not be used anymore
@@ -75,4 +105,286 @@ public class FlowableHelper {
   public static <T> FlowableTransformer<Buffer, T>unmarshaller(TypeReference<T> mappedTypeRef, ObjectCodec mapper) {
     return new FlowableUnmarshaller<>(java.util.function.Function.identity(), mappedTypeRef, mapper);
   }
+
+  /**
+   * Returns a transformer signalling a {@link java.util.concurrent.TimeoutException} when the upstream does not signal an item or
+   * terminate within the {@code timeout} after the subscription or the previous item, the upstream is then disposed.
+   * <p>
+   * Unlike {@code Flowable#timeout}, the timeouts share a coarse-grained timer wheel instead of being scheduled as Vert.x
+   * timers, see {@link SingleHelper#timeout(Vertx, long, TimeUnit)}.
+   *
+   * @param vertx the vertx instance, providing a shared wheel when subscribed from a non Vert.x thread
+   * @param timeout the timeout
+   * @param unit the timeout unit
+   * @return the transformer
+   */
+  public static <T> FlowableTransformer<T, T> timeout(Vertx vertx, long timeout, TimeUnit unit) {
+    return new FlowableTimeout<>(() -> TimerWheel.get(vertx), timeout, unit);
+  }
+
+  /**
+   * Like {@link #timeout(Vertx, long, TimeUnit)} but the timeouts are signalled on the {@code context}.
+   */
+  public static <T> FlowableTransformer<T, T> timeout(Context context, long timeout, TimeUnit unit) {
+    TimerWheel wheel = TimerWheel.get(context);
+    return new FlowableTimeout<>(() -> wheel, timeout, unit);
+  }
+
+  /**
+   * Create a {@link Flowable} reading the file at {@code path}.
+   * <p>
+   * When the flowable is subscribed directly by the {@link WriteStreamSubscriber} of an {@link io.vertx.core.http.HttpServerResponse}
+   * or a {@link io.vertx.core.net.NetSocket}, without any operator in between, the file is transferred with {@code sendFile}:
+   * the kernel copies the file to the connection and the JVM never reads it. Otherwise the file is opened and streamed like an
+   * {@link io.vertx.core.file.AsyncFile}, and closed when the flowable terminates or is cancelled.
+   *
+   * @param vertx the vertx instance
+   * @param path the file path
+   * @return the flowable
+   */
+  public static Flowable<Buffer> fromFile(Vertx vertx, String path) {
+    return fromFile(vertx, path, 0L, Long.MAX_VALUE);
+  }
+
+  /**
+   * Like {@link #fromFile(Vertx, String)} but reading {@code length} bytes from {@code offset}.
+   */
+  public static Flowable<Buffer> fromFile(Vertx vertx, String path, long offset, long length) {
+    return RxJavaPlugins.onAssembly(new FlowableFile<>(vertx, path, offset, length, Function.identity()));
+  }
+
+  /**
+   * Create a {@link Flowable} emitting the content of the file at {@code path} in {@code chunkSize} buffers, the last one
+   * being possibly smaller.
+   * <p>
+   * The file is memory-mapped in windows as the demand progresses, and the buffers are read-only views of the mapped
+   * windows: the content is neither copied to the heap nor read by a worker task per chunk. A window is unmapped once
+   * no buffer sharing it is reachable anymore.
+   * <p>
+   * Since accessing a mapped region can block on disk reads, the file is mapped and the buffers are emitted on the
+   * worker pool of {@code vertx}, use {@code observeOn} to consume them on an event loop.
+   *
+   * @param vertx the vertx instance
+   * @param path the file path
+   * @param chunkSize the size of the buffers
+   * @return the flowable
+   */
+  public static Flowable<Buffer> mappedFile(Vertx vertx, String path, int chunkSize) {
+    return MappedFile.flowable(path, chunkSize).subscribeOn(RxHelper.blockingScheduler(vertx));
+  }
+
+  /**
+   * Write the buffers of a {@code flowable} to the file at {@code path}, the returned {@link Completable} completes when all
+   * the buffers are written and the file is closed.
+   * <p>
+   * Unlike {@code AsyncFile#toSubscriber()} that performs a blocking write per buffer, the buffers received while a write is in
+   * progress are gathered and written with a single system call. The file operations are performed on the worker pool of
+   * {@code vertx}, where the completion is signalled.
+   *
+   * @param vertx the vertx instance
+   * @param flowable the buffers to write
+   * @param path the file path
+   * @param options the options to open the file
+   * @return the completable
+   */
+  public static Completable writeToFile(Vertx vertx, Flowable<Buffer> flowable, String path, OpenOptions options) {
+    return writeToFile(vertx, flowable, path, options, 0L, 0L, StreamMetrics.NOOP);
+  }
+
+  /**
+   * Like {@link #writeToFile(Vertx, Flowable, String, OpenOptions)} but committing the writes to the storage device once
+   * {@code syncBytes} bytes are written or {@code syncMillis} ms after a write, whichever comes first, and before completing.
+   * The written bytes and the syncs are reported to {@code metrics}.
+   *
+   * @param syncBytes the number of written bytes triggering a sync, {@code 0} to disable
+   * @param syncMillis the maximum delay between a write and its sync, {@code 0} to disable
+   * @param metrics the metrics
+   */
+  public static Completable writeToFile(Vertx vertx, Flowable<Buffer> flowable, String path, OpenOptions options,
+                                        long syncBytes, long syncMillis, StreamMetrics metrics) {
+    return RxJavaPlugins.onAssembly(new CompletableFileWriter(flowable, RxHelper.blockingScheduler(vertx), path, options,
+      syncBytes, syncMillis, metrics));
+  }
+
+  /**
+   * Returns a transformer splitting a flowable of buffers into records terminated by a {@code delimiter}, e.g. {@code "\n"}
+   * for lines. The delimiter is not included in the records and trailing data not terminated by the delimiter is emitted
+   * as the last record.
+   * <p>
+   * The records are slices of the upstream buffers: a buffer is copied only when a record spans it and the previous
+   * one. Upstream buffers are requested one at a time when the downstream demands a record that is not complete yet.
+   *
+   * @param delimiter the record delimiter
+   * @param maxRecordSize the maximum record size, a longer record fails the flowable with an {@link IllegalStateException}
+   * @return the transformer
+   */
+  public static FlowableTransformer<Buffer, Buffer> recordParser(String delimiter, int maxRecordSize) {
+    return recordParser(Buffer.buffer(delimiter), maxRecordSize);
+  }
+
+  /**
+   * Like {@link #recordParser(String, int)} with a {@link Buffer} delimiter.
+   */
+  public static FlowableTransformer<Buffer, Buffer> recordParser(Buffer delimiter, int maxRecordSize) {
+    return FlowableRecordParser.delimited(delimiter, maxRecordSize);
+  }
+
+  /**
+   * Returns a transformer splitting a flowable of buffers into records of {@code size} bytes, like
+   * {@link #recordParser(String, int)}. Trailing data shorter than {@code size} fails the flowable with an
+   * {@link IllegalStateException}.
+   *
+   * @param size the record size
+   * @return the transformer
+   */
+  public static FlowableTransformer<Buffer, Buffer> fixedSize(int size) {
+    return FlowableRecordParser.fixed(size);
+  }
+
+  /**
+   * Returns a transformer splitting a flowable of buffers into records prefixed by their length, like
+   * {@link #recordParser(String, int)}. The length is a big-endian unsigned integer of {@code fieldLength} bytes, it is
+   * not included in the records. A truncated record at the end fails the flowable with an {@link IllegalStateException}.
+   *
+   * @param fieldLength the size of the length field: {@code 1}, {@code 2}, {@code 4} or {@code 8}
+   * @param maxRecordSize the maximum record size, a longer record fails the flowable with an {@link IllegalStateException}
+   * @return the transformer
+   */
+  public static FlowableTransformer<Buffer, Buffer> lengthPrefixed(int fieldLength, int maxRecordSize) {
+    return FlowableRecordParser.lengthPrefixed(fieldLength, maxRecordSize);
+  }
+
+  /**
+   * Returns a transformer compressing a flowable of buffers in the gzip format, with the default compression level.
+   * <p>
+   * The compressed data is emitted in buffers of {@value io.vertx.rxjava3.impl.FlowableCodec#CHUNK_SIZE} bytes, except the
+   * last one, and the upstream is requested one buffer at a time according to the downstream demand. The compression runs
+   * on the thread delivering the upstream buffers, see {@link #gzip(int, Scheduler)} to offload it.
+   *
+   * @return the transformer
+   */
+  public static FlowableTransformer<Buffer, Buffer> gzip() {
+    return gzip(6, null);
+  }
+
+  /**
+   * Like {@link #gzip()} with a compression {@code level}, the compression runs on the {@code scheduler}, e.g. a
+   * {@link RxHelper#blockingScheduler(Vertx)} for large payloads.
+   *
+   * @param level the compression level, {@code 1} (fastest) to {@code 9} (best)
+   * @param scheduler the scheduler running the compression, {@code null} to run on the upstream thread
+   * @return the transformer
+   */
+  public static FlowableTransformer<Buffer, Buffer> gzip(int level, Scheduler scheduler) {
+    return FlowableCodec.gzip(level, scheduler);
+  }
+
+  /**
+   * Returns a transformer decompressing a flowable of gzip compressed buffers, like {@link #gzip()}.
+   *
+   * @return the transformer
+   */
+  public static FlowableTransformer<Buffer, Buffer> gunzip() {
+    return gunzip(null);
+  }
+
+  /**
+   * Like {@link #gunzip()}, the decompression runs on the {@code scheduler}.
+   *
+   * @param scheduler the scheduler running the decompression, {@code null} to run on the upstream thread
+   * @return the transformer
+   */
+  public static FlowableTransformer<Buffer, Buffer> gunzip(Scheduler scheduler) {
+    return FlowableCodec.gunzip(scheduler);
+  }
+
+  /**
+   * Returns a transformer compressing a flowable of buffers in the zlib (deflate) format, like {@link #gzip()}.
+   *
+   * @return the transformer
+   */
+  public static FlowableTransformer<Buffer, Buffer> deflate() {
+    return deflate(6, null);
+  }
+
+  /**
+   * Like {@link #deflate()} with a compression {@code level}, the compression runs on the {@code scheduler}.
+   *
+   * @param level the compression level, {@code 1} (fastest) to {@code 9} (best)
+   * @param scheduler the scheduler running the compression, {@code null} to run on the upstream thread
+   * @return the transformer
+   */
+  public static FlowableTransformer<Buffer, Buffer> deflate(int level, Scheduler scheduler) {
+    return FlowableCodec.deflate(level, scheduler);
+  }
+
+  /**
+   * Returns a transformer decompressing a flowable of zlib (deflate) compressed buffers, like {@link #gzip()}.
+   *
+   * @return the transformer
+   */
+  public static FlowableTransformer<Buffer, Buffer> inflate() {
+    return inflate(null);
+  }
+
+  /**
+   * Like {@link #inflate()}, the decompression runs on the {@code scheduler}.
+   *
+   * @param scheduler the scheduler running the decompression, {@code null} to run on the upstream thread
+   * @return the transformer
+   */
+  public static FlowableTransformer<Buffer, Buffer> inflate(Scheduler scheduler) {
+    return FlowableCodec.inflate(scheduler);
+  }
+
+  /**
+   * Returns a transformer compressing a flowable of buffers in the zstd format, like {@link #gzip()}. This requires the
+   * {@code com.github.luben:zstd-jni} library.
+   *
+   * @param scheduler the scheduler running the compression, {@code null} to run on the upstream thread
+   * @return the transformer
+   * @throws IllegalStateException when zstd is not available
+   */
+  public static FlowableTransformer<Buffer, Buffer> zstd(Scheduler scheduler) {
+    return FlowableCodec.zstd(scheduler);
+  }
+
+  /**
+   * Returns a transformer compressing a flowable of buffers in the Brotli format, like {@link #gzip()}. This requires the
+   * {@code com.aayushatharva.brotli4j:brotli4j} library.
+   *
+   * @param scheduler the scheduler running the compression, {@code null} to run on the upstream thread
+   * @return the transformer
+   * @throws IllegalStateException when Brotli is not available
+   */
+  public static FlowableTransformer<Buffer, Buffer> brotli(Scheduler scheduler) {
+    return FlowableCodec.brotli(scheduler);
+  }
+
+  /**
+   * Returns a transformer mapping the items with a blocking {@code mapper} on the worker pool of the subscribing context.
+   * <p>
+   * Unlike {@code flatMapSingle} over {@code rxExecuteBlocking}, the items are submitted in batches of up to
+   * {@value io.vertx.rxjava3.impl.FlowableMapBlocking#MAX_BATCH_SIZE} items, with at most {@code parallelism} batches
+   * running concurrently, and no Rx operator is allocated per item. At most {@code parallelism} times the batch size items
+   * are requested ahead from the upstream, this bounds the results buffered to restore the order.
+   * <p>
+   * The results are emitted on the context subscribing to the flowable, a failure of the {@code mapper} fails the flowable.
+   *
+   * @param vertx the vertx instance
+   * @param mapper the blocking function
+   * @param parallelism the maximum number of batches mapped concurrently
+   * @param ordered whether the results are emitted in the order of the items, otherwise as soon as they are mapped
+   * @return the transformer
+   */
+  public static <T, R> FlowableTransformer<T, R> mapBlocking(Vertx vertx, Function<? super T, ? extends R> mapper, int parallelism, boolean ordered) {
+    return new FlowableMapBlocking<>(vertx, null, mapper, parallelism, ordered);
+  }
+
+  /**
+   * Like {@link #mapBlocking(Vertx, Function, int, boolean)} but the {@code mapper} runs on the threads of the {@code executor}.
+   */
+  public static <T, R> FlowableTransformer<T, R> mapBlocking(WorkerExecutor executor, Function<? super T, ? extends R> mapper, int parallelism, boolean ordered) {
+    return new FlowableMapBlocking<>(null, Objects.requireNonNull(executor, "executor"), mapper, parallelism, ordered);
+  }
 }
@@ -9,13 +9,20 @@ import io.reactivex.rxjava3.core.MaybeObserver;
 import io.reactivex.rxjava3.core.MaybeTransformer;
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.rxjava3.impl.AsyncResultMaybe;
+import io.vertx.rxjava3.impl.Coalescer;
 import io.vertx.rxjava3.impl.MaybeUnmarshaller;
+import io.vertx.rxjava3.impl.TimerWheel;
+import io.vertx.rxjava3.impl.MaybeTimeout;
+import io.vertx.rxjava3.impl.TtlCache;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -136,4 +143,52 @@ public class MaybeHelper {
   public static <T> MaybeTransformer<Buffer, T> unmarshaller(TypeReference<T> mappedTypeRef, ObjectCodec mapper) {
     return new MaybeUnmarshaller<>(java.util.function.Function.identity(), mappedTypeRef, mapper);
   }
+
+  /**
+   * Returns a transformer signalling a {@link java.util.concurrent.TimeoutException} when the upstream does not terminate within
+   * the {@code timeout}, the upstream is then disposed.
+   * <p>
+   * Unlike {@code Maybe#timeout}, the timeouts share a coarse-grained timer wheel instead of being scheduled as Vert.x
+   * timers, see {@link SingleHelper#timeout(Vertx, long, TimeUnit)}.
+   *
+   * @param vertx the vertx instance, providing a shared wheel when subscribed from a non Vert.x thread
+   * @param timeout the timeout
+   * @param unit the timeout unit
+   * @return the transformer
+   */
+  public static <T> MaybeTransformer<T, T> timeout(Vertx vertx, long timeout, TimeUnit unit) {
+    return new MaybeTimeout<>(() -> TimerWheel.get(vertx), timeout, unit);
+  }
+
+  /**
+   * Like {@link #timeout(Vertx, long, TimeUnit)} but the timeouts are signalled on the {@code context}.
+   */
+  public static <T> MaybeTransformer<T, T> timeout(Context context, long timeout, TimeUnit unit) {
+    TimerWheel wheel = TimerWheel.get(context);
+    return new MaybeTimeout<>(() -> wheel, timeout, unit);
+  }
+
+  /**
+   * Returns a function coalescing the concurrent lookups of a key, see {@link SingleHelper#coalescing(Function)}.
+   *
+   * @param loader the function returning the maybe of a key
+   * @return the coalescing function
+   */
+  public static <K, V> Function<K, Maybe<V>> coalescing(Function<? super K, ? extends Maybe<? extends V>> loader) {
+    return new Coalescer<K, V>(loader, null)::get;
+  }
+
+  /**
+   * Like {@link #coalescing(Function)}, the results are also cached for the {@code ttl}, empty results included,
+   * see {@link SingleHelper#coalescing(Function, long, TimeUnit, int)}.
+   *
+   * @param loader the function returning the maybe of a key
+   * @param ttl the time-to-live of a result
+   * @param unit the {@code ttl} unit
+   * @param maxSize the maximum number of cached results
+   * @return the coalescing function
+   */
+  public static <K, V> Function<K, Maybe<V>> coalescing(Function<? super K, ? extends Maybe<? extends V>> loader, long ttl, TimeUnit unit, int maxSize) {
+    return new Coalescer<K, V>(loader, new TtlCache<>(ttl, unit, maxSize))::get;
+  }
 }
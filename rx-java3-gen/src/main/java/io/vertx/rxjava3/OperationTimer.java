@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3;
+
+/**
+ * Records the latency of the asynchronous operations of the Rxified API.
+ * <p>
+ * The generated {@code rxXXX} methods identify the operation with a constant string made of the Vert.x type name and
+ * the method name, e.g. {@code io.vertx.core.eventbus.EventBus#request}. The latency is measured from the subscription
+ * to the completion of the operation.
+ * <p>
+ * Implementations are called on the thread completing the operation and must be thread safe.
+ *
+ * @see io.vertx.rxjava3.VertxRxPlugins#setOperationTimer(OperationTimer)
+ */
+@FunctionalInterface
+public interface OperationTimer {
+
+  /**
+   * Record an operation completion.
+   *
+   * @param operation the operation identifier
+   * @param durationNanos the operation latency, in nanoseconds
+   * @param succeeded whether the operation succeeded
+   */
+  void record(String operation, long durationNanos, boolean succeeded);
+
+}
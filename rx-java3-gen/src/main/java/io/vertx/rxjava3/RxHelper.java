@@ -1,13 +1,20 @@
 package io.vertx.rxjava3;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCountUtil;
 import io.reactivex.rxjava3.core.Scheduler;
 import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferInternal;
 import io.vertx.core.streams.WriteStream;
 import io.vertx.rxjava3.impl.WriteStreamObserverImpl;
 import io.vertx.rxjava3.impl.WriteStreamSubscriberImpl;
 import org.reactivestreams.Subscriber;
 
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -35,6 +42,57 @@ public class RxHelper {
     return new ContextScheduler(context, false);
   }
 
+  /**
+   * Like {@link #scheduler(io.vertx.core.Vertx)}, with {@code inline} execution of the actions scheduled from the
+   * context they are bound to.
+   * <p>
+   * When {@code inline} is {@code true}, an action scheduled from the event loop running the context it is bound to
+   * runs immediately instead of being dispatched to the event loop with {@link io.vertx.core.Context#runOnContext},
+   * saving a task queue hop. Actions scheduled while an action of the same context is running are queued and executed
+   * after it returns, preserving the scheduling order and bounding the stack depth.
+   *
+   * @param vertx the vertx object
+   * @param inline whether to execute actions inline
+   * @return the scheduler
+   */
+  public static Scheduler scheduler(io.vertx.core.Vertx vertx, boolean inline) {
+    return new ContextScheduler(vertx, false, true, inline);
+  }
+
+  /**
+   * Like {@link #scheduler(io.vertx.core.Context)}, with {@code inline} execution of the actions scheduled from
+   * the {@code context}, see {@link #scheduler(io.vertx.core.Vertx, boolean)}.
+   *
+   * @param context the context object
+   * @param inline whether to execute actions inline
+   * @return the scheduler
+   */
+  public static Scheduler scheduler(io.vertx.core.Context context, boolean inline) {
+    return new ContextScheduler(context, false, true, inline);
+  }
+
+  /**
+   * Like {@link #scheduler(io.vertx.core.Vertx)}, reporting the actions queue delay and execution time to {@code metrics}.
+   *
+   * @param vertx the vertx object
+   * @param metrics the scheduler metrics
+   * @return the scheduler
+   */
+  public static Scheduler scheduler(io.vertx.core.Vertx vertx, SchedulerMetrics metrics) {
+    return new ContextScheduler(vertx, false, true, false, metrics);
+  }
+
+  /**
+   * Like {@link #scheduler(io.vertx.core.Context)}, reporting the actions queue delay and execution time to {@code metrics}.
+   *
+   * @param context the context object
+   * @param metrics the scheduler metrics
+   * @return the scheduler
+   */
+  public static Scheduler scheduler(io.vertx.core.Context context, SchedulerMetrics metrics) {
+    return new ContextScheduler(context, false, true, false, metrics);
+  }
+
   /**
    * Create a scheduler for a {@link io.vertx.core.Vertx} object, actions can be blocking, they are not executed
    * on Vertx event loop.
@@ -60,6 +118,17 @@ public class RxHelper {
     return new ContextScheduler(vertx, true, ordered);
   }
 
+  /**
+   * Like {@link #blockingScheduler(io.vertx.core.Vertx)}, reporting the actions queue delay and execution time to {@code metrics}.
+   *
+   * @param vertx the vertx object
+   * @param metrics the scheduler metrics
+   * @return the scheduler
+   */
+  public static Scheduler blockingScheduler(Vertx vertx, SchedulerMetrics metrics) {
+    return new ContextScheduler(vertx, true, true, false, metrics);
+  }
+
   /**
    * Create a scheduler for a {@link io.vertx.core.WorkerExecutor} object, actions are executed on the threads of this executor.
    *
@@ -70,6 +139,17 @@ public class RxHelper {
     return new ContextScheduler(executor, false);
   }
 
+  /**
+   * Like {@link #blockingScheduler(WorkerExecutor)}, reporting the actions queue delay and execution time to {@code metrics}.
+   *
+   * @param executor the worker executor object
+   * @param metrics the scheduler metrics
+   * @return the scheduler
+   */
+  public static Scheduler blockingScheduler(WorkerExecutor executor, SchedulerMetrics metrics) {
+    return new ContextScheduler(executor, false, metrics);
+  }
+
   /**
    * Adapts a Vert.x {@link WriteStream} to an RxJava {@link Subscriber}.
    * <p>
@@ -90,6 +170,39 @@ public class RxHelper {
     return new WriteStreamSubscriberImpl<>(stream, mapping);
   }
 
+  /**
+   * Like {@link #toSubscriber(WriteStream, Function)} but reporting the adapter activity to {@code metrics}.
+   */
+  public static <R, T> WriteStreamSubscriber<R> toSubscriber(WriteStream<T> stream, Function<R, T> mapping, StreamMetrics metrics) {
+    return new WriteStreamSubscriberImpl<>(stream, mapping, metrics);
+  }
+
+  /**
+   * Like {@link #toSubscriber(WriteStream, Function, StreamMetrics)} but the adapter takes the ownership of the items:
+   * the {@code release} function is called for each item once its write completes, or as soon as the item is received
+   * when the adapter is terminated.
+   */
+  public static <R, T> WriteStreamSubscriber<R> toSubscriber(WriteStream<T> stream, Function<R, T> mapping, StreamMetrics metrics, Consumer<? super R> release) {
+    Objects.requireNonNull(release, "release");
+    return new WriteStreamSubscriberImpl<>(stream, mapping, metrics, release);
+  }
+
+  /**
+   * Adapts a Vert.x {@link WriteStream} of buffers to a subscriber of reference counted Netty buffers, e.g. buffers
+   * allocated from a pooled {@link io.netty.buffer.ByteBufAllocator}.
+   * <p>
+   * Each buffer is written without copy and released once its write completes, so the memory returns to the pool
+   * instead of being garbage collected. Buffers received after the adapter is terminated are released immediately.
+   * The producer must not release or modify a buffer after emitting it, the buffers are recorded by the Netty
+   * {@link io.netty.util.ResourceLeakDetector} when they reach the adapter.
+   *
+   * @param stream the stream to adapt
+   * @return the adapted {@link Subscriber}
+   */
+  public static WriteStreamSubscriber<ByteBuf> toPooledSubscriber(WriteStream<Buffer> stream) {
+    return toSubscriber(stream, BufferInternal::buffer, StreamMetrics.NOOP, ReferenceCountUtil::release);
+  }
+
   /**
    * Adapts a Vert.x {@link WriteStream} to an RxJava {@link io.reactivex.rxjava3.core.Observer}.
    * <p>
@@ -109,4 +222,25 @@ public class RxHelper {
   public static <R, T> WriteStreamObserver<R> toObserver(WriteStream<T> stream, Function<R, T> mapping) {
     return new WriteStreamObserverImpl<>(stream, mapping);
   }
+
+  /**
+   * Like {@link #toObserver(WriteStream, Function)}, but the adapter does not overflow the write stream queue.
+   * <p>
+   * An {@link io.reactivex.rxjava3.core.Observable} cannot be back-pressured: when the write stream queue is full, the
+   * items are queued in memory up to {@code maxQueueSize}, then encoded with the {@code codec} and appended to a temporary
+   * file created in {@code spillDirectory}. The items are written in order when the write stream is drained, and the write
+   * stream is ended once they are all written. The file is written through memory-mapped segments, it is deleted when the
+   * adapter terminates.
+   *
+   * @param stream the stream to adapt
+   * @param mapping the function applied to each item
+   * @param maxQueueSize the maximum number of items queued in memory
+   * @param spillDirectory the directory of the spill file
+   * @param codec the codec of the spilled items
+   * @param metrics the metrics accounting the queued and spilled items, {@link StreamMetrics#NOOP} for none
+   * @return the adapted {@link io.reactivex.rxjava3.core.Observer}
+   */
+  public static <R, T> WriteStreamObserver<R> toObserver(WriteStream<T> stream, Function<R, T> mapping, int maxQueueSize, Path spillDirectory, SpillCodec<T> codec, StreamMetrics metrics) {
+    return new WriteStreamObserverImpl<>(stream, mapping, maxQueueSize, spillDirectory, codec, metrics);
+  }
 }
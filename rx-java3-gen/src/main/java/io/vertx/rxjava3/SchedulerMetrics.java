@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3;
+
+/**
+ * The metrics SPI of {@link io.vertx.rxjava3.ContextScheduler}.
+ * <p>
+ * An action is queued when it is due, i.e. after its delay has elapsed, and submitted to the event loop or the
+ * worker pool. It is then either started and completed, or discarded when it has been disposed before running.
+ * <p>
+ * Implementations must be thread safe, the same instance can be shared by several schedulers.
+ */
+public interface SchedulerMetrics {
+
+  /**
+   * An action has been submitted for execution.
+   */
+  default void queued() {
+  }
+
+  /**
+   * A queued action starts running.
+   *
+   * @param queueDelayNanos the time the action waited before running, in nanoseconds
+   */
+  default void started(long queueDelayNanos) {
+  }
+
+  /**
+   * A started action has returned or failed.
+   *
+   * @param runTimeNanos the action execution time, in nanoseconds
+   */
+  default void completed(long runTimeNanos) {
+  }
+
+  /**
+   * A queued action has been disposed before running.
+   */
+  default void discarded() {
+  }
+}
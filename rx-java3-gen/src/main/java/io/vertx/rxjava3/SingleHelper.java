@@ -3,19 +3,27 @@ package io.vertx.rxjava3;
 import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.core.type.TypeReference;
 import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.core.Maybe;
 import io.reactivex.rxjava3.core.MaybeObserver;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.core.SingleObserver;
 import io.reactivex.rxjava3.core.SingleTransformer;
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.rxjava3.impl.AsyncResultSingle;
+import io.vertx.rxjava3.impl.Coalescer;
 import io.vertx.rxjava3.impl.SingleUnmarshaller;
+import io.vertx.rxjava3.impl.TimerWheel;
+import io.vertx.rxjava3.impl.SingleTimeout;
+import io.vertx.rxjava3.impl.TtlCache;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -129,4 +137,62 @@ public class SingleHelper {
   public static <T> SingleTransformer<Buffer, T> unmarshaller(TypeReference<T> mappedTypeRef, ObjectCodec mapper) {
     return new SingleUnmarshaller<>(java.util.function.Function.identity(), mappedTypeRef, mapper);
   }
+
+  /**
+   * Returns a transformer signalling a {@link java.util.concurrent.TimeoutException} when the upstream does not succeed within
+   * the {@code timeout}, the upstream is then disposed.
+   * <p>
+   * Unlike {@code Single#timeout}, the timeouts are not scheduled as Vert.x timers: they share the coarse-grained
+   * timer wheel of the current event loop context, advanced every {@value io.vertx.rxjava3.impl.TimerWheel#TICK_MILLIS} ms,
+   * which is cheaper when many timeouts are in flight. A timeout is signalled on the event loop context between the
+   * {@code timeout} and the {@code timeout} plus one tick.
+   *
+   * @param vertx the vertx instance, providing a shared wheel when subscribed from a non Vert.x thread
+   * @param timeout the timeout
+   * @param unit the timeout unit
+   * @return the transformer
+   */
+  public static <T> SingleTransformer<T, T> timeout(Vertx vertx, long timeout, TimeUnit unit) {
+    return new SingleTimeout<>(() -> TimerWheel.get(vertx), timeout, unit);
+  }
+
+  /**
+   * Like {@link #timeout(Vertx, long, TimeUnit)} but the timeouts are signalled on the {@code context}.
+   */
+  public static <T> SingleTransformer<T, T> timeout(Context context, long timeout, TimeUnit unit) {
+    TimerWheel wheel = TimerWheel.get(context);
+    return new SingleTimeout<>(() -> wheel, timeout, unit);
+  }
+
+  /**
+   * Returns a function coalescing the concurrent lookups of a key: the subscriptions of a key arriving while the
+   * {@code loader} single of this key is in flight share its result instead of calling the {@code loader} again.
+   * <p>
+   * The in-flight single is disposed only when all its subscriptions are disposed. The result is signalled on the
+   * thread succeeding the {@code loader} single.
+   *
+   * @param loader the function returning the single of a key
+   * @return the coalescing function
+   */
+  public static <K, V> Function<K, Single<V>> coalescing(Function<? super K, ? extends Single<? extends V>> loader) {
+    Coalescer<K, V> coalescer = new Coalescer<>(key -> Maybe.fromSingle(loader.apply(key)), null);
+    return key -> coalescer.get(key).toSingle();
+  }
+
+  /**
+   * Like {@link #coalescing(Function)}, the results are also cached for the {@code ttl}.
+   * <p>
+   * The cache holds at most {@code maxSize} results, it is split in segments evicting their least recently used result,
+   * so lookups of different keys rarely contend. Failures are not cached.
+   *
+   * @param loader the function returning the single of a key
+   * @param ttl the time-to-live of a result
+   * @param unit the {@code ttl} unit
+   * @param maxSize the maximum number of cached results
+   * @return the coalescing function
+   */
+  public static <K, V> Function<K, Single<V>> coalescing(Function<? super K, ? extends Single<? extends V>> loader, long ttl, TimeUnit unit, int maxSize) {
+    Coalescer<K, V> coalescer = new Coalescer<>(key -> Maybe.fromSingle(loader.apply(key)), new TtlCache<>(ttl, unit, maxSize));
+    return key -> coalescer.get(key).toSingle();
+  }
 }
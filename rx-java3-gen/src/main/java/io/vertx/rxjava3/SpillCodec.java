@@ -0,0 +1,36 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.vertx.rxjava3;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Encodes and decodes the items spilled to disk by a write stream adapter.
+ */
+public interface SpillCodec<T> {
+
+  /**
+   * @param item the item to spill
+   * @return the encoded item
+   */
+  Buffer encode(T item);
+
+  /**
+   * @param buffer the encoded item
+   * @return the decoded item
+   */
+  T decode(Buffer buffer);
+}
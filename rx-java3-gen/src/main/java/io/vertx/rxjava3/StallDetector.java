@@ -0,0 +1,232 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Detects the non-blocking {@link ContextScheduler} actions running longer than a time budget.
+ * <p>
+ * Once installed, a watchdog thread checks the running actions at half the budget period: the stack of an action
+ * exceeding the budget is sampled and reported, along with its assembly site when enabled, i.e. the stack of the thread
+ * that scheduled the action, which shows the Rx operator chain. The report is delivered on the watchdog thread.
+ * <p>
+ * Capturing the assembly site costs a stack trace for each scheduled action, it is disabled by default.
+ */
+public final class StallDetector {
+
+  private static volatile StallDetector current;
+
+  /**
+   * Install the stall detector, without capturing the assembly site of the actions.
+   *
+   * @param budget the maximum execution time of an action
+   * @param unit the budget unit
+   * @param reporter the stall reporter
+   */
+  public static void install(long budget, TimeUnit unit, Consumer<Stall> reporter) {
+    install(budget, unit, false, reporter);
+  }
+
+  /**
+   * Install the stall detector.
+   *
+   * @param budget the maximum execution time of an action
+   * @param unit the budget unit
+   * @param captureAssemblySite whether to capture the assembly site of the actions
+   * @param reporter the stall reporter
+   */
+  public static synchronized void install(long budget, TimeUnit unit, boolean captureAssemblySite, Consumer<Stall> reporter) {
+    if (budget <= 0L) {
+      throw new IllegalArgumentException("Invalid budget: " + budget);
+    }
+    Objects.requireNonNull(unit, "unit");
+    Objects.requireNonNull(reporter, "reporter");
+    if (current != null) {
+      throw new IllegalStateException("Stall detector already installed");
+    }
+    StallDetector detector = new StallDetector(unit.toNanos(budget), captureAssemblySite, reporter);
+    // The watchdog loops while the detector is the current one
+    current = detector;
+    detector.watchdog.start();
+  }
+
+  /**
+   * Uninstall the stall detector and stop its watchdog thread.
+   */
+  public static synchronized void uninstall() {
+    StallDetector detector = current;
+    if (detector != null) {
+      current = null;
+      detector.watchdog.interrupt();
+    }
+  }
+
+  static StallDetector current() {
+    return current;
+  }
+
+  private final long budgetNanos;
+  private final boolean captureAssemblySite;
+  private final Consumer<Stall> reporter;
+  private final Map<Thread, Task> running = new ConcurrentHashMap<>();
+  private final Thread watchdog;
+
+  private StallDetector(long budgetNanos, boolean captureAssemblySite, Consumer<Stall> reporter) {
+    this.budgetNanos = budgetNanos;
+    this.captureAssemblySite = captureAssemblySite;
+    this.reporter = reporter;
+    this.watchdog = new Thread(this::watch, "vertx-rx-stall-detector");
+    this.watchdog.setDaemon(true);
+  }
+
+  /**
+   * @return the assembly site of an action being scheduled or {@code null}
+   */
+  Throwable assemblySite() {
+    return captureAssemblySite ? new Throwable("Assembly site") : null;
+  }
+
+  /**
+   * Signal that an action starts running on the current thread.
+   */
+  Task enter(Throwable assemblySite) {
+    Thread thread = Thread.currentThread();
+    Task task = new Task(thread, assemblySite);
+    task.previous = running.put(thread, task);
+    return task;
+  }
+
+  /**
+   * Signal that an action returned.
+   */
+  void exit(Task task) {
+    if (task.previous != null) {
+      running.put(task.thread, task.previous);
+    } else {
+      running.remove(task.thread, task);
+    }
+  }
+
+  private void watch() {
+    long periodMillis = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(budgetNanos / 2));
+    while (current == this) {
+      try {
+        Thread.sleep(periodMillis);
+      } catch (InterruptedException e) {
+        return;
+      }
+      long now = System.nanoTime();
+      for (Task task : running.values()) {
+        long duration = now - task.start;
+        if (duration > budgetNanos && !task.reported) {
+          task.reported = true;
+          StackTraceElement[] stackTrace = task.thread.getStackTrace();
+          // The action may have returned while sampling
+          if (running.get(task.thread) == task) {
+            try {
+              reporter.accept(new Stall(task.thread.getName(), duration, stackTrace, task.assemblySite));
+            } catch (Throwable ignore) {
+            }
+          }
+        }
+      }
+    }
+  }
+
+  static final class Task {
+
+    private final Thread thread;
+    private final Throwable assemblySite;
+    private final long start = System.nanoTime();
+    private Task previous;
+    private volatile boolean reported;
+
+    private Task(Thread thread, Throwable assemblySite) {
+      this.thread = thread;
+      this.assemblySite = assemblySite;
+    }
+  }
+
+  /**
+   * An action running longer than the budget.
+   */
+  public static final class Stall {
+
+    private final String threadName;
+    private final long durationNanos;
+    private final StackTraceElement[] stackTrace;
+    private final Throwable assemblySite;
+
+    private Stall(String threadName, long durationNanos, StackTraceElement[] stackTrace, Throwable assemblySite) {
+      this.threadName = threadName;
+      this.durationNanos = durationNanos;
+      this.stackTrace = stackTrace;
+      this.assemblySite = assemblySite;
+    }
+
+    /**
+     * @return the name of the thread running the action
+     */
+    public String getThreadName() {
+      return threadName;
+    }
+
+    /**
+     * @return how long the action had been running when its stack was sampled, in nanoseconds
+     */
+    public long getDurationNanos() {
+      return durationNanos;
+    }
+
+    /**
+     * @return the sampled stack of the action
+     */
+    public StackTraceElement[] getStackTrace() {
+      return stackTrace;
+    }
+
+    /**
+     * @return the stack of the thread that scheduled the action, or {@code null} when not captured
+     */
+    public Throwable getAssemblySite() {
+      return assemblySite;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("Rx action running for ")
+        .append(TimeUnit.NANOSECONDS.toMillis(durationNanos))
+        .append(" ms on ")
+        .append(threadName);
+      for (StackTraceElement element : stackTrace) {
+        sb.append(System.lineSeparator()).append("\tat ").append(element);
+      }
+      if (assemblySite != null) {
+        sb.append(System.lineSeparator()).append("Scheduled at:");
+        for (StackTraceElement element : assemblySite.getStackTrace()) {
+          sb.append(System.lineSeparator()).append("\tat ").append(element);
+        }
+      }
+      return sb.toString();
+    }
+  }
+}
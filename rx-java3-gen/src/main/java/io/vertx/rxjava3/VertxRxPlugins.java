@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3;
+
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.functions.Function;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Configures RxJava to use Vert.x schedulers.
+ * <p>
+ * Once installed, the RxJava <i>computation</i>, <i>single</i> and <i>new thread</i> schedulers execute actions on the
+ * event loop and the <i>io</i> scheduler executes actions on the worker pool. A single scheduler instance is created for each
+ * kind, and the non-blocking scheduler executes inline the actions scheduled from the event loop they are bound to,
+ * see {@link RxHelper#scheduler(Vertx, boolean)}.
+ * <p>
+ * The {@link RxJavaPlugins#onSchedule(Runnable)} hook is also installed to capture the Vert.x event loop context of the thread
+ * scheduling an action: when the action is later executed by a non Vert.x thread (e.g. a scheduler created with
+ * {@link io.reactivex.rxjava3.schedulers.Schedulers#from}), it is dispatched back to the captured context with
+ * {@link Context#runOnContext}. Blocking actions scheduled from the event loop must therefore use the <i>io</i>
+ * scheduler, which executes them on the worker pool.
+ * <p>
+ * CAUTION: RxJava uses the words <i>computation</i> for non-blocking tasks and <i>io</i> for blocking tasks
+ * which is the opposite of the Vert.x terminology.
+ */
+public class VertxRxPlugins {
+
+  private static Function<? super Runnable, ? extends Runnable> previousScheduleHandler;
+  private static boolean installed;
+  private static volatile OperationTimer operationTimer;
+
+  /**
+   * Install the Vert.x schedulers, actions are executed on the event loop context of the thread scheduling them,
+   * or an event loop context of the {@code vertx} instance when scheduled from a non Vert.x thread.
+   *
+   * @param vertx the vertx instance
+   */
+  public static void install(Vertx vertx) {
+    install(new ContextScheduler(vertx, false, true, true), new ContextScheduler(vertx, true));
+  }
+
+  /**
+   * Install the Vert.x schedulers, actions are executed on the {@code context}.
+   *
+   * @param context the context
+   */
+  public static void install(Context context) {
+    install(new ContextScheduler(context, false, true, true), new ContextScheduler(context, true));
+  }
+
+  private static synchronized void install(Scheduler scheduler, Scheduler blockingScheduler) {
+    if (installed) {
+      throw new IllegalStateException("Vert.x RxJava plugins already installed");
+    }
+    Function<? super Runnable, ? extends Runnable> previous = RxJavaPlugins.getScheduleHandler();
+    RxJavaPlugins.setComputationSchedulerHandler(s -> scheduler);
+    RxJavaPlugins.setSingleSchedulerHandler(s -> scheduler);
+    RxJavaPlugins.setNewThreadSchedulerHandler(s -> scheduler);
+    RxJavaPlugins.setIoSchedulerHandler(s -> blockingScheduler);
+    RxJavaPlugins.setScheduleHandler(action -> captureContext(previous != null ? previous.apply(action) : action));
+    previousScheduleHandler = previous;
+    installed = true;
+  }
+
+  /**
+   * Uninstall the Vert.x schedulers and restore the schedule handler that was set before {@link #install}.
+   */
+  public static synchronized void uninstall() {
+    if (installed) {
+      RxJavaPlugins.setComputationSchedulerHandler(null);
+      RxJavaPlugins.setSingleSchedulerHandler(null);
+      RxJavaPlugins.setNewThreadSchedulerHandler(null);
+      RxJavaPlugins.setIoSchedulerHandler(null);
+      RxJavaPlugins.setScheduleHandler(previousScheduleHandler);
+      previousScheduleHandler = null;
+      installed = false;
+    }
+  }
+
+  /**
+   * Set the timer recording the latency of the asynchronous operations performed by the {@code rxXXX} methods of the
+   * Rxified API, {@code null} to disable recording.
+   * <p>
+   * The timer is looked up when an operation is subscribed.
+   *
+   * @param timer the operation timer
+   */
+  public static void setOperationTimer(OperationTimer timer) {
+    operationTimer = timer;
+  }
+
+  /**
+   * @return the current operation timer or {@code null}
+   */
+  public static OperationTimer getOperationTimer() {
+    return operationTimer;
+  }
+
+  private static Runnable captureContext(Runnable action) {
+    Context context = Vertx.currentContext();
+    if (context == null || !context.isEventLoopContext()) {
+      return action;
+    }
+    return () -> {
+      if (Vertx.currentContext() == null) {
+        context.runOnContext(v -> action.run());
+      } else {
+        action.run();
+      }
+    };
+  }
+}
@@ -9,6 +9,8 @@ import io.reactivex.rxjava3.plugins.RxJavaPlugins;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.rxjava3.VertxRxPlugins;
+import io.vertx.rxjava3.OperationTimer;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
@@ -32,9 +34,23 @@ public class AsyncResultCompletable extends Completable {
     return RxJavaPlugins.onAssembly(new AsyncResultCompletable(h -> subscriptionConsumer.get().onComplete(h)));
   }
 
+  /**
+   * Like {@link #toCompletable(Supplier)}, the latency of the {@code operation} is recorded by the
+   * {@link io.vertx.rxjava3.VertxRxPlugins#setOperationTimer(OperationTimer) operation timer}.
+   */
+  public static Completable toCompletable(String operation, Supplier<Future<Void>> subscriptionConsumer) {
+    return RxJavaPlugins.onAssembly(new AsyncResultCompletable(operation, h -> subscriptionConsumer.get().onComplete(h)));
+  }
+
+  private final String operation;
   private final Consumer<Handler<AsyncResult<Void>>> subscriptionConsumer;
 
   private AsyncResultCompletable(Consumer<Handler<AsyncResult<Void>>> subscriptionConsumer) {
+    this(null, subscriptionConsumer);
+  }
+
+  private AsyncResultCompletable(String operation, Consumer<Handler<AsyncResult<Void>>> subscriptionConsumer) {
+    this.operation = operation;
     this.subscriptionConsumer = subscriptionConsumer;
   }
 
@@ -51,9 +67,14 @@ public class AsyncResultCompletable extends Completable {
         return disposed.get();
       }
     });
+    OperationTimer timer = operation != null ? VertxRxPlugins.getOperationTimer() : null;
+    long start = timer != null ? System.nanoTime() : 0L;
     if (!disposed.get()) {
       try {
         subscriptionConsumer.accept(ar -> {
+          if (timer != null) {
+            timer.record(operation, System.nanoTime() - start, ar.succeeded());
+          }
           if (!disposed.getAndSet(true)) {
             if (ar.succeeded()) {
               try {
@@ -73,6 +94,9 @@ public class AsyncResultCompletable extends Completable {
           }
         });
       } catch (Exception e) {
+        if (timer != null) {
+          timer.record(operation, System.nanoTime() - start, false);
+        }
         if (!disposed.getAndSet(true)) {
           try {
             observer.onError(e);
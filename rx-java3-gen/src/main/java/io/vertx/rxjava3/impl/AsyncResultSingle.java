@@ -9,6 +9,8 @@ import io.reactivex.rxjava3.plugins.RxJavaPlugins;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.rxjava3.VertxRxPlugins;
+import io.vertx.rxjava3.OperationTimer;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
@@ -38,10 +40,27 @@ public class AsyncResultSingle<T, U> extends Single<T> {
     return RxJavaPlugins.onAssembly(new AsyncResultSingle<>(h -> future.get().onComplete(h), mapping));
   }
 
+  /**
+   * Like {@link #toSingle(Supplier, Function)}, the latency of the {@code operation} is recorded by the
+   * {@link io.vertx.rxjava3.VertxRxPlugins#setOperationTimer(OperationTimer) operation timer}.
+   */
+  public static <T, U> Single<T> toSingle(String operation, Supplier<Future<U>> future, Function<U, T> mapping) {
+    if (future == null) {
+      return Single.error(new NullPointerException());
+    }
+    return RxJavaPlugins.onAssembly(new AsyncResultSingle<>(operation, h -> future.get().onComplete(h), mapping));
+  }
+
+  private final String operation;
   private final Consumer<Handler<AsyncResult<U>>> subscriptionConsumer;
   private final Function<U, T> mapping;
 
   private AsyncResultSingle(Consumer<Handler<AsyncResult<U>>> subscriptionConsumer, Function<U, T> mapping) {
+    this(null, subscriptionConsumer, mapping);
+  }
+
+  private AsyncResultSingle(String operation, Consumer<Handler<AsyncResult<U>>> subscriptionConsumer, Function<U, T> mapping) {
+    this.operation = operation;
     this.subscriptionConsumer = subscriptionConsumer;
     this.mapping = mapping;
   }
@@ -59,9 +78,14 @@ public class AsyncResultSingle<T, U> extends Single<T> {
         return disposed.get();
       }
     });
+    OperationTimer timer = operation != null ? VertxRxPlugins.getOperationTimer() : null;
+    long start = timer != null ? System.nanoTime() : 0L;
     if (!disposed.get()) {
       try {
         subscriptionConsumer.accept(ar -> {
+          if (timer != null) {
+            timer.record(operation, System.nanoTime() - start, ar.succeeded());
+          }
           if (!disposed.getAndSet(true)) {
             if (ar.succeeded()) {
               try {
@@ -81,6 +105,9 @@ public class AsyncResultSingle<T, U> extends Single<T> {
           }
         });
       } catch (Exception e) {
+        if (timer != null) {
+          timer.record(operation, System.nanoTime() - start, false);
+        }
         if (!disposed.getAndSet(true)) {
           try {
             observer.onError(e);
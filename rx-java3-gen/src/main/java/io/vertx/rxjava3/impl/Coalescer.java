@@ -0,0 +1,246 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.vertx.rxjava3.impl;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.MaybeObserver;
+import io.reactivex.rxjava3.core.MaybeSource;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.internal.disposables.DisposableHelper;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Coalesces the concurrent lookups of a key into a single call of the loader.
+ * <p>
+ * The first subscription of a key subscribes to the loader source, the subscriptions arriving while it is in flight
+ * wait for its result. The call is disposed when all its subscriptions are disposed. The result is signalled on the
+ * thread terminating the loader source.
+ * <p>
+ * With a cache, the results are kept for the cache time-to-live, empty results included. Failures are never cached.
+ */
+public final class Coalescer<K, V> {
+
+  private static final Object EMPTY = new Object();
+
+  private final Function<? super K, ? extends MaybeSource<? extends V>> loader;
+  private final TtlCache<K, Object> cache;
+  private final ConcurrentHashMap<K, Flight> flights = new ConcurrentHashMap<>();
+
+  /**
+   * @param loader the function returning the source of a key
+   * @param cache the cache of the results, can be {@code null}
+   */
+  public Coalescer(Function<? super K, ? extends MaybeSource<? extends V>> loader, TtlCache<K, Object> cache) {
+    this.loader = Objects.requireNonNull(loader, "loader");
+    this.cache = cache;
+  }
+
+  /**
+   * @return a {@code Maybe} looking up the {@code key} when subscribed
+   */
+  public Maybe<V> get(K key) {
+    Objects.requireNonNull(key, "key");
+    return RxJavaPlugins.onAssembly(new Maybe<V>() {
+      @Override
+      protected void subscribeActual(@NonNull MaybeObserver<? super V> observer) {
+        subscribe(key, observer);
+      }
+    });
+  }
+
+  private void subscribe(K key, MaybeObserver<? super V> observer) {
+    Waiter waiter = new Waiter(observer);
+    observer.onSubscribe(waiter);
+    for (;;) {
+      if (waiter.isDisposed()) {
+        return;
+      }
+      if (cache != null) {
+        Object cached = cache.get(key);
+        if (cached != null) {
+          waiter.signal(cached, null);
+          return;
+        }
+      }
+      Flight flight = flights.get(key);
+      boolean connect = false;
+      if (flight == null) {
+        Flight created = new Flight(key);
+        flight = flights.putIfAbsent(key, created);
+        if (flight == null) {
+          flight = created;
+          connect = true;
+        }
+      }
+      waiter.flight = flight;
+      if (flight.add(waiter)) {
+        if (waiter.isDisposed()) {
+          // Disposed before joining the flight
+          flight.remove(waiter);
+        }
+        if (connect) {
+          flight.connect();
+        }
+        return;
+      }
+      // The flight terminated meanwhile, its result is cached or a new flight must be started: do not spin on it
+      // until the flight removes itself
+      flights.remove(key, flight);
+    }
+  }
+
+  /**
+   * An in-flight call of the loader, the value is the call disposable.
+   */
+  private final class Flight extends AtomicReference<Disposable> implements MaybeObserver<V> {
+
+    private final K key;
+    private List<Waiter> waiters = new ArrayList<>(); // null when terminated
+
+    private Flight(K key) {
+      this.key = key;
+    }
+
+    private synchronized boolean add(Waiter waiter) {
+      if (waiters == null) {
+        return false;
+      }
+      waiters.add(waiter);
+      return true;
+    }
+
+    private void remove(Waiter waiter) {
+      synchronized (this) {
+        if (waiters == null || !waiters.remove(waiter) || !waiters.isEmpty()) {
+          return;
+        }
+        waiters = null;
+      }
+      // Last waiter gone, cancel the call
+      flights.remove(key, this);
+      DisposableHelper.dispose(this);
+    }
+
+    private void connect() {
+      if (DisposableHelper.isDisposed(get())) {
+        // Disposed by its first subscription
+        return;
+      }
+      MaybeSource<? extends V> source;
+      try {
+        source = Objects.requireNonNull(loader.apply(key), "The loader returned a null source");
+      } catch (Throwable t) {
+        Exceptions.throwIfFatal(t);
+        onSubscribe(Disposable.disposed());
+        onError(t);
+        return;
+      }
+      source.subscribe(this);
+    }
+
+    @Override
+    public void onSubscribe(@NonNull Disposable d) {
+      DisposableHelper.setOnce(this, d);
+    }
+
+    @Override
+    public void onSuccess(@NonNull V value) {
+      terminate(value, null);
+    }
+
+    @Override
+    public void onComplete() {
+      terminate(EMPTY, null);
+    }
+
+    @Override
+    public void onError(@NonNull Throwable error) {
+      terminate(null, error);
+    }
+
+    private void terminate(Object value, Throwable error) {
+      List<Waiter> list;
+      synchronized (this) {
+        list = waiters;
+        if (list == null) {
+          return;
+        }
+        // Cache before terminating, a subscription finding the flight terminated then finds the result cached
+        if (cache != null && error == null) {
+          cache.put(key, value);
+        }
+        waiters = null;
+      }
+      flights.remove(key, this);
+      for (Waiter waiter : list) {
+        waiter.signal(value, error);
+      }
+    }
+  }
+
+  /**
+   * A subscription waiting for a flight, the value is the disposed state.
+   * <p>
+   * The same waiter is reused when a subscription retries on a terminated flight.
+   */
+  private final class Waiter extends AtomicBoolean implements Disposable {
+
+    private final MaybeObserver<? super V> observer;
+    private volatile Flight flight; // the flight joined last
+
+    private Waiter(MaybeObserver<? super V> observer) {
+      this.observer = observer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void signal(Object value, Throwable error) {
+      if (compareAndSet(false, true)) {
+        if (error != null) {
+          observer.onError(error);
+        } else if (value == EMPTY) {
+          observer.onComplete();
+        } else {
+          observer.onSuccess((V) value);
+        }
+      }
+    }
+
+    @Override
+    public void dispose() {
+      if (compareAndSet(false, true)) {
+        Flight f = flight;
+        if (f != null) {
+          f.remove(this);
+        }
+      }
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return get();
+    }
+  }
+}
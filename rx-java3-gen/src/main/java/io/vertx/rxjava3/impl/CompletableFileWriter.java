@@ -0,0 +1,336 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3.impl;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.CompletableObserver;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.exceptions.MissingBackpressureException;
+import io.reactivex.rxjava3.internal.queue.SpscArrayQueue;
+import io.reactivex.rxjava3.internal.subscriptions.SubscriptionHelper;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferInternal;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.rxjava3.StreamMetrics;
+import org.reactivestreams.Subscription;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Writes a flowable of buffers to a file and completes when all the buffers are written.
+ * <p>
+ * The buffers received while a write is in progress are gathered and written with a single
+ * {@link FileChannel#write(ByteBuffer[], int, int)} call, so a fast producer costs one blocking task and one system call
+ * per batch instead of per buffer. The file is opened, written, synced and closed by the actions of a blocking
+ * {@link Scheduler} worker, which is also where the observer is notified.
+ * <p>
+ * When {@code syncBytes} or {@code syncMillis} is positive, the writes are committed with {@link FileChannel#force(boolean)}
+ * once that many bytes are written or that long after the first write that is not synced, and before completing.
+ */
+public class CompletableFileWriter extends Completable {
+
+  private static final int PREFETCH = 256;
+  private static final int MAX_BATCH = 1024;
+
+  private final Flowable<Buffer> upstream;
+  private final Scheduler scheduler;
+  private final String path;
+  private final OpenOptions options;
+  private final long syncBytes;
+  private final long syncMillis;
+  private final StreamMetrics metrics;
+
+  /**
+   * @param scheduler the blocking scheduler performing the file operations
+   * @param syncBytes the number of written bytes triggering a sync, {@code 0} to disable
+   * @param syncMillis the maximum delay between a write and its sync, {@code 0} to disable
+   */
+  public CompletableFileWriter(Flowable<Buffer> upstream, Scheduler scheduler, String path, OpenOptions options,
+                               long syncBytes, long syncMillis, StreamMetrics metrics) {
+    Objects.requireNonNull(upstream, "upstream");
+    Objects.requireNonNull(scheduler, "scheduler");
+    Objects.requireNonNull(path, "path");
+    Objects.requireNonNull(options, "options");
+    Objects.requireNonNull(metrics, "metrics");
+    if (syncBytes < 0L) {
+      throw new IllegalArgumentException("Invalid sync bytes: " + syncBytes);
+    }
+    if (syncMillis < 0L) {
+      throw new IllegalArgumentException("Invalid sync millis: " + syncMillis);
+    }
+    this.upstream = upstream;
+    this.scheduler = scheduler;
+    this.path = path;
+    this.options = options;
+    this.syncBytes = syncBytes;
+    this.syncMillis = syncMillis;
+    this.metrics = metrics;
+  }
+
+  @Override
+  protected void subscribeActual(CompletableObserver observer) {
+    upstream.subscribe(new Writer(observer, scheduler.createWorker()));
+  }
+
+  private FileChannel open() throws IOException {
+    Set<OpenOption> opts = new HashSet<>();
+    opts.add(StandardOpenOption.WRITE);
+    if (options.isCreateNew()) {
+      opts.add(StandardOpenOption.CREATE_NEW);
+    } else if (options.isCreate()) {
+      opts.add(StandardOpenOption.CREATE);
+    }
+    if (options.isTruncateExisting()) {
+      opts.add(StandardOpenOption.TRUNCATE_EXISTING);
+    }
+    if (options.isSync()) {
+      opts.add(StandardOpenOption.SYNC);
+    }
+    if (options.isDsync()) {
+      opts.add(StandardOpenOption.DSYNC);
+    }
+    if (options.isSparse()) {
+      opts.add(StandardOpenOption.SPARSE);
+    }
+    if (options.isDeleteOnClose()) {
+      opts.add(StandardOpenOption.DELETE_ON_CLOSE);
+    }
+    FileAttribute<?>[] attrs = options.getPerms() == null ? new FileAttribute<?>[0] :
+      new FileAttribute<?>[] { PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(options.getPerms())) };
+    FileChannel channel = FileChannel.open(Paths.get(path), opts, attrs);
+    if (options.isAppend()) {
+      channel.position(channel.size());
+    }
+    return channel;
+  }
+
+  private static ByteBuffer nioBuffer(Buffer buffer) {
+    if (buffer instanceof BufferInternal) {
+      return ((BufferInternal) buffer).getByteBuf().nioBuffer();
+    }
+    return ByteBuffer.wrap(buffer.getBytes());
+  }
+
+  private final class Writer extends DrainLoop implements FlowableSubscriber<Buffer>, Disposable {
+
+    private final CompletableObserver downstream;
+    private final Scheduler.Worker worker;
+    private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+    private final SpscArrayQueue<Buffer> queue = new SpscArrayQueue<>(PREFETCH);
+    private volatile boolean done;
+    private volatile boolean disposed;
+    private volatile boolean syncDue;
+    private Throwable error;
+
+    // Only accessed by the drain loop
+    private final ByteBuffer[] batch = new ByteBuffer[MAX_BATCH];
+    private FileChannel channel;
+    private long unsynced;
+    private Disposable syncTimer;
+    private boolean terminated;
+
+    Writer(CompletableObserver downstream, Scheduler.Worker worker) {
+      super(worker, PREFETCH);
+      this.downstream = downstream;
+      this.worker = worker;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+      if (SubscriptionHelper.setOnce(subscription, s)) {
+        downstream.onSubscribe(this);
+        metrics.requested(PREFETCH);
+        s.request(PREFETCH);
+      }
+    }
+
+    @Override
+    public void onNext(Buffer buffer) {
+      if (!queue.offer(buffer)) {
+        SubscriptionHelper.cancel(subscription);
+        onError(new MissingBackpressureException("Buffer emitted without a request"));
+        return;
+      }
+      metrics.buffered();
+      drain();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      if (done) {
+        RxJavaPlugins.onError(t);
+        return;
+      }
+      error = t;
+      done = true;
+      drain();
+    }
+
+    @Override
+    public void onComplete() {
+      done = true;
+      drain();
+    }
+
+    @Override
+    public void dispose() {
+      disposed = true;
+      SubscriptionHelper.cancel(subscription);
+      drain();
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return disposed;
+    }
+
+    @Override
+    boolean drainOnce() {
+      for (;;) {
+        if (terminated) {
+          return false;
+        }
+        try {
+          if (disposed) {
+            terminate();
+            return false;
+          }
+          if (channel == null) {
+            channel = open();
+          }
+          boolean d = done;
+          int n = write();
+          if (syncDue || (syncBytes > 0L && unsynced >= syncBytes)) {
+            sync();
+          }
+          if (d && queue.isEmpty()) {
+            Throwable err = error;
+            if (err == null) {
+              if (unsynced > 0L && (syncBytes > 0L || syncMillis > 0L)) {
+                sync();
+              }
+              FileChannel ch = channel;
+              channel = null;
+              ch.close();
+            }
+            terminate();
+            if (err != null) {
+              downstream.onError(err);
+            } else {
+              downstream.onComplete();
+            }
+            return false;
+          }
+          if (n > 0 && !queue.isEmpty()) {
+            continue;
+          }
+        } catch (Throwable t) {
+          Exceptions.throwIfFatal(t);
+          SubscriptionHelper.cancel(subscription);
+          terminate();
+          if (!disposed) {
+            downstream.onError(t);
+          }
+          return false;
+        }
+        return true;
+      }
+    }
+
+    private int write() throws IOException {
+      int n = 0;
+      long bytes = 0L;
+      Buffer buffer;
+      while (n < MAX_BATCH && (buffer = queue.poll()) != null) {
+        metrics.unbuffered();
+        ByteBuffer nio = nioBuffer(buffer);
+        bytes += nio.remaining();
+        batch[n++] = nio;
+      }
+      if (n == 0) {
+        return 0;
+      }
+      try {
+        long written = 0L;
+        while (written < bytes) {
+          written += channel.write(batch, 0, n);
+        }
+      } finally {
+        Arrays.fill(batch, 0, n, null);
+      }
+      unsynced += bytes;
+      metrics.written(bytes);
+      if (syncMillis > 0L && syncTimer == null) {
+        syncTimer = worker.schedule(() -> {
+          syncDue = true;
+          drain();
+        }, syncMillis, TimeUnit.MILLISECONDS);
+      }
+      int requested = replenish(subscription.get(), n);
+      if (requested > 0) {
+        metrics.requested(requested);
+      }
+      return n;
+    }
+
+    private void sync() throws IOException {
+      if (syncTimer != null) {
+        syncTimer.dispose();
+        syncTimer = null;
+      }
+      syncDue = false;
+      if (unsynced > 0L) {
+        channel.force(false);
+        unsynced = 0L;
+        metrics.synced();
+      }
+    }
+
+    private void terminate() {
+      terminated = true;
+      while (queue.poll() != null) {
+        metrics.unbuffered();
+      }
+      if (channel != null) {
+        try {
+          channel.close();
+        } catch (IOException ignore) {
+        }
+        channel = null;
+      }
+      worker.dispose();
+    }
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3.impl;
+
+import io.reactivex.rxjava3.core.Scheduler;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The serialized drain loop of the operators queueing their upstream items.
+ * <p>
+ * The value is the number of missed drain signals: the {@link #drain()} signal taking it from zero runs
+ * {@link #drainOnce()}, on the worker when there is one, and it runs again as long as signals were missed meanwhile.
+ * <p>
+ * The upstream is either requested {@code prefetch} items ahead, the demand being replenished by
+ * {@link #replenish(Subscription, int)} once three quarters of it are consumed, or one item at a time by
+ * {@link #requestOne(Subscription)} when the loop runs out of items.
+ */
+abstract class DrainLoop extends AtomicInteger {
+
+  private final Scheduler.Worker worker;
+  private final int limit;
+
+  // Only accessed by the drain loop
+  private int consumed;
+  private boolean awaiting;
+
+  /**
+   * @param worker the worker running the loop, {@code null} to run it on the thread signalling the drain
+   * @param prefetch the upstream demand replenished by {@link #replenish(Subscription, int)}
+   */
+  DrainLoop(Scheduler.Worker worker, int prefetch) {
+    this.worker = worker;
+    this.limit = prefetch - (prefetch >> 2);
+  }
+
+  /**
+   * Runs a pass of the loop, unless the loop is already running, in which case it runs another pass.
+   */
+  final void drain() {
+    if (getAndIncrement() == 0) {
+      if (worker != null) {
+        worker.schedule(this::loop);
+      } else {
+        loop();
+      }
+    }
+  }
+
+  private void loop() {
+    int missed = 1;
+    for (;;) {
+      if (!drainOnce()) {
+        return;
+      }
+      missed = addAndGet(-missed);
+      if (missed == 0) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * @return {@code false} when terminated, the loop does not run anymore
+   */
+  abstract boolean drainOnce();
+
+  /**
+   * Accounts {@code n} consumed items and requests them again once they reach the replenish limit.
+   *
+   * @return the number of requested items
+   */
+  final int replenish(Subscription upstream, int n) {
+    consumed += n;
+    if (consumed < limit) {
+      return 0;
+    }
+    int r = consumed;
+    consumed = 0;
+    upstream.request(r);
+    return r;
+  }
+
+  /**
+   * Requests the next item, unless it is already requested.
+   */
+  final void requestOne(Subscription upstream) {
+    if (!awaiting) {
+      awaiting = true;
+      upstream.request(1);
+    }
+  }
+
+  /**
+   * Accounts the item requested by {@link #requestOne(Subscription)}.
+   */
+  final void received() {
+    awaiting = false;
+  }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Java Flight Recorder events of the Rx bridge, in the {@code Vert.x / Rx} category.
+ * <p>
+ * Every event carries the {@code correlationId} of the scheduler worker or stream adapter that emitted it, so the
+ * timeline of a pipeline can be reconstructed in JDK Mission Control. A {@link CorrelationId} only takes its identifier
+ * when an enabled event is emitted, so the identifiers are not consumed when nothing is recorded.
+ * <p>
+ * The events are defined with the {@code jdk.jfr.EventFactory} API, looked up reflectively since this code compiles
+ * against the Java 8 API. When Flight Recorder is not available, or an event is not enabled in the running recordings,
+ * {@link EventType#isEnabled()} returns {@code false} and the call sites skip the event altogether.
+ */
+public final class FlightRecorderEvents {
+
+  private static final String NANOSECONDS = "NANOSECONDS";
+  private static final String MILLISECONDS = "MILLISECONDS";
+
+  /**
+   * An action has been scheduled on a {@link io.vertx.rxjava3.ContextScheduler}: {@code correlationId}, {@code delay}.
+   */
+  public static final EventType TASK_SCHEDULED;
+
+  /**
+   * A {@link io.vertx.rxjava3.ContextScheduler} action has been executed, the event duration is the action execution
+   * time: {@code correlationId}, {@code queueDelay}.
+   */
+  public static final EventType TASK_EXECUTED;
+
+  /**
+   * A stream adapter stopped delivering items because the demand of its consumer reached zero: {@code correlationId}.
+   */
+  public static final EventType STREAM_PAUSED;
+
+  /**
+   * A paused stream adapter received demand from its consumer: {@code correlationId}.
+   */
+  public static final EventType STREAM_RESUMED;
+
+  /**
+   * A write stream adapter found the write stream queue full: {@code correlationId}.
+   */
+  public static final EventType WRITE_QUEUE_FULL;
+
+  /**
+   * A write stream adapter found the write stream queue drained: {@code correlationId}.
+   */
+  public static final EventType WRITE_QUEUE_DRAINED;
+
+  private static final AtomicLong correlationIds = new AtomicLong();
+
+  private static final MethodHandle BEGIN;
+  private static final MethodHandle SET;
+  private static final MethodHandle COMMIT;
+
+  static {
+    MethodHandle begin = null;
+    MethodHandle set = null;
+    MethodHandle commit = null;
+    Factory factory = null;
+    try {
+      Class<?> eventClass = Class.forName("jdk.jfr.Event");
+      MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+      begin = lookup.findVirtual(eventClass, "begin", MethodType.methodType(void.class)).asType(MethodType.methodType(void.class, Object.class));
+      set = lookup.findVirtual(eventClass, "set", MethodType.methodType(void.class, int.class, Object.class)).asType(MethodType.methodType(void.class, Object.class, int.class, Object.class));
+      commit = lookup.findVirtual(eventClass, "commit", MethodType.methodType(void.class)).asType(MethodType.methodType(void.class, Object.class));
+      factory = new Factory(lookup, eventClass);
+    } catch (Throwable ignore) {
+      // Flight Recorder is not available
+    }
+    BEGIN = begin;
+    SET = set;
+    COMMIT = commit;
+    TASK_SCHEDULED = create(factory, "TaskScheduled", "Rx Task Scheduled", "An action has been scheduled on a Vert.x scheduler",
+      "delay", "Delay", MILLISECONDS);
+    TASK_EXECUTED = create(factory, "TaskExecuted", "Rx Task Executed", "A Vert.x scheduler action has been executed",
+      "queueDelay", "Queue Delay", NANOSECONDS);
+    STREAM_PAUSED = create(factory, "StreamPaused", "Rx Stream Paused", "A stream adapter stopped delivering items because the demand reached zero");
+    STREAM_RESUMED = create(factory, "StreamResumed", "Rx Stream Resumed", "A paused stream adapter received demand");
+    WRITE_QUEUE_FULL = create(factory, "WriteQueueFull", "Rx Write Queue Full", "A write stream adapter found the write stream queue full");
+    WRITE_QUEUE_DRAINED = create(factory, "WriteQueueDrained", "Rx Write Queue Drained", "A write stream adapter found the write stream queue drained");
+  }
+
+  private static EventType create(Factory factory, String name, String label, String description, String... fields) {
+    if (factory != null) {
+      try {
+        return factory.create("io.vertx.rx." + name, label, description, fields);
+      } catch (Throwable ignore) {
+      }
+    }
+    return EventType.DISABLED;
+  }
+
+  private FlightRecorderEvents() {
+  }
+
+  /**
+   * The correlation identifier of an event emitter, assigned from a global sequence by the first enabled event.
+   */
+  public static final class CorrelationId {
+
+    private static final AtomicLongFieldUpdater<CorrelationId> VALUE = AtomicLongFieldUpdater.newUpdater(CorrelationId.class, "value");
+
+    private volatile long value;
+
+    long get() {
+      long v = value;
+      if (v == 0L) {
+        v = correlationIds.incrementAndGet();
+        if (!VALUE.compareAndSet(this, 0L, v)) {
+          v = value;
+        }
+      }
+      return v;
+    }
+  }
+
+  /**
+   * An event type.
+   */
+  public static final class EventType {
+
+    private static final EventType DISABLED = new EventType(MethodHandles.constant(boolean.class, false), null, false);
+
+    private final MethodHandle isEnabled;
+    private final MethodHandle newEvent;
+    private final boolean hasValue;
+
+    private EventType(MethodHandle isEnabled, MethodHandle newEvent, boolean hasValue) {
+      this.isEnabled = isEnabled;
+      this.newEvent = newEvent;
+      this.hasValue = hasValue;
+    }
+
+    /**
+     * @return whether a running recording records this event type
+     */
+    public boolean isEnabled() {
+      try {
+        return (boolean) isEnabled.invokeExact();
+      } catch (Throwable t) {
+        return false;
+      }
+    }
+
+    /**
+     * Begin a duration event.
+     *
+     * @return the event to commit or {@code null} when this event type is not enabled
+     */
+    public Object begin() {
+      if (!isEnabled()) {
+        return null;
+      }
+      try {
+        Object event = (Object) newEvent.invokeExact();
+        BEGIN.invokeExact(event);
+        return event;
+      } catch (Throwable t) {
+        return null;
+      }
+    }
+
+    /**
+     * Commit an event returned by {@link #begin()}, {@code null} events are ignored.
+     *
+     * @param event the event
+     * @param correlationId the correlation identifier
+     * @param value the value of the event field, ignored for events without field
+     */
+    public void commit(Object event, CorrelationId correlationId, long value) {
+      if (event != null) {
+        try {
+          SET.invokeExact(event, 0, (Object) correlationId.get());
+          if (hasValue) {
+            SET.invokeExact(event, 1, (Object) value);
+          }
+          COMMIT.invokeExact(event);
+        } catch (Throwable ignore) {
+        }
+      }
+    }
+
+    /**
+     * Emit an instant event when this event type is enabled.
+     *
+     * @param correlationId the correlation identifier
+     */
+    public void emit(CorrelationId correlationId) {
+      emit(correlationId, 0L);
+    }
+
+    /**
+     * Emit an instant event when this event type is enabled.
+     *
+     * @param correlationId the correlation identifier
+     * @param value the value of the event field, ignored for events without field
+     */
+    public void emit(CorrelationId correlationId, long value) {
+      if (isEnabled()) {
+        try {
+          commit((Object) newEvent.invokeExact(), correlationId, value);
+        } catch (Throwable ignore) {
+        }
+      }
+    }
+  }
+
+  /**
+   * Creates event types with {@code jdk.jfr.EventFactory}.
+   */
+  private static final class Factory {
+
+    private final MethodHandles.Lookup lookup;
+    private final Class<?> eventClass;
+    private final Class<?> eventFactoryClass;
+    private final Class<?> eventTypeClass;
+    private final Constructor<?> annotationElement;
+    private final Constructor<?> valueDescriptor;
+    private final Class<?> nameAnnotation;
+    private final Class<?> labelAnnotation;
+    private final Class<?> descriptionAnnotation;
+    private final Class<?> categoryAnnotation;
+    private final Class<?> stackTraceAnnotation;
+    private final Class<?> timespanAnnotation;
+
+    Factory(MethodHandles.Lookup lookup, Class<?> eventClass) throws Exception {
+      this.lookup = lookup;
+      this.eventClass = eventClass;
+      eventFactoryClass = Class.forName("jdk.jfr.EventFactory");
+      eventTypeClass = Class.forName("jdk.jfr.EventType");
+      Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement");
+      annotationElement = annotationElementClass.getConstructor(Class.class, Object.class);
+      valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class, String.class, List.class);
+      nameAnnotation = Class.forName("jdk.jfr.Name");
+      labelAnnotation = Class.forName("jdk.jfr.Label");
+      descriptionAnnotation = Class.forName("jdk.jfr.Description");
+      categoryAnnotation = Class.forName("jdk.jfr.Category");
+      stackTraceAnnotation = Class.forName("jdk.jfr.StackTrace");
+      timespanAnnotation = Class.forName("jdk.jfr.Timespan");
+    }
+
+    private Object annotation(Class<?> type, Object value) throws Exception {
+      return annotationElement.newInstance(type, value);
+    }
+
+    private Object field(String name, String label, String timespan) throws Exception {
+      List<Object> annotations = new ArrayList<>();
+      annotations.add(annotation(labelAnnotation, label));
+      if (timespan != null) {
+        annotations.add(annotation(timespanAnnotation, timespan));
+      }
+      return valueDescriptor.newInstance(long.class, name, annotations);
+    }
+
+    // fields are given as (name, label, timespan) triples, the correlation id field is always defined first
+    EventType create(String name, String label, String description, String... fields) throws Throwable {
+      List<Object> annotations = Arrays.asList(
+        annotation(nameAnnotation, name),
+        annotation(labelAnnotation, label),
+        annotation(descriptionAnnotation, description),
+        annotation(categoryAnnotation, new String[] { "Vert.x", "Rx" }),
+        annotation(stackTraceAnnotation, false));
+      List<Object> descriptors = new ArrayList<>();
+      descriptors.add(field("correlationId", "Correlation Id", null));
+      for (int i = 0; i < fields.length; i += 3) {
+        descriptors.add(field(fields[i], fields[i + 1], fields[i + 2]));
+      }
+      Object factory = eventFactoryClass.getMethod("create", List.class, List.class).invoke(null, annotations, Collections.unmodifiableList(descriptors));
+      Object eventType = eventFactoryClass.getMethod("getEventType").invoke(factory);
+      MethodHandle isEnabled = lookup.findVirtual(eventTypeClass, "isEnabled", MethodType.methodType(boolean.class)).bindTo(eventType);
+      MethodHandle newEvent = lookup.findVirtual(eventFactoryClass, "newEvent", MethodType.methodType(eventClass)).bindTo(factory)
+        .asType(MethodType.methodType(Object.class));
+      return new EventType(isEnabled, newEvent, fields.length > 0);
+    }
+  }
+}
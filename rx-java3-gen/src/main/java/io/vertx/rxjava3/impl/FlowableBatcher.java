@@ -0,0 +1,283 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3.impl;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
+import io.reactivex.rxjava3.core.FlowableTransformer;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.internal.subscriptions.SubscriptionHelper;
+import io.reactivex.rxjava3.internal.util.BackpressureHelper;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
+
+/**
+ * An operator grouping items in batches.
+ * <p>
+ * A batch is emitted when it reaches {@code maxSize} items, when the weight of its items reaches {@code maxWeight}
+ * or when {@code maxDelay} has elapsed since its first item was received.
+ * <p>
+ * Unlike the time based {@code Flowable#buffer} operators, batches are only emitted when requested: the operator
+ * requests at most one batch worth of items ahead from the upstream and stops requesting while a closed batch
+ * is waiting for the downstream demand.
+ */
+public class FlowableBatcher<T> implements FlowableTransformer<T, List<T>> {
+
+  private final int maxSize;
+  private final ToLongFunction<? super T> weigher;
+  private final long maxWeight;
+  private final long maxDelay;
+  private final TimeUnit unit;
+  private final Scheduler scheduler;
+
+  /**
+   * @param maxSize the maximum number of items of a batch
+   * @param weigher the function computing the weight of an item, can be {@code null}
+   * @param maxWeight the maximum weight of a batch, ignored when {@code weigher} is {@code null}
+   * @param maxDelay the maximum delay between the first item of a batch and its emission, {@code 0} to disable
+   * @param unit the unit of {@code maxDelay}
+   * @param scheduler the scheduler of the {@code maxDelay} timer, can be {@code null} when {@code maxDelay} is disabled
+   */
+  public FlowableBatcher(int maxSize, ToLongFunction<? super T> weigher, long maxWeight, long maxDelay, TimeUnit unit, Scheduler scheduler) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("Invalid max size: " + maxSize);
+    }
+    if (maxDelay > 0) {
+      Objects.requireNonNull(unit, "unit");
+      Objects.requireNonNull(scheduler, "scheduler");
+    }
+    this.maxSize = maxSize;
+    this.weigher = weigher;
+    this.maxWeight = maxWeight;
+    this.maxDelay = maxDelay;
+    this.unit = unit;
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public Publisher<List<T>> apply(@NonNull Flowable<T> upstream) {
+    return RxJavaPlugins.onAssembly(new Flowable<List<T>>() {
+      @Override
+      protected void subscribeActual(@NonNull Subscriber<? super List<T>> subscriber) {
+        upstream.subscribe(new BatchSubscriber(subscriber));
+      }
+    });
+  }
+
+  private class BatchSubscriber implements FlowableSubscriber<T>, Subscription {
+
+    private final Subscriber<? super List<T>> downstream;
+    private final AtomicInteger wip = new AtomicInteger();
+    private final Scheduler.Worker worker;
+    private Subscription upstream;
+
+    private final ArrayDeque<List<T>> ready = new ArrayDeque<>();
+    private List<T> current;
+    private long currentWeight;
+    private Disposable timer;
+    private long requested;
+    private long outstanding;
+    private boolean done;
+    private Throwable error;
+    private boolean terminated;
+
+    BatchSubscriber(Subscriber<? super List<T>> downstream) {
+      this.downstream = downstream;
+      this.worker = maxDelay > 0 ? scheduler.createWorker() : null;
+    }
+
+    @Override
+    public void onSubscribe(@NonNull Subscription s) {
+      if (SubscriptionHelper.validate(upstream, s)) {
+        upstream = s;
+        downstream.onSubscribe(this);
+        drain();
+      }
+    }
+
+    @Override
+    public void onNext(T item) {
+      synchronized (this) {
+        if (terminated) {
+          return;
+        }
+        outstanding--;
+        if (current == null) {
+          List<T> batch = current = new ArrayList<>();
+          if (worker != null) {
+            timer = worker.schedule(() -> flush(batch), maxDelay, unit);
+          }
+        }
+        current.add(item);
+        if (weigher != null) {
+          currentWeight += weigher.applyAsLong(item);
+        }
+        if (current.size() >= maxSize || (weigher != null && currentWeight >= maxWeight)) {
+          closeCurrent();
+        }
+      }
+      drain();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      synchronized (this) {
+        if (done) {
+          RxJavaPlugins.onError(t);
+          return;
+        }
+        done = true;
+        error = t;
+      }
+      drain();
+    }
+
+    @Override
+    public void onComplete() {
+      synchronized (this) {
+        if (done) {
+          return;
+        }
+        done = true;
+      }
+      drain();
+    }
+
+    @Override
+    public void request(long n) {
+      if (SubscriptionHelper.validate(n)) {
+        synchronized (this) {
+          requested = BackpressureHelper.addCap(requested, n);
+        }
+        drain();
+      }
+    }
+
+    @Override
+    public void cancel() {
+      synchronized (this) {
+        if (terminated) {
+          return;
+        }
+        terminated = true;
+      }
+      upstream.cancel();
+      if (worker != null) {
+        worker.dispose();
+      }
+      drain();
+    }
+
+    private void flush(List<T> batch) {
+      synchronized (this) {
+        if (current != batch) {
+          return;
+        }
+        closeCurrent();
+      }
+      drain();
+    }
+
+    // Called with the lock held
+    private void closeCurrent() {
+      ready.add(current);
+      current = null;
+      currentWeight = 0L;
+      if (timer != null) {
+        timer.dispose();
+        timer = null;
+      }
+    }
+
+    private void drain() {
+      if (wip.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      while (true) {
+        while (true) {
+          List<T> batch = null;
+          Throwable failure = null;
+          boolean complete = false;
+          long request = 0L;
+          synchronized (this) {
+            if (terminated) {
+              current = null;
+              ready.clear();
+              return;
+            }
+            if (error != null) {
+              failure = error;
+              terminated = true;
+            } else {
+              if (done && current != null) {
+                closeCurrent();
+              }
+              if (requested > 0L && ready.size() > 0) {
+                batch = ready.poll();
+                if (requested != Long.MAX_VALUE) {
+                  requested--;
+                }
+              } else if (done && ready.isEmpty()) {
+                complete = true;
+                terminated = true;
+              } else if (!done && outstanding == 0L && ready.isEmpty()) {
+                request = maxSize - (current != null ? current.size() : 0);
+                outstanding = request;
+              }
+            }
+          }
+          if (failure != null || complete) {
+            if (worker != null) {
+              worker.dispose();
+            }
+            if (failure != null) {
+              downstream.onError(failure);
+            } else {
+              downstream.onComplete();
+            }
+            return;
+          }
+          if (batch != null) {
+            downstream.onNext(batch);
+            continue;
+          }
+          if (request > 0L) {
+            upstream.request(request);
+          }
+          break;
+        }
+        missed = wip.addAndGet(-missed);
+        if (missed == 0) {
+          break;
+        }
+      }
+    }
+  }
+}
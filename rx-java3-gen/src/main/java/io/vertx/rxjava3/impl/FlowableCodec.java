@@ -0,0 +1,374 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.vertx.rxjava3.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.BrotliEncoder;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.handler.codec.compression.ZstdEncoder;
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
+import io.reactivex.rxjava3.core.FlowableTransformer;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.internal.queue.SpscLinkedArrayQueue;
+import io.reactivex.rxjava3.internal.subscriptions.SubscriptionHelper;
+import io.reactivex.rxjava3.internal.util.BackpressureHelper;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferInternal;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Compresses or decompresses a flowable of buffers with a Netty compression codec.
+ * <p>
+ * The codec runs in an {@link EmbeddedChannel} created for each subscription, the output is copied into buffers of
+ * {@link #CHUNK_SIZE} bytes, except the last one, and the codec buffers are released. The upstream is requested one
+ * buffer at a time when the downstream demands a chunk that is not ready yet.
+ * <p>
+ * The codec output is only read as long as the downstream demands chunks, and a decoder is fed with slices of
+ * {@link #DECODER_SLICE_SIZE} bytes of its input, so that a highly compressed buffer does not inflate on the heap
+ * regardless of the demand.
+ * <p>
+ * When a {@link Scheduler} is provided, the codec runs on a worker of this scheduler, whichever thread delivers the
+ * upstream buffers or the downstream requests, which keeps the compression of large payloads off the event loop.
+ */
+public class FlowableCodec implements FlowableTransformer<Buffer, Buffer> {
+
+  /**
+   * The size of the output buffers.
+   */
+  public static final int CHUNK_SIZE = 16 * 1024;
+
+  /**
+   * The size of the input slices fed to a decoder, the deflate format compresses at most about 1000 to 1.
+   */
+  public static final int DECODER_SLICE_SIZE = 1024;
+
+  /**
+   * @param level the compression level, {@code 1} (fastest) to {@code 9} (best)
+   */
+  public static FlowableCodec gzip(int level, Scheduler scheduler) {
+    return new FlowableCodec(() -> ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP, level), true, scheduler);
+  }
+
+  public static FlowableCodec gunzip(Scheduler scheduler) {
+    return new FlowableCodec(() -> ZlibCodecFactory.newZlibDecoder(ZlibWrapper.GZIP), false, scheduler);
+  }
+
+  /**
+   * @param level the compression level, {@code 1} (fastest) to {@code 9} (best)
+   */
+  public static FlowableCodec deflate(int level, Scheduler scheduler) {
+    return new FlowableCodec(() -> ZlibCodecFactory.newZlibEncoder(ZlibWrapper.ZLIB, level), true, scheduler);
+  }
+
+  public static FlowableCodec inflate(Scheduler scheduler) {
+    return new FlowableCodec(() -> ZlibCodecFactory.newZlibDecoder(ZlibWrapper.ZLIB), false, scheduler);
+  }
+
+  /**
+   * @throws IllegalStateException when the zstd native library is not on the classpath
+   */
+  public static FlowableCodec zstd(Scheduler scheduler) {
+    if (!Zstd.isAvailable()) {
+      throw new IllegalStateException("Zstd is not available", Zstd.cause());
+    }
+    return new FlowableCodec(ZstdEncoder::new, true, scheduler);
+  }
+
+  /**
+   * @throws IllegalStateException when the Brotli native library is not on the classpath
+   */
+  public static FlowableCodec brotli(Scheduler scheduler) {
+    if (!Brotli.isAvailable()) {
+      throw new IllegalStateException("Brotli is not available", Brotli.cause());
+    }
+    return new FlowableCodec(BrotliEncoder::new, true, scheduler);
+  }
+
+  private final Supplier<ChannelHandler> codec;
+  private final boolean encoder;
+  private final Scheduler scheduler;
+
+  private FlowableCodec(Supplier<ChannelHandler> codec, boolean encoder, Scheduler scheduler) {
+    this.codec = codec;
+    this.encoder = encoder;
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public Publisher<Buffer> apply(@NonNull Flowable<Buffer> upstream) {
+    return RxJavaPlugins.onAssembly(new Flowable<Buffer>() {
+      @Override
+      protected void subscribeActual(@NonNull Subscriber<? super Buffer> subscriber) {
+        Scheduler.Worker worker = scheduler != null ? scheduler.createWorker() : null;
+        upstream.subscribe(new CodecSubscriber(subscriber, new EmbeddedChannel(codec.get()), worker));
+      }
+    });
+  }
+
+  private static ByteBuf byteBuf(Buffer buffer) {
+    if (buffer instanceof BufferInternal) {
+      // The codec releases its input
+      return ((BufferInternal) buffer).getByteBuf().retainedDuplicate();
+    }
+    return Unpooled.wrappedBuffer(buffer.getBytes());
+  }
+
+  private final class CodecSubscriber extends DrainLoop implements FlowableSubscriber<Buffer>, Subscription {
+
+    private final Subscriber<? super Buffer> downstream;
+    private final EmbeddedChannel channel;
+    private final Scheduler.Worker worker;
+    private final AtomicLong requested = new AtomicLong();
+    private final SpscLinkedArrayQueue<Buffer> queue = new SpscLinkedArrayQueue<>(16);
+    private Subscription upstream;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    private Throwable error;
+
+    // Only accessed by the drain loop
+    private final ArrayDeque<Buffer> chunks = new ArrayDeque<>();
+    private ByteBuf input;
+    private ByteBuf output;
+    private ByteBuf chunk;
+    private boolean finished;
+    private boolean exhausted;
+    private boolean released;
+
+    CodecSubscriber(Subscriber<? super Buffer> downstream, EmbeddedChannel channel, Scheduler.Worker worker) {
+      super(worker, 1);
+      this.downstream = downstream;
+      this.channel = channel;
+      this.worker = worker;
+    }
+
+    @Override
+    public void onSubscribe(@NonNull Subscription s) {
+      if (SubscriptionHelper.validate(upstream, s)) {
+        upstream = s;
+        downstream.onSubscribe(this);
+      }
+    }
+
+    @Override
+    public void onNext(Buffer buffer) {
+      queue.offer(buffer);
+      drain();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      if (done) {
+        RxJavaPlugins.onError(t);
+        return;
+      }
+      error = t;
+      done = true;
+      drain();
+    }
+
+    @Override
+    public void onComplete() {
+      done = true;
+      drain();
+    }
+
+    @Override
+    public void request(long n) {
+      if (SubscriptionHelper.validate(n)) {
+        BackpressureHelper.add(requested, n);
+        drain();
+      }
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      upstream.cancel();
+      // The channel is released by the drain loop
+      drain();
+    }
+
+    private void clear() {
+      queue.clear();
+      chunks.clear();
+      chunk = null;
+      if (input != null) {
+        input.release();
+        input = null;
+      }
+      if (output != null) {
+        output.release();
+        output = null;
+      }
+      if (!released) {
+        released = true;
+        try {
+          channel.finishAndReleaseAll();
+        } catch (Throwable ignore) {
+        }
+      }
+      if (worker != null) {
+        worker.dispose();
+      }
+    }
+
+    @Override
+    boolean drainOnce() {
+      long r = requested.get();
+      long e = 0L;
+      for (;;) {
+        if (cancelled) {
+          clear();
+          return false;
+        }
+        boolean d = done;
+        if (d && error != null) {
+          clear();
+          downstream.onError(error);
+          return false;
+        }
+        if (finished && !exhausted && output == null && pending().isEmpty()) {
+          // The codec output is read, the last chunk can be emitted
+          if (chunk != null) {
+            chunks.add(BufferInternal.buffer(chunk));
+            chunk = null;
+          }
+          exhausted = true;
+        }
+        if (exhausted && chunks.isEmpty()) {
+          clear();
+          downstream.onComplete();
+          return false;
+        }
+        if (e == r) {
+          break;
+        }
+        Buffer out = chunks.poll();
+        if (out != null) {
+          downstream.onNext(out);
+          e++;
+          continue;
+        }
+        try {
+          if (collect(r - e)) {
+            continue;
+          }
+          // The codec output is read, feed it
+          if (input != null) {
+            feed();
+            continue;
+          }
+          if (finished) {
+            continue;
+          }
+          Buffer in = queue.poll();
+          if (in != null) {
+            received();
+            if (in.length() > 0) {
+              input = byteBuf(in);
+            }
+            continue;
+          }
+          if (d) {
+            channel.finish();
+            finished = true;
+            continue;
+          }
+        } catch (Throwable t) {
+          Exceptions.throwIfFatal(t);
+          cancelled = true;
+          upstream.cancel();
+          clear();
+          downstream.onError(t);
+          return false;
+        }
+        requestOne(upstream);
+        break;
+      }
+      if (e != 0L) {
+        BackpressureHelper.produced(requested, e);
+      }
+      return true;
+    }
+
+    private Queue<Object> pending() {
+      return encoder ? channel.outboundMessages() : channel.inboundMessages();
+    }
+
+    private void feed() {
+      // The encoders flush their output for each write, they are fed the whole buffer
+      int length = encoder ? input.readableBytes() : Math.min(input.readableBytes(), DECODER_SLICE_SIZE);
+      ByteBuf slice = input.readRetainedSlice(length);
+      if (!input.isReadable()) {
+        input.release();
+        input = null;
+      }
+      if (encoder) {
+        channel.writeOutbound(slice);
+      } else {
+        channel.writeInbound(slice);
+      }
+    }
+
+    /**
+     * Copy the codec output to the chunks until they cover the {@code demand}.
+     *
+     * @return whether a chunk was added
+     */
+    private boolean collect(long demand) {
+      int size = chunks.size();
+      while (chunks.size() < demand) {
+        if (output == null) {
+          output = encoder ? channel.readOutbound() : channel.readInbound();
+          if (output == null) {
+            break;
+          }
+        }
+        if (!output.isReadable()) {
+          output.release();
+          output = null;
+          continue;
+        }
+        if (chunk == null) {
+          chunk = Unpooled.buffer(CHUNK_SIZE);
+        }
+        chunk.writeBytes(output, Math.min(output.readableBytes(), chunk.writableBytes()));
+        if (!chunk.isWritable()) {
+          chunks.add(BufferInternal.buffer(chunk));
+          chunk = null;
+        }
+      }
+      return chunks.size() > size;
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3.impl;
+
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Single;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.OpenOptions;
+import org.reactivestreams.Subscriber;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A flowable reading a region of a file.
+ * <p>
+ * When subscribed directly by a {@link WriteStreamSubscriberImpl} of an HTTP server response or a net socket, the
+ * region is transferred with {@code sendFile}: the file is not opened and its content is not read by the JVM.
+ * Otherwise the file is opened and read as an {@link AsyncFile}, then closed when the flowable terminates or is
+ * cancelled.
+ */
+public class FlowableFile<U> extends Flowable<U> {
+
+  private static final OpenOptions READ_ONLY = new OpenOptions().setRead(true).setWrite(false).setCreate(false);
+
+  private final Vertx vertx;
+  private final String path;
+  private final long offset;
+  private final long length;
+  private final Function<Buffer, U> f;
+
+  /**
+   * @param length the number of bytes to read, {@link Long#MAX_VALUE} reads until the end of the file
+   */
+  public FlowableFile(Vertx vertx, String path, long offset, long length, Function<Buffer, U> f) {
+    Objects.requireNonNull(vertx, "vertx");
+    Objects.requireNonNull(path, "path");
+    Objects.requireNonNull(f, "f");
+    if (offset < 0L) {
+      throw new IllegalArgumentException("Invalid offset: " + offset);
+    }
+    if (length < 0L) {
+      throw new IllegalArgumentException("Invalid length: " + length);
+    }
+    this.vertx = vertx;
+    this.path = path;
+    this.offset = offset;
+    this.length = length;
+    this.f = f;
+  }
+
+  @Override
+  protected void subscribeActual(Subscriber<? super U> subscriber) {
+    if (subscriber instanceof WriteStreamSubscriberImpl && ((WriteStreamSubscriberImpl<?, ?>) subscriber).sendFile(path, offset, length)) {
+      return;
+    }
+    Single.<AsyncFile>create(emitter -> vertx.fileSystem().open(path, READ_ONLY).onComplete(ar -> {
+      if (ar.succeeded()) {
+        AsyncFile file = ar.result();
+        if (emitter.isDisposed()) {
+          file.close();
+        } else {
+          emitter.onSuccess(file);
+        }
+      } else {
+        emitter.onError(ar.cause());
+      }
+    })).flatMapPublisher(file -> {
+      file.setReadPos(offset).setReadLength(length);
+      return new FlowableReadStream<>(file, FlowableReadStream.DEFAULT_MAX_BUFFER_SIZE, f).doFinally(file::close);
+    }).subscribe(subscriber);
+  }
+}
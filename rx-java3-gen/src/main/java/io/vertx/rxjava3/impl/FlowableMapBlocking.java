@@ -0,0 +1,336 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3.impl;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
+import io.reactivex.rxjava3.core.FlowableTransformer;
+import io.reactivex.rxjava3.exceptions.MissingBackpressureException;
+import io.reactivex.rxjava3.internal.queue.MpscLinkedQueue;
+import io.reactivex.rxjava3.internal.queue.SpscArrayQueue;
+import io.reactivex.rxjava3.internal.subscriptions.SubscriptionHelper;
+import io.reactivex.rxjava3.internal.util.BackpressureHelper;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.impl.WorkerExecutorInternal;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * An operator mapping items with a blocking function on the worker pool.
+ * <p>
+ * At most {@code parallelism} tasks run concurrently, each task maps a batch of up to {@link #MAX_BATCH_SIZE} items:
+ * the pending items are spread over the idle workers, so a single item is submitted on its own while a burst is
+ * submitted in few tasks. At most {@code parallelism * MAX_BATCH_SIZE} items are requested ahead from the upstream,
+ * which bounds the number of results waiting for their predecessors when the order is preserved.
+ * <p>
+ * The results and the terminal signals are emitted on the context subscribing to the flowable.
+ */
+public class FlowableMapBlocking<T, R> implements FlowableTransformer<T, R> {
+
+  /**
+   * The maximum number of items mapped by a worker task.
+   */
+  public static final int MAX_BATCH_SIZE = 16;
+
+  private final Vertx vertx;
+  private final WorkerExecutor executor;
+  private final Function<? super T, ? extends R> mapper;
+  private final int parallelism;
+  private final boolean ordered;
+
+  /**
+   * @param vertx the vertx instance, ignored when {@code executor} is not {@code null}
+   * @param executor the worker executor running the tasks, {@code null} to use the worker pool of the subscribing context
+   * @param mapper the blocking function
+   * @param parallelism the maximum number of concurrent tasks
+   * @param ordered whether the results are emitted in the order of the items
+   */
+  public FlowableMapBlocking(Vertx vertx, WorkerExecutor executor, Function<? super T, ? extends R> mapper, int parallelism, boolean ordered) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+    }
+    Objects.requireNonNull(mapper, "mapper");
+    this.vertx = executor != null ? ((WorkerExecutorInternal) executor).vertx() : Objects.requireNonNull(vertx, "vertx");
+    this.executor = executor;
+    this.mapper = mapper;
+    this.parallelism = parallelism;
+    this.ordered = ordered;
+  }
+
+  @Override
+  public Publisher<R> apply(@NonNull Flowable<T> upstream) {
+    return RxJavaPlugins.onAssembly(new Flowable<R>() {
+      @Override
+      protected void subscribeActual(@NonNull Subscriber<? super R> subscriber) {
+        upstream.subscribe(new MapSubscriber(subscriber, vertx.getOrCreateContext()));
+      }
+    });
+  }
+
+  private final class Slot {
+
+    private T item;
+    private R result;
+    private Throwable error;
+    private volatile boolean done;
+
+    private Slot(T item) {
+      this.item = item;
+    }
+  }
+
+  /**
+   * The value is the number of missed drain signals, the drain loop runs on the subscribing context.
+   */
+  private final class MapSubscriber extends AtomicInteger implements FlowableSubscriber<T>, Subscription {
+
+    private final Subscriber<? super R> downstream;
+    private final Context context;
+    private final int prefetch = parallelism * MAX_BATCH_SIZE;
+    private final int limit = prefetch - (prefetch >> 2);
+    private final SpscArrayQueue<T> queue = new SpscArrayQueue<>(prefetch);
+    private final MpscLinkedQueue<Slot> completed = new MpscLinkedQueue<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private Subscription upstream;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    private Throwable error;
+
+    // Only accessed by the drain loop
+    private final ArrayDeque<Slot> pending = new ArrayDeque<>();
+    private final ArrayDeque<Slot> window = new ArrayDeque<>();
+    private int slots;
+    private int consumed;
+
+    MapSubscriber(Subscriber<? super R> downstream, Context context) {
+      this.downstream = downstream;
+      this.context = context;
+    }
+
+    @Override
+    public void onSubscribe(@NonNull Subscription s) {
+      if (SubscriptionHelper.validate(upstream, s)) {
+        upstream = s;
+        downstream.onSubscribe(this);
+        s.request(prefetch);
+      }
+    }
+
+    @Override
+    public void onNext(T item) {
+      if (!queue.offer(item)) {
+        upstream.cancel();
+        onError(new MissingBackpressureException("Queue is full?!"));
+        return;
+      }
+      schedule();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      if (done) {
+        RxJavaPlugins.onError(t);
+        return;
+      }
+      error = t;
+      done = true;
+      schedule();
+    }
+
+    @Override
+    public void onComplete() {
+      done = true;
+      schedule();
+    }
+
+    @Override
+    public void request(long n) {
+      if (SubscriptionHelper.validate(n)) {
+        BackpressureHelper.add(requested, n);
+        schedule();
+      }
+    }
+
+    @Override
+    public void cancel() {
+      if (!cancelled) {
+        cancelled = true;
+        upstream.cancel();
+        schedule();
+      }
+    }
+
+    private void schedule() {
+      if (getAndIncrement() == 0) {
+        // Worker threads also run with the context as current context
+        if (Context.isOnEventLoopThread() && Vertx.currentContext() == context) {
+          drain(null);
+        } else {
+          context.runOnContext(this::drain);
+        }
+      }
+    }
+
+    private void clear() {
+      queue.clear();
+      completed.clear();
+      pending.clear();
+      window.clear();
+    }
+
+    private void drain(Void v) {
+      int missed = 1;
+      for (;;) {
+        if (cancelled) {
+          clear();
+          return;
+        }
+        boolean d = done;
+        if (d && error != null) {
+          cancelled = true;
+          clear();
+          downstream.onError(error);
+          return;
+        }
+        T item;
+        while ((item = queue.poll()) != null) {
+          Slot slot = new Slot(item);
+          pending.add(slot);
+          if (ordered) {
+            window.add(slot);
+          }
+          slots++;
+        }
+        submit();
+        long r = requested.get();
+        long e = 0L;
+        while (e != r) {
+          if (cancelled) {
+            clear();
+            return;
+          }
+          Slot slot;
+          if (ordered) {
+            slot = window.peek();
+            if (slot == null || !slot.done) {
+              break;
+            }
+            window.poll();
+          } else {
+            slot = completed.poll();
+            if (slot == null) {
+              break;
+            }
+          }
+          slots--;
+          if (slot.error != null) {
+            cancelled = true;
+            upstream.cancel();
+            clear();
+            downstream.onError(slot.error);
+            return;
+          }
+          downstream.onNext(slot.result);
+          e++;
+          if (++consumed == limit) {
+            consumed = 0;
+            upstream.request(limit);
+          }
+        }
+        if (e != 0L) {
+          BackpressureHelper.produced(requested, e);
+        }
+        if (d && slots == 0 && queue.isEmpty() && !cancelled) {
+          cancelled = true;
+          downstream.onComplete();
+          return;
+        }
+        missed = addAndGet(-missed);
+        if (missed == 0) {
+          return;
+        }
+      }
+    }
+
+    private void submit() {
+      int idle;
+      while (!pending.isEmpty() && (idle = parallelism - active.get()) > 0) {
+        // Spread the pending items over the idle workers
+        int size = Math.min(MAX_BATCH_SIZE, Math.max(1, pending.size() / idle));
+        List<Slot> batch = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          batch.add(pending.poll());
+        }
+        active.incrementAndGet();
+        Callable<Void> task = () -> {
+          map(batch);
+          return null;
+        };
+        Future<Void> fut = executor != null ? executor.executeBlocking(task, false) : context.executeBlocking(task, false);
+        fut.onFailure(err -> {
+          // The task has been rejected, e.g. the executor is closed
+          for (Slot slot : batch) {
+            slot.error = err;
+            slot.done = true;
+          }
+          complete(batch);
+        });
+      }
+    }
+
+    private void map(List<Slot> batch) {
+      for (Slot slot : batch) {
+        if (!cancelled) {
+          try {
+            slot.result = Objects.requireNonNull(mapper.apply(slot.item), "The mapper function returned a null value");
+          } catch (Throwable t) {
+            slot.error = t;
+          }
+        }
+        slot.item = null;
+        slot.done = true;
+      }
+      complete(batch);
+    }
+
+    private void complete(List<Slot> batch) {
+      if (!ordered) {
+        for (Slot slot : batch) {
+          completed.offer(slot);
+        }
+      }
+      active.decrementAndGet();
+      schedule();
+    }
+  }
+}
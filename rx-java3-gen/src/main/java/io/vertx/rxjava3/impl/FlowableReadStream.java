@@ -1,11 +1,18 @@
 package io.vertx.rxjava3.impl;
 
+import io.reactivex.rxjava3.annotations.Nullable;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.internal.fuseable.QueueFuseable;
+import io.reactivex.rxjava3.internal.queue.SpscLinkedArrayQueue;
+import io.reactivex.rxjava3.internal.subscriptions.BasicIntQueueSubscription;
 import io.reactivex.rxjava3.internal.subscriptions.EmptySubscription;
+import io.reactivex.rxjava3.internal.util.BackpressureHelper;
 import io.vertx.core.streams.ReadStream;
+import io.vertx.rxjava3.StreamMetrics;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
@@ -19,14 +26,20 @@ public class FlowableReadStream<T, U> extends Flowable<U> {
   private final ReadStream<T> stream;
   private final Function<T, U> f;
   private final AtomicReference<Subscription> current;
+  private final StreamMetrics metrics;
 
   public FlowableReadStream(ReadStream<T> stream, long maxBufferSize, Function<T, U> f) {
+    this(stream, maxBufferSize, f, StreamMetrics.NOOP);
+  }
+
+  public FlowableReadStream(ReadStream<T> stream, long maxBufferSize, Function<T, U> f, StreamMetrics metrics) {
 
     stream.pause();
 
     this.stream = stream;
     this.f = f;
     this.current = new AtomicReference<>();
+    this.metrics = metrics;
   }
 
   private void release() {
@@ -51,19 +64,7 @@ public class FlowableReadStream<T, U> extends Flowable<U> {
   @Override
   protected void subscribeActual(Subscriber<? super U> subscriber) {
 
-    Subscription sub = new Subscription() {
-      @Override
-      public void request(long l) {
-        if (current.get() == this) {
-          stream.fetch(l);
-        }
-      }
-
-      @Override
-      public void cancel() {
-        release();
-      }
-    };
+    ReadStreamSubscription sub = new ReadStreamSubscription(subscriber);
     if (!current.compareAndSet(null, sub)) {
       EmptySubscription.error(new IllegalStateException("This processor allows only a single Subscriber"), subscriber);
       return;
@@ -71,6 +72,12 @@ public class FlowableReadStream<T, U> extends Flowable<U> {
 
     stream.pause();
 
+    if (subscriber instanceof WriteStreamSubscriberImpl) {
+      // No operator in between, the items are piped to the write stream with the Vert.x back-pressure
+      ((WriteStreamSubscriberImpl<U, ?>) subscriber).pipe(stream, sub::pipe, sub);
+      return;
+    }
+
     stream.endHandler(v -> {
       release();
       subscriber.onComplete();
@@ -79,10 +86,116 @@ public class FlowableReadStream<T, U> extends Flowable<U> {
       release();
       subscriber.onError(err);
     });
-    stream.handler(item -> {
-      subscriber.onNext(f.apply(item));
-    });
+    stream.handler(sub::handle);
 
     subscriber.onSubscribe(sub);
   }
+
+  /**
+   * The subscription supports the asynchronous fusion mode: the fused consumer polls the items from the queue of the
+   * subscription instead of queueing them itself, the items are still fetched from the stream when requested.
+   */
+  private class ReadStreamSubscription extends BasicIntQueueSubscription<U> implements WriteStreamSubscriberImpl.Pipe {
+
+    private final Subscriber<? super U> subscriber;
+    // The demand is only tracked for the flight recorder paused/resumed events when they are recorded at subscription
+    private final AtomicLong demand = FlightRecorderEvents.STREAM_PAUSED.isEnabled() ? new AtomicLong() : null;
+    private final FlightRecorderEvents.CorrelationId correlationId = new FlightRecorderEvents.CorrelationId();
+    private volatile SpscLinkedArrayQueue<U> queue;
+    // Piped to a write stream subscriber, only accessed from the stream handlers
+    private boolean pipePaused;
+
+    ReadStreamSubscription(Subscriber<? super U> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    void handle(T item) {
+      if (demand != null && BackpressureHelper.produced(demand, 1L) == 0L) {
+        FlightRecorderEvents.STREAM_PAUSED.emit(correlationId);
+      }
+      SpscLinkedArrayQueue<U> q = queue;
+      if (q != null) {
+        q.offer(f.apply(item));
+        // Signal the fused consumer that an item is available
+        subscriber.onNext(null);
+      } else {
+        metrics.emitted();
+        subscriber.onNext(f.apply(item));
+      }
+    }
+
+    /**
+     * Map an item piped to the write stream subscriber: the stream is resumed, so each item is an implicit request.
+     */
+    U pipe(T item) {
+      metrics.requested(1L);
+      metrics.emitted();
+      return f.apply(item);
+    }
+
+    @Override
+    public void pause() {
+      stream.pause();
+      if (!pipePaused) {
+        pipePaused = true;
+        FlightRecorderEvents.STREAM_PAUSED.emit(correlationId);
+      }
+    }
+
+    @Override
+    public void resume() {
+      if (current.get() == this) {
+        if (pipePaused) {
+          pipePaused = false;
+          FlightRecorderEvents.STREAM_RESUMED.emit(correlationId);
+        }
+        stream.resume();
+      }
+    }
+
+    @Override
+    public void request(long l) {
+      if (current.get() == this) {
+        metrics.requested(l);
+        if (demand != null && l > 0L && BackpressureHelper.add(demand, l) == 0L) {
+          FlightRecorderEvents.STREAM_RESUMED.emit(correlationId);
+        }
+        stream.fetch(l);
+      }
+    }
+
+    @Override
+    public void cancel() {
+      release();
+    }
+
+    @Override
+    public int requestFusion(int mode) {
+      // The mapping function is applied by the stream handler, so the consumer thread does not matter
+      if ((mode & QueueFuseable.ASYNC) != 0) {
+        queue = new SpscLinkedArrayQueue<>(bufferSize());
+        return QueueFuseable.ASYNC;
+      }
+      return QueueFuseable.NONE;
+    }
+
+    @Override
+    public @Nullable U poll() {
+      U item = queue.poll();
+      if (item != null) {
+        metrics.emitted();
+      }
+      return item;
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return queue.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+      queue.clear();
+    }
+  }
 }
@@ -0,0 +1,408 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.vertx.rxjava3.impl;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
+import io.reactivex.rxjava3.core.FlowableTransformer;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.internal.queue.SpscLinkedArrayQueue;
+import io.reactivex.rxjava3.internal.subscriptions.SubscriptionHelper;
+import io.reactivex.rxjava3.internal.util.BackpressureHelper;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.vertx.core.buffer.Buffer;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Splits a flowable of buffers into records: delimited, fixed size or prefixed by their length.
+ * <p>
+ * The records are slices of the incoming buffers. A record spanning several buffers is accumulated in a buffer growing
+ * in place, from which it is sliced once complete.
+ * The upstream is requested one buffer at a time, when the downstream demands a record that is not complete yet.
+ * A record exceeding the maximum record size fails the flowable with an {@link IllegalStateException}.
+ */
+public class FlowableRecordParser implements FlowableTransformer<Buffer, Buffer> {
+
+  /**
+   * Records terminated by a {@code delimiter}, which is not included in the records. Trailing data not terminated
+   * by the delimiter is emitted as the last record.
+   */
+  public static FlowableRecordParser delimited(Buffer delimiter, int maxRecordSize) {
+    Objects.requireNonNull(delimiter, "delimiter");
+    if (delimiter.length() == 0) {
+      throw new IllegalArgumentException("Empty delimiter");
+    }
+    byte[] bytes = delimiter.getBytes();
+    return new FlowableRecordParser(() -> new Delimited(bytes, maxRecordSize), maxRecordSize);
+  }
+
+  /**
+   * Records of {@code size} bytes.
+   */
+  public static FlowableRecordParser fixed(int size) {
+    return new FlowableRecordParser(() -> new Fixed(size), size);
+  }
+
+  /**
+   * Records prefixed by their length, encoded as a big-endian unsigned integer of {@code fieldLength} bytes, which is
+   * not included in the records.
+   *
+   * @param fieldLength the length field size, {@code 1}, {@code 2}, {@code 4} or {@code 8}
+   */
+  public static FlowableRecordParser lengthPrefixed(int fieldLength, int maxRecordSize) {
+    if (fieldLength != 1 && fieldLength != 2 && fieldLength != 4 && fieldLength != 8) {
+      throw new IllegalArgumentException("Invalid length field size: " + fieldLength);
+    }
+    return new FlowableRecordParser(() -> new LengthPrefixed(fieldLength, maxRecordSize), maxRecordSize);
+  }
+
+  private final Supplier<Framer> framer;
+
+  private FlowableRecordParser(Supplier<Framer> framer, int maxRecordSize) {
+    if (maxRecordSize <= 0) {
+      throw new IllegalArgumentException("Invalid record size: " + maxRecordSize);
+    }
+    this.framer = framer;
+  }
+
+  @Override
+  public Publisher<Buffer> apply(@NonNull Flowable<Buffer> upstream) {
+    return RxJavaPlugins.onAssembly(new Flowable<Buffer>() {
+      @Override
+      protected void subscribeActual(@NonNull Subscriber<? super Buffer> subscriber) {
+        upstream.subscribe(new ParserSubscriber(subscriber, framer.get()));
+      }
+    });
+  }
+
+  private static IllegalStateException tooLong() {
+    return new IllegalStateException("The current record is too long");
+  }
+
+  /**
+   * Locates the records, an instance is created for each subscription.
+   */
+  private static abstract class Framer {
+
+    final int header;
+    final int trailer;
+
+    Framer(int header, int trailer) {
+      this.header = header;
+      this.trailer = trailer;
+    }
+
+    /**
+     * @return the end of the frame starting at {@code start}, or {@code -1} when it is not complete
+     * @throws IllegalStateException when the record is too long
+     */
+    abstract int frameEnd(Buffer buffer, int start);
+
+    /**
+     * @return whether the trailing data of the stream is a record
+     */
+    boolean trailingRecord() {
+      return false;
+    }
+  }
+
+  private static final class Delimited extends Framer {
+
+    private final byte[] delimiter;
+    private final int maxRecordSize;
+    private int scanned;
+
+    Delimited(byte[] delimiter, int maxRecordSize) {
+      super(0, delimiter.length);
+      this.delimiter = delimiter;
+      this.maxRecordSize = maxRecordSize;
+    }
+
+    @Override
+    int frameEnd(Buffer buffer, int start) {
+      int len = buffer.length();
+      for (int i = start + scanned; i + delimiter.length <= len; i++) {
+        if (matches(buffer, i)) {
+          scanned = 0;
+          if (i - start > maxRecordSize) {
+            throw tooLong();
+          }
+          return i + delimiter.length;
+        }
+      }
+      // The trailing bytes can be the beginning of a delimiter
+      scanned = Math.max(0, len - start - delimiter.length + 1);
+      if (scanned > maxRecordSize) {
+        throw tooLong();
+      }
+      return -1;
+    }
+
+    private boolean matches(Buffer buffer, int index) {
+      for (int j = 0; j < delimiter.length; j++) {
+        if (buffer.getByte(index + j) != delimiter[j]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    boolean trailingRecord() {
+      return true;
+    }
+  }
+
+  private static final class Fixed extends Framer {
+
+    private final int size;
+
+    Fixed(int size) {
+      super(0, 0);
+      this.size = size;
+    }
+
+    @Override
+    int frameEnd(Buffer buffer, int start) {
+      return buffer.length() - start >= size ? start + size : -1;
+    }
+  }
+
+  private static final class LengthPrefixed extends Framer {
+
+    private final int maxRecordSize;
+
+    LengthPrefixed(int fieldLength, int maxRecordSize) {
+      super(fieldLength, 0);
+      this.maxRecordSize = maxRecordSize;
+    }
+
+    @Override
+    int frameEnd(Buffer buffer, int start) {
+      if (buffer.length() - start < header) {
+        return -1;
+      }
+      long length;
+      switch (header) {
+        case 1:
+          length = buffer.getUnsignedByte(start);
+          break;
+        case 2:
+          length = buffer.getUnsignedShort(start);
+          break;
+        case 4:
+          length = buffer.getUnsignedInt(start);
+          break;
+        default:
+          length = buffer.getLong(start);
+          break;
+      }
+      if (length < 0L || length > maxRecordSize) {
+        throw tooLong();
+      }
+      long end = start + header + length;
+      return end <= buffer.length() ? (int) end : -1;
+    }
+  }
+
+  private static final class ParserSubscriber extends DrainLoop implements FlowableSubscriber<Buffer>, Subscription {
+
+    private final Subscriber<? super Buffer> downstream;
+    private final Framer framer;
+    private final AtomicLong requested = new AtomicLong();
+    private final SpscLinkedArrayQueue<Buffer> queue = new SpscLinkedArrayQueue<>(16);
+    private Subscription upstream;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    private Throwable error;
+
+    // Only accessed by the drain loop
+    private Buffer pending;
+    private int position;
+    // Whether pending is the accumulation buffer of a record spanning the buffers
+    private boolean accumulating;
+
+    ParserSubscriber(Subscriber<? super Buffer> downstream, Framer framer) {
+      super(null, 1);
+      this.downstream = downstream;
+      this.framer = framer;
+    }
+
+    @Override
+    public void onSubscribe(@NonNull Subscription s) {
+      if (SubscriptionHelper.validate(upstream, s)) {
+        upstream = s;
+        downstream.onSubscribe(this);
+      }
+    }
+
+    @Override
+    public void onNext(Buffer buffer) {
+      queue.offer(buffer);
+      drain();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      if (done) {
+        RxJavaPlugins.onError(t);
+        return;
+      }
+      error = t;
+      done = true;
+      drain();
+    }
+
+    @Override
+    public void onComplete() {
+      done = true;
+      drain();
+    }
+
+    @Override
+    public void request(long n) {
+      if (SubscriptionHelper.validate(n)) {
+        BackpressureHelper.add(requested, n);
+        drain();
+      }
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      upstream.cancel();
+      if (getAndIncrement() == 0) {
+        clear();
+      }
+    }
+
+    private void clear() {
+      queue.clear();
+      pending = null;
+    }
+
+    @Override
+    boolean drainOnce() {
+      long r = requested.get();
+      long e = 0L;
+      for (;;) {
+        if (cancelled) {
+          clear();
+          return false;
+        }
+        boolean d = done;
+        if (d && error != null) {
+          clear();
+          downstream.onError(error);
+          return false;
+        }
+        Buffer record;
+        try {
+          record = e != r ? next() : null;
+        } catch (Throwable t) {
+          Exceptions.throwIfFatal(t);
+          cancelled = true;
+          upstream.cancel();
+          clear();
+          downstream.onError(t);
+          return false;
+        }
+        if (record != null) {
+          downstream.onNext(record);
+          e++;
+          continue;
+        }
+        if (e == r) {
+          if (d && queue.isEmpty() && pending == null) {
+            downstream.onComplete();
+            return false;
+          }
+          break;
+        }
+        Buffer buffer = queue.poll();
+        if (buffer != null) {
+          append(buffer);
+          continue;
+        }
+        if (d) {
+          if (pending != null) {
+            if (!framer.trailingRecord()) {
+              clear();
+              downstream.onError(new IllegalStateException("Truncated record"));
+              return false;
+            }
+            downstream.onNext(pending.slice(position, pending.length()));
+            pending = null;
+          }
+          downstream.onComplete();
+          return false;
+        }
+        requestOne(upstream);
+        break;
+      }
+      if (e != 0L) {
+        BackpressureHelper.produced(requested, e);
+      }
+      return true;
+    }
+
+    private Buffer next() {
+      if (pending == null) {
+        return null;
+      }
+      int end = framer.frameEnd(pending, position);
+      if (end < 0) {
+        return null;
+      }
+      Buffer record = pending.slice(position + framer.header, end - framer.trailer);
+      position = end;
+      if (position == pending.length()) {
+        pending = null;
+        position = 0;
+      }
+      return record;
+    }
+
+    private void append(Buffer buffer) {
+      received();
+      if (buffer.length() == 0) {
+        return;
+      }
+      if (pending == null) {
+        pending = buffer;
+        accumulating = false;
+      } else if (accumulating && position == 0) {
+        // No record was sliced from the accumulation buffer yet, it grows in place
+        pending.appendBuffer(buffer);
+      } else {
+        // The record spans the buffers, its beginning is copied once to an accumulation buffer
+        int remaining = pending.length() - position;
+        pending = Buffer.buffer(remaining + buffer.length())
+          .appendBuffer(pending, position, remaining)
+          .appendBuffer(buffer);
+        accumulating = true;
+      }
+      position = 0;
+    }
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.vertx.rxjava3.impl;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
+import io.reactivex.rxjava3.core.FlowableTransformer;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.internal.subscriptions.SubscriptionHelper;
+import io.reactivex.rxjava3.internal.util.ExceptionHelper;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Signals a {@link TimeoutException} when the upstream does not signal within a timeout after the subscription or
+ * after the previous item, the timeouts are scheduled on a {@link TimerWheel}.
+ */
+public class FlowableTimeout<T> implements FlowableTransformer<T, T> {
+
+  private final Supplier<TimerWheel> wheel;
+  private final long timeout;
+  private final TimeUnit unit;
+
+  /**
+   * @param wheel the supplier of the wheel, called for each subscription
+   * @param timeout the timeout
+   * @param unit the timeout unit
+   */
+  public FlowableTimeout(Supplier<TimerWheel> wheel, long timeout, TimeUnit unit) {
+    this.wheel = Objects.requireNonNull(wheel, "wheel");
+    this.timeout = timeout;
+    this.unit = Objects.requireNonNull(unit, "unit");
+  }
+
+  @Override
+  public Publisher<T> apply(@NonNull Flowable<T> upstream) {
+    return RxJavaPlugins.onAssembly(new Flowable<T>() {
+      @Override
+      protected void subscribeActual(@NonNull Subscriber<? super T> subscriber) {
+        TimeoutSubscriber parent = new TimeoutSubscriber(subscriber, wheel.get());
+        subscriber.onSubscribe(parent);
+        parent.startTimeout(0L);
+        upstream.subscribe(parent);
+      }
+    });
+  }
+
+  /**
+   * The value is the index of the last item, {@code Long.MAX_VALUE} once terminated: an item or a timeout
+   * only wins when it can increment the index it has observed.
+   */
+  private class TimeoutSubscriber extends AtomicLong implements FlowableSubscriber<T>, Subscription {
+
+    private final Subscriber<? super T> downstream;
+    private final TimerWheel wheel;
+    private final AtomicReference<Subscription> upstream = new AtomicReference<>();
+    private final AtomicLong requested = new AtomicLong();
+    private volatile Disposable timer;
+
+    TimeoutSubscriber(Subscriber<? super T> downstream, TimerWheel wheel) {
+      this.downstream = downstream;
+      this.wheel = wheel;
+    }
+
+    @Override
+    public void onSubscribe(@NonNull Subscription s) {
+      SubscriptionHelper.deferredSetOnce(upstream, requested, s);
+    }
+
+    @Override
+    public void onNext(T item) {
+      long index = get();
+      if (index == Long.MAX_VALUE || !compareAndSet(index, index + 1)) {
+        return;
+      }
+      timer.dispose();
+      downstream.onNext(item);
+      startTimeout(index + 1);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      if (getAndSet(Long.MAX_VALUE) != Long.MAX_VALUE) {
+        timer.dispose();
+        downstream.onError(t);
+      } else {
+        RxJavaPlugins.onError(t);
+      }
+    }
+
+    @Override
+    public void onComplete() {
+      if (getAndSet(Long.MAX_VALUE) != Long.MAX_VALUE) {
+        timer.dispose();
+        downstream.onComplete();
+      }
+    }
+
+    @Override
+    public void request(long n) {
+      SubscriptionHelper.deferredRequest(upstream, requested, n);
+    }
+
+    @Override
+    public void cancel() {
+      SubscriptionHelper.cancel(upstream);
+      if (getAndSet(Long.MAX_VALUE) != Long.MAX_VALUE) {
+        Disposable t = timer;
+        if (t != null) {
+          t.dispose();
+        }
+      }
+    }
+
+    void startTimeout(long index) {
+      if (get() == index) {
+        timer = wheel.schedule(timeout, unit, () -> onTimeout(index));
+      }
+    }
+
+    private void onTimeout(long index) {
+      if (compareAndSet(index, Long.MAX_VALUE)) {
+        SubscriptionHelper.cancel(upstream);
+        downstream.onError(new TimeoutException(ExceptionHelper.timeoutMessage(timeout, unit)));
+      }
+    }
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.vertx.rxjava3.impl;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.MaybeObserver;
+import io.reactivex.rxjava3.core.MaybeSource;
+import io.reactivex.rxjava3.core.MaybeTransformer;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.internal.disposables.DisposableHelper;
+import io.reactivex.rxjava3.internal.util.ExceptionHelper;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Signals a {@link TimeoutException} when the upstream does not signal within a timeout, the timeout is scheduled
+ * on a {@link TimerWheel}.
+ */
+public class MaybeTimeout<T> implements MaybeTransformer<T, T> {
+
+  private final Supplier<TimerWheel> wheel;
+  private final long timeout;
+  private final TimeUnit unit;
+
+  /**
+   * @param wheel the supplier of the wheel, called for each subscription
+   * @param timeout the timeout
+   * @param unit the timeout unit
+   */
+  public MaybeTimeout(Supplier<TimerWheel> wheel, long timeout, TimeUnit unit) {
+    this.wheel = Objects.requireNonNull(wheel, "wheel");
+    this.timeout = timeout;
+    this.unit = Objects.requireNonNull(unit, "unit");
+  }
+
+  @Override
+  public MaybeSource<T> apply(@NonNull Maybe<T> upstream) {
+    return RxJavaPlugins.onAssembly(new Maybe<T>() {
+      @Override
+      protected void subscribeActual(@NonNull MaybeObserver<? super T> observer) {
+        TimeoutObserver parent = new TimeoutObserver(observer);
+        observer.onSubscribe(parent);
+        if (parent.get()) {
+          return;
+        }
+        parent.timer = wheel.get().schedule(timeout, unit, parent);
+        upstream.subscribe(parent);
+      }
+    });
+  }
+
+  private class TimeoutObserver extends AtomicBoolean implements MaybeObserver<T>, Disposable, Runnable {
+
+    private final MaybeObserver<? super T> downstream;
+    private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+    private volatile Disposable timer;
+
+    TimeoutObserver(MaybeObserver<? super T> downstream) {
+      this.downstream = downstream;
+    }
+
+    @Override
+    public void onSubscribe(@NonNull Disposable d) {
+      DisposableHelper.setOnce(upstream, d);
+    }
+
+    @Override
+    public void onSuccess(@NonNull T item) {
+      if (compareAndSet(false, true)) {
+        timer.dispose();
+        downstream.onSuccess(item);
+      }
+    }
+
+    @Override
+    public void onComplete() {
+      if (compareAndSet(false, true)) {
+        timer.dispose();
+        downstream.onComplete();
+      }
+    }
+
+    @Override
+    public void onError(@NonNull Throwable e) {
+      if (compareAndSet(false, true)) {
+        timer.dispose();
+        downstream.onError(e);
+      } else {
+        RxJavaPlugins.onError(e);
+      }
+    }
+
+    @Override
+    public void run() {
+      if (compareAndSet(false, true)) {
+        DisposableHelper.dispose(upstream);
+        downstream.onError(new TimeoutException(ExceptionHelper.timeoutMessage(timeout, unit)));
+      }
+    }
+
+    @Override
+    public void dispose() {
+      if (compareAndSet(false, true)) {
+        Disposable t = timer;
+        if (t != null) {
+          t.dispose();
+        }
+      }
+      DisposableHelper.dispose(upstream);
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return DisposableHelper.isDisposed(upstream.get());
+    }
+  }
+}
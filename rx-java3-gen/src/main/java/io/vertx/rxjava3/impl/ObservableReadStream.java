@@ -1,8 +1,11 @@
 package io.vertx.rxjava3.impl;
 
+import io.reactivex.rxjava3.annotations.Nullable;
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.core.Observer;
-import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.internal.fuseable.QueueFuseable;
+import io.reactivex.rxjava3.internal.observers.BasicQueueDisposable;
+import io.reactivex.rxjava3.internal.queue.SpscLinkedArrayQueue;
 import io.vertx.core.streams.ReadStream;
 
 import java.util.concurrent.atomic.AtomicInteger;
@@ -25,11 +28,16 @@ public class ObservableReadStream<T, U> extends Observable<U> {
     this.f = f;
   }
 
-  class Subscription implements Disposable {
+  /**
+   * The subscription supports the asynchronous fusion mode: the fused consumer polls the items from the queue of the
+   * subscription instead of queueing them itself.
+   */
+  class Subscription extends BasicQueueDisposable<U> {
     private static final int SUBSCRIBED = 0x01;
     private static final int DISPOSED = 0x02;
     private AtomicInteger status = new AtomicInteger();
     private final Observer<? super U> observer;
+    private volatile SpscLinkedArrayQueue<U> queue;
     public Subscription(Observer<? super U> observer) {
       this.observer = observer;
     }
@@ -60,7 +68,14 @@ public class ObservableReadStream<T, U> extends Observable<U> {
         }
       });
       stream.handler(item -> {
-        observer.onNext(f.apply(item));
+        SpscLinkedArrayQueue<U> q = queue;
+        if (q != null) {
+          q.offer(f.apply(item));
+          // Signal the fused consumer that an item is available
+          observer.onNext(null);
+        } else {
+          observer.onNext(f.apply(item));
+        }
       });
       while (true) {
         int current = status.get();
@@ -87,6 +102,27 @@ public class ObservableReadStream<T, U> extends Observable<U> {
     public boolean isDisposed() {
       return (status.get() & DISPOSED) != 0;
     }
+    @Override
+    public int requestFusion(int mode) {
+      // The mapping function is applied by the stream handler, so the consumer thread does not matter
+      if ((mode & QueueFuseable.ASYNC) != 0) {
+        queue = new SpscLinkedArrayQueue<>(bufferSize());
+        return QueueFuseable.ASYNC;
+      }
+      return QueueFuseable.NONE;
+    }
+    @Override
+    public @Nullable U poll() {
+      return queue.poll();
+    }
+    @Override
+    public boolean isEmpty() {
+      return queue.isEmpty();
+    }
+    @Override
+    public void clear() {
+      queue.clear();
+    }
   }
 
   @Override
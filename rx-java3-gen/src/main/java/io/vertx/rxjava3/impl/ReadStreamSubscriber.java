@@ -5,6 +5,7 @@ import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Observable;
 import io.vertx.core.Handler;
 import io.vertx.core.streams.ReadStream;
+import io.vertx.rxjava3.StreamMetrics;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -40,6 +41,10 @@ public class ReadStreamSubscriber<R, J> implements Subscriber<R>, ReadStream<J>
     return new ReadStreamSubscriber<>(adapter, flowable::subscribe);
   }
 
+  public static <R, J> ReadStream<J> asReadStream(Flowable<R> flowable, Function<R, J> adapter, StreamMetrics metrics) {
+    return new ReadStreamSubscriber<>(adapter, flowable::subscribe, metrics);
+  }
+
   public static <R, J> ReadStream<J> asReadStream(Observable<R> observable, Function<R, J> adapter) {
     return asReadStream(observable.toFlowable(BackpressureStrategy.BUFFER), adapter);
   }
@@ -54,15 +59,24 @@ public class ReadStreamSubscriber<R, J> implements Subscriber<R>, ReadStream<J>
   private int requested = 0;
   private Subscription subscription;
   private Publisher<R> publisher;
+  private final StreamMetrics metrics;
+  private final FlightRecorderEvents.CorrelationId correlationId = new FlightRecorderEvents.CorrelationId();
+  private boolean paused;
 
   public ReadStreamSubscriber(Function<R, J> adapter, Publisher<R> publisher) {
+    this(adapter, publisher, StreamMetrics.NOOP);
+  }
+
+  public ReadStreamSubscriber(Function<R, J> adapter, Publisher<R> publisher, StreamMetrics metrics) {
     this.adapter = adapter;
     this.publisher = publisher;
+    this.metrics = metrics;
   }
 
   @Override
   public ReadStream<J> handler(Handler<J> handler) {
     Runnable action;
+    int discarded = 0;
     synchronized (this) {
       elementHandler = handler;
       if (handler != null) {
@@ -70,8 +84,15 @@ public class ReadStreamSubscriber<R, J> implements Subscriber<R>, ReadStream<J>
       } else {
         Subscription s = subscription;
         action = s != null ? s::cancel : NOOP_ACTION;
+        // The pending items are not delivered anymore
+        discarded = pending.size();
+        requested -= discarded;
+        pending.clear();
       }
     }
+    for (int i = 0; i < discarded; i++) {
+      metrics.unbuffered();
+    }
     action.run();
     checkStatus();
     return this;
@@ -90,11 +111,19 @@ public class ReadStreamSubscriber<R, J> implements Subscriber<R>, ReadStream<J>
     if (amount < 0L) {
       throw new IllegalArgumentException("Invalid amount: " + amount);
     }
+    boolean resumed;
     synchronized (this) {
       demand += amount;
       if (demand < 0L) {
         demand = Long.MAX_VALUE;
       }
+      resumed = paused && demand > 0L;
+      if (resumed) {
+        paused = false;
+      }
+    }
+    if (resumed) {
+      FlightRecorderEvents.STREAM_RESUMED.emit(correlationId);
     }
     checkStatus();
     return this;
@@ -115,6 +144,7 @@ public class ReadStreamSubscriber<R, J> implements Subscriber<R>, ReadStream<J>
 
   private void checkStatus() {
     Runnable action = NOOP_ACTION;
+    boolean pausing = false;
     while (true) {
       J adapted;
       Handler<J> handler;
@@ -125,6 +155,7 @@ public class ReadStreamSubscriber<R, J> implements Subscriber<R>, ReadStream<J>
           }
           requested--;
           R item = pending.poll();
+          metrics.unbuffered();
           adapted = adapter.apply(item);
         } else {
           if (completed != null) {
@@ -155,14 +186,25 @@ public class ReadStreamSubscriber<R, J> implements Subscriber<R>, ReadStream<J>
             }
           } else if (elementHandler != null && requested < BUFFER_SIZE / 2) {
             int request = BUFFER_SIZE - requested;
-            action = () -> subscription.request(request);
+            action = () -> {
+              metrics.requested(request);
+              subscription.request(request);
+            };
             requested = BUFFER_SIZE;
           }
+          if (demand == 0L && elementHandler != null && pending.size() > 0 && !paused) {
+            paused = true;
+            pausing = true;
+          }
           break;
         }
       }
+      metrics.emitted();
       handler.handle(adapted);
     }
+    if (pausing) {
+      FlightRecorderEvents.STREAM_PAUSED.emit(correlationId);
+    }
     action.run();
   }
 
@@ -215,6 +257,7 @@ public class ReadStreamSubscriber<R, J> implements Subscriber<R>, ReadStream<J>
     synchronized (this) {
       pending.add(item);
     }
+    metrics.buffered();
     checkStatus();
   }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.vertx.rxjava3.impl;
+
+import io.vertx.core.buffer.Buffer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A FIFO of records appended to a temporary file through memory-mapped segments.
+ * <p>
+ * Records are stored as an {@code int} length followed by the record bytes. Appending a record copies it to the mapped
+ * segment, the page cache writes it back to disk. When all the records have been read, the file is rewound and
+ * reused, so its size is bounded by the largest backlog. The file is created on the first append and deleted when
+ * closed.
+ * <p>
+ * This class is not thread safe.
+ */
+class SpillFile implements Closeable {
+
+  static final int SEGMENT_SIZE = 16 * 1024 * 1024;
+
+  private final Path directory;
+  private FileChannel channel;
+  private MappedByteBuffer writeSegment;
+  private long writeSegmentStart;
+  private MappedByteBuffer readSegment;
+  private long readSegmentStart;
+  private long writePosition;
+  private long readPosition;
+  private long size;
+  private long bytes;
+
+  SpillFile(Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * @return the number of records
+   */
+  long size() {
+    return size;
+  }
+
+  /**
+   * @return the number of bytes of the records
+   */
+  long bytes() {
+    return bytes;
+  }
+
+  /**
+   * Append a record.
+   */
+  void append(Buffer record) throws IOException {
+    if (channel == null) {
+      Path file = Files.createTempFile(directory, "vertx-rx-spill-", ".seg");
+      channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+    }
+    int length = record.length();
+    int recordSize = 4 + length;
+    if (writeSegment == null || writePosition + recordSize > writeSegmentStart + writeSegment.capacity()) {
+      writeSegmentStart = writePosition;
+      writeSegment = channel.map(FileChannel.MapMode.READ_WRITE, writePosition, Math.max(SEGMENT_SIZE, recordSize));
+    }
+    writeSegment.position((int) (writePosition - writeSegmentStart));
+    writeSegment.putInt(length);
+    writeSegment.put(record.getBytes());
+    writePosition += recordSize;
+    size++;
+    bytes += length;
+  }
+
+  /**
+   * Remove the oldest record.
+   *
+   * @return the record or {@code null} when empty
+   */
+  Buffer remove() throws IOException {
+    if (size == 0) {
+      return null;
+    }
+    map(4);
+    int length = readSegment.getInt((int) (readPosition - readSegmentStart));
+    map(4 + length);
+    byte[] data = new byte[length];
+    readSegment.position((int) (readPosition - readSegmentStart) + 4);
+    readSegment.get(data);
+    readPosition += 4 + length;
+    this.bytes -= length;
+    if (--size == 0) {
+      rewind();
+    }
+    return Buffer.buffer(data);
+  }
+
+  private void map(int recordSize) throws IOException {
+    if (readSegment == null || readPosition < readSegmentStart || readPosition + recordSize > readSegmentStart + readSegment.capacity()) {
+      readSegmentStart = readPosition;
+      readSegment = channel.map(FileChannel.MapMode.READ_WRITE, readPosition, Math.max(SEGMENT_SIZE, recordSize));
+    }
+  }
+
+  private void rewind() {
+    // The file is not truncated, accessing a mapping beyond the end of the file fails
+    readPosition = 0L;
+    writePosition = 0L;
+    if (writeSegmentStart != 0L) {
+      writeSegment = null;
+    }
+    if (readSegmentStart != 0L) {
+      readSegment = null;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    writeSegment = null;
+    readSegment = null;
+    size = 0;
+    bytes = 0;
+    if (channel != null) {
+      channel.close();
+      channel = null;
+    }
+  }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3.impl;
+
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A coarse-grained hashed timer wheel bound to a Vert.x context.
+ * <p>
+ * The wheel has {@link #WHEEL_SIZE} slots of {@link #TICK_MILLIS} milliseconds each and is advanced by a single
+ * periodic timer of its context, which is only running while timeouts are pending. Scheduling and cancelling a timeout
+ * are constant time operations, a timeout task is executed on the context of the wheel between its delay and its
+ * delay plus one tick.
+ * <p>
+ * This is meant for the large number of short-lived timeouts that are almost always cancelled, e.g. request timeouts:
+ * unlike a scheduler, no Vert.x timer is registered per timeout.
+ */
+public final class TimerWheel {
+
+  /**
+   * The duration of a tick.
+   */
+  public static final long TICK_MILLIS = 10L;
+
+  /**
+   * The number of slots of the wheel.
+   */
+  public static final int WHEEL_SIZE = 512;
+
+  // A wheel references its Vert.x instance through its context, the entry is removed by a close hook of the instance
+  private static final Map<Vertx, TimerWheel> defaultWheels = new ConcurrentHashMap<>();
+
+  /**
+   * @return the wheel of the {@code context}
+   */
+  public static TimerWheel get(Context context) {
+    TimerWheel wheel = context.get(TimerWheel.class);
+    if (wheel == null) {
+      synchronized (TimerWheel.class) {
+        wheel = context.get(TimerWheel.class);
+        if (wheel == null) {
+          wheel = new TimerWheel(context);
+          context.put(TimerWheel.class, wheel);
+        }
+      }
+    }
+    return wheel;
+  }
+
+  /**
+   * @return the wheel of the current event loop context, or a wheel shared by the non Vert.x threads of {@code vertx}
+   */
+  public static TimerWheel get(Vertx vertx) {
+    Context context = Vertx.currentContext();
+    if (context != null && context.isEventLoopContext() && context.owner() == vertx) {
+      return get(context);
+    }
+    TimerWheel wheel = defaultWheels.get(vertx);
+    if (wheel == null) {
+      synchronized (TimerWheel.class) {
+        wheel = defaultWheels.get(vertx);
+        if (wheel == null) {
+          wheel = new TimerWheel(vertx.getOrCreateContext());
+          defaultWheels.put(vertx, wheel);
+          ((VertxInternal) vertx).addCloseHook(completion -> {
+            defaultWheels.remove(vertx);
+            completion.complete();
+          });
+        }
+      }
+    }
+    return wheel;
+  }
+
+  private final Context context;
+  private final long tickNanos = TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS);
+  private final Timeout[] slots = new Timeout[WHEEL_SIZE];
+  private final long origin = System.nanoTime();
+  private long tick;
+  private int pending;
+  private boolean running;
+  private long timerId = -1L;
+
+  private TimerWheel(Context context) {
+    this.context = context;
+  }
+
+  /**
+   * Schedule a {@code task} to run on the wheel context after a {@code delay}.
+   *
+   * @return the timeout, disposing it cancels the task
+   */
+  public Disposable schedule(long delay, TimeUnit unit, Runnable task) {
+    long now = System.nanoTime() - origin;
+    long deadline = now + unit.toNanos(delay);
+    Timeout timeout = new Timeout(task);
+    boolean start;
+    synchronized (this) {
+      if (!running) {
+        // The wheel is empty, skip the ticks elapsed since it stopped
+        tick = now / tickNanos;
+      }
+      // Round up, a timeout never fires early
+      timeout.deadline = Math.max(tick + 1, (deadline + tickNanos - 1) / tickNanos);
+      link(timeout);
+      pending++;
+      start = !running;
+      running = true;
+    }
+    if (start) {
+      if (Vertx.currentContext() == context) {
+        start(null);
+      } else {
+        context.runOnContext(this::start);
+      }
+    }
+    return timeout;
+  }
+
+  private void start(Void v) {
+    long id = context.owner().setPeriodic(TICK_MILLIS, this::advance);
+    synchronized (this) {
+      timerId = id;
+    }
+  }
+
+  private void advance(long id) {
+    long target = (System.nanoTime() - origin) / tickNanos;
+    Timeout expired = null;
+    synchronized (this) {
+      while (tick < target && pending > 0) {
+        tick++;
+        Timeout timeout = slots[(int) (tick & (WHEEL_SIZE - 1))];
+        while (timeout != null) {
+          Timeout next = timeout.next;
+          if (timeout.deadline <= tick) {
+            unlink(timeout);
+            pending--;
+            timeout.next = expired;
+            expired = timeout;
+          }
+          timeout = next;
+        }
+      }
+      if (pending == 0) {
+        tick = target;
+        context.owner().cancelTimer(timerId);
+        timerId = -1L;
+        running = false;
+      }
+    }
+    while (expired != null) {
+      Timeout next = expired.next;
+      expired.next = null;
+      try {
+        expired.task.run();
+      } catch (Throwable t) {
+        RxJavaPlugins.onError(t);
+      }
+      expired = next;
+    }
+  }
+
+  // Called with the lock held
+  private void link(Timeout timeout) {
+    int index = (int) (timeout.deadline & (WHEEL_SIZE - 1));
+    Timeout head = slots[index];
+    timeout.next = head;
+    if (head != null) {
+      head.prev = timeout;
+    }
+    slots[index] = timeout;
+    timeout.linked = true;
+  }
+
+  // Called with the lock held
+  private void unlink(Timeout timeout) {
+    if (timeout.prev != null) {
+      timeout.prev.next = timeout.next;
+    } else {
+      slots[(int) (timeout.deadline & (WHEEL_SIZE - 1))] = timeout.next;
+    }
+    if (timeout.next != null) {
+      timeout.next.prev = timeout.prev;
+    }
+    timeout.prev = null;
+    timeout.next = null;
+    timeout.linked = false;
+  }
+
+  private final class Timeout implements Disposable {
+
+    private final Runnable task;
+    private long deadline;
+    private Timeout prev;
+    private Timeout next;
+    private boolean linked;
+    private volatile boolean disposed;
+
+    private Timeout(Runnable task) {
+      this.task = task;
+    }
+
+    @Override
+    public void dispose() {
+      synchronized (TimerWheel.this) {
+        if (disposed) {
+          return;
+        }
+        disposed = true;
+        if (linked) {
+          unlink(this);
+          pending--;
+        }
+      }
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return disposed;
+    }
+  }
+}
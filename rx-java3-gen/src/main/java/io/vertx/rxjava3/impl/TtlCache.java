@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.vertx.rxjava3.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded cache whose entries expire after a time-to-live.
+ * <p>
+ * The cache is split in up to {@link #SEGMENTS} segments, each guarded by its own lock, so lookups of different keys
+ * rarely contend. A segment evicts its least recently used entry when it is full, expired entries are removed when
+ * they are looked up or evicted.
+ */
+public final class TtlCache<K, V> {
+
+  /**
+   * The maximum number of segments.
+   */
+  public static final int SEGMENTS = 16;
+
+  private final long ttlNanos;
+  private final Segment<K, V>[] segments;
+
+  /**
+   * @param ttl the time-to-live of an entry
+   * @param unit the {@code ttl} unit
+   * @param maxSize the maximum number of entries
+   */
+  @SuppressWarnings("unchecked")
+  public TtlCache(long ttl, TimeUnit unit, int maxSize) {
+    if (ttl <= 0L) {
+      throw new IllegalArgumentException("Invalid time-to-live: " + ttl);
+    }
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("Invalid max size: " + maxSize);
+    }
+    Objects.requireNonNull(unit, "unit");
+    int count = 1;
+    while (count < SEGMENTS && count * 2 <= maxSize) {
+      count <<= 1;
+    }
+    int capacity = maxSize / count;
+    this.ttlNanos = unit.toNanos(ttl);
+    this.segments = new Segment[count];
+    for (int i = 0; i < count; i++) {
+      segments[i] = new Segment<>(capacity);
+    }
+  }
+
+  private Segment<K, V> segment(Object key) {
+    int h = key.hashCode();
+    return segments[(h ^ (h >>> 16)) & (segments.length - 1)];
+  }
+
+  /**
+   * @return the value of the {@code key} or {@code null} when absent or expired
+   */
+  public V get(K key) {
+    Segment<K, V> segment = segment(key);
+    synchronized (segment) {
+      Entry<V> entry = segment.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (System.nanoTime() - entry.expiresAt >= 0L) {
+        segment.remove(key);
+        return null;
+      }
+      return entry.value;
+    }
+  }
+
+  /**
+   * Associate the {@code value} with the {@code key} for the time-to-live of the cache.
+   */
+  public void put(K key, V value) {
+    Objects.requireNonNull(value, "value");
+    Entry<V> entry = new Entry<>(value, System.nanoTime() + ttlNanos);
+    Segment<K, V> segment = segment(key);
+    synchronized (segment) {
+      segment.put(key, entry);
+    }
+  }
+
+  /**
+   * Remove the value of the {@code key}.
+   */
+  public void invalidate(K key) {
+    Segment<K, V> segment = segment(key);
+    synchronized (segment) {
+      segment.remove(key);
+    }
+  }
+
+  /**
+   * @return the number of entries, including the expired entries not removed yet
+   */
+  public int size() {
+    int size = 0;
+    for (Segment<K, V> segment : segments) {
+      synchronized (segment) {
+        size += segment.size();
+      }
+    }
+    return size;
+  }
+
+  private static final class Entry<V> {
+
+    private final V value;
+    private final long expiresAt;
+
+    private Entry(V value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+  }
+
+  private static final class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+
+    private final int capacity;
+
+    private Segment(int capacity) {
+      super(16, 0.75f, true);
+      this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+      return size() > capacity;
+    }
+  }
+}
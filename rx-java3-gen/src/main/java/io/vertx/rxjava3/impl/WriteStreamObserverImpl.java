@@ -24,10 +24,18 @@ import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.internal.disposables.DisposableHelper;
 import io.reactivex.rxjava3.plugins.RxJavaPlugins;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.streams.WriteStream;
 import io.vertx.rxjava3.WriteStreamObserver;
+import io.vertx.rxjava3.StreamMetrics;
+import io.vertx.rxjava3.SpillCodec;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 /**
@@ -40,6 +48,19 @@ public class WriteStreamObserverImpl<R, T> implements WriteStreamObserver<R> {
 
   private Disposable disposable;
   private boolean done;
+  private boolean writeQueueFull;
+  private final FlightRecorderEvents.CorrelationId correlationId = new FlightRecorderEvents.CorrelationId();
+
+  // Overflow mode
+  private final boolean overflow;
+  private final int maxQueueSize;
+  private final ArrayDeque<T> queue;
+  private final SpillFile spill;
+  private final SpillCodec<T> codec;
+  private final StreamMetrics metrics;
+  private final AtomicInteger wip;
+  private boolean completed;
+  private boolean terminated;
 
   private Consumer<? super Throwable> observableErrorHandler;
   private Consumer<? super Throwable> writeStreamExceptionHandler;
@@ -51,6 +72,44 @@ public class WriteStreamObserverImpl<R, T> implements WriteStreamObserver<R> {
     Objects.requireNonNull(mapping, "mapping");
     this.writeStream = writeStream;
     this.mapping = mapping;
+    this.overflow = false;
+    this.maxQueueSize = 0;
+    this.queue = null;
+    this.spill = null;
+    this.codec = null;
+    this.metrics = StreamMetrics.NOOP;
+    this.wip = null;
+  }
+
+  /**
+   * Create an adapter in overflow mode: items are written while the write stream queue is not full, then they are
+   * queued in memory up to {@code maxQueueSize} and spilled to a temporary file of {@code spillDirectory} beyond. The
+   * queued and spilled items are written in order when the write stream is drained, the write stream is ended once
+   * they are all written.
+   *
+   * @param maxQueueSize the maximum number of items queued in memory
+   * @param spillDirectory the directory of the spill file
+   * @param codec the codec of the spilled items
+   * @param metrics the metrics
+   */
+  public WriteStreamObserverImpl(WriteStream<T> writeStream, Function<R, T> mapping, int maxQueueSize, Path spillDirectory, SpillCodec<T> codec, StreamMetrics metrics) {
+    Objects.requireNonNull(writeStream, "writeStream");
+    Objects.requireNonNull(mapping, "mapping");
+    Objects.requireNonNull(spillDirectory, "spillDirectory");
+    Objects.requireNonNull(codec, "codec");
+    Objects.requireNonNull(metrics, "metrics");
+    if (maxQueueSize < 0) {
+      throw new IllegalArgumentException("Invalid max queue size: " + maxQueueSize);
+    }
+    this.writeStream = writeStream;
+    this.mapping = mapping;
+    this.overflow = true;
+    this.maxQueueSize = maxQueueSize;
+    this.queue = new ArrayDeque<>();
+    this.spill = new SpillFile(spillDirectory);
+    this.codec = codec;
+    this.metrics = metrics;
+    this.wip = new AtomicInteger();
   }
 
   @Override
@@ -61,7 +120,16 @@ public class WriteStreamObserverImpl<R, T> implements WriteStreamObserver<R> {
       DisposableHelper.reportDisposableSet();
       return;
     }
+    if (overflow) {
+      writeStream.drainHandler(v -> {
+        metrics.drained();
+        drain();
+      });
+    }
     writeStream.exceptionHandler(t -> {
+      if (overflow) {
+        terminate();
+      }
       if (!setDone()) {
         RxJavaPlugins.onError(t);
         return;
@@ -100,6 +168,11 @@ public class WriteStreamObserverImpl<R, T> implements WriteStreamObserver<R> {
     }
 
     try {
+      if (overflow) {
+        enqueue(mapping.apply(r));
+        drain();
+        return;
+      }
       writeStream.write(mapping.apply(r));
     } catch (Throwable t) {
       Exceptions.throwIfFatal(t);
@@ -112,7 +185,145 @@ public class WriteStreamObserverImpl<R, T> implements WriteStreamObserver<R> {
         throwable = new CompositeException(t, t1);
       }
       onError(throwable);
+      return;
+    }
+
+    // Without overflow, the adapter does not use the write queue, it is only checked for the flight recorder events
+    if (writeQueueFull || FlightRecorderEvents.WRITE_QUEUE_FULL.isEnabled()) {
+      checkWriteQueue(writeStream.writeQueueFull());
+    }
+  }
+
+  private void checkWriteQueue(boolean full) {
+    if (full != writeQueueFull) {
+      writeQueueFull = full;
+      if (full) {
+        FlightRecorderEvents.WRITE_QUEUE_FULL.emit(correlationId);
+      } else {
+        FlightRecorderEvents.WRITE_QUEUE_DRAINED.emit(correlationId);
+      }
+    }
+  }
+
+  private synchronized void enqueue(T item) throws IOException {
+    if (terminated) {
+      return;
     }
+    // Once an item is spilled, the following items are spilled too to preserve the order
+    if (spill.size() == 0 && queue.size() < maxQueueSize) {
+      queue.add(item);
+      metrics.buffered();
+    } else {
+      Buffer buffer = codec.encode(item);
+      spill.append(buffer);
+      metrics.spilled(buffer.length());
+    }
+  }
+
+  // Called with the lock held
+  private T dequeue() throws IOException {
+    T item = queue.poll();
+    if (item != null) {
+      metrics.unbuffered();
+      return item;
+    }
+    Buffer buffer = spill.remove();
+    if (buffer != null) {
+      metrics.unspilled(buffer.length());
+      return codec.decode(buffer);
+    }
+    return null;
+  }
+
+  private synchronized void terminate() {
+    terminated = true;
+    for (int i = queue.size(); i > 0; i--) {
+      metrics.unbuffered();
+    }
+    queue.clear();
+    if (spill.bytes() > 0L) {
+      metrics.unspilled(spill.bytes());
+    }
+    try {
+      spill.close();
+    } catch (IOException e) {
+      RxJavaPlugins.onError(e);
+    }
+  }
+
+  /**
+   * Write the queued and spilled items until the write stream queue is full, a single thread drains at a time so the
+   * items are written in order.
+   */
+  private void drain() {
+    if (wip.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    while (true) {
+      while (true) {
+        T item;
+        boolean end = false;
+        try {
+          synchronized (this) {
+            if (terminated) {
+              return;
+            }
+            boolean full = writeStream.writeQueueFull();
+            if (full && !writeQueueFull) {
+              metrics.writeQueueFull();
+            }
+            checkWriteQueue(full);
+            item = full ? null : dequeue();
+            if (item == null && !full && completed) {
+              end = true;
+              terminated = true;
+            }
+          }
+          if (item != null) {
+            writeStream.write(item);
+            metrics.emitted();
+            continue;
+          }
+        } catch (Throwable t) {
+          Exceptions.throwIfFatal(t);
+          drainFailure(t);
+          return;
+        }
+        if (end) {
+          terminate();
+          writeStream.end().onComplete(this::writeStreamEnd);
+          return;
+        }
+        break;
+      }
+      missed = wip.addAndGet(-missed);
+      if (missed == 0) {
+        break;
+      }
+    }
+  }
+
+  private void drainFailure(Throwable t) {
+    boolean ended;
+    synchronized (this) {
+      ended = completed;
+    }
+    terminate();
+    if (ended) {
+      // The observable completed, the adapter fails to end the write stream
+      writeStreamEnd(Future.failedFuture(t));
+      return;
+    }
+    Throwable throwable;
+    try {
+      getDisposable().dispose();
+      throwable = t;
+    } catch (Throwable t1) {
+      Exceptions.throwIfFatal(t1);
+      throwable = new CompositeException(t, t1);
+    }
+    onError(throwable);
   }
 
   @Override
@@ -124,6 +335,10 @@ public class WriteStreamObserverImpl<R, T> implements WriteStreamObserver<R> {
 
     Objects.requireNonNull(t, "onError called with null");
 
+    if (overflow) {
+      terminate();
+    }
+
     Consumer<? super Throwable> c;
     synchronized (this) {
       c = observableErrorHandler;
@@ -144,6 +359,14 @@ public class WriteStreamObserverImpl<R, T> implements WriteStreamObserver<R> {
       return;
     }
 
+    if (overflow) {
+      synchronized (this) {
+        completed = true;
+      }
+      drain();
+      return;
+    }
+
     try {
       writeStream.end().onComplete(this::writeStreamEnd);
     } catch (Throwable t) {
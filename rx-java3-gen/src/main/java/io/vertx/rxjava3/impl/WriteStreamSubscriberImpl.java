@@ -16,15 +16,22 @@
 
 package io.vertx.rxjava3.impl;
 
+import io.netty.util.ReferenceCountUtil;
 import io.reactivex.rxjava3.exceptions.CompositeException;
 import io.reactivex.rxjava3.exceptions.Exceptions;
 import io.reactivex.rxjava3.functions.Action;
 import io.reactivex.rxjava3.functions.Consumer;
+import io.reactivex.rxjava3.internal.subscriptions.EmptySubscription;
 import io.reactivex.rxjava3.internal.subscriptions.SubscriptionHelper;
 import io.reactivex.rxjava3.plugins.RxJavaPlugins;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.net.NetSocket;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.core.streams.WriteStream;
 import io.vertx.rxjava3.WriteStreamSubscriber;
+import io.vertx.rxjava3.StreamMetrics;
 import org.reactivestreams.Subscription;
 
 import java.util.Objects;
@@ -39,10 +46,15 @@ public class WriteStreamSubscriberImpl<R, T> implements WriteStreamSubscriber<R>
 
   private final WriteStream<T> writeStream;
   private final Function<R, T> mapping;
+  private final StreamMetrics metrics;
+  private final java.util.function.Consumer<? super R> release;
 
   private Subscription subscription;
+  private volatile Pipe piped;
   private int outstanding;
   private boolean done;
+  private boolean writeQueueFull;
+  private final FlightRecorderEvents.CorrelationId correlationId = new FlightRecorderEvents.CorrelationId();
 
   private Consumer<? super Throwable> flowableErrorHandler;
   private Consumer<? super Throwable> writeStreamExceptionHandler;
@@ -50,10 +62,25 @@ public class WriteStreamSubscriberImpl<R, T> implements WriteStreamSubscriber<R>
   private Consumer<? super Throwable> writeStreamEndErrorHandler;
 
   public WriteStreamSubscriberImpl(WriteStream<T> writeStream, Function<R, T> mapping) {
+    this(writeStream, mapping, StreamMetrics.NOOP);
+  }
+
+  public WriteStreamSubscriberImpl(WriteStream<T> writeStream, Function<R, T> mapping, StreamMetrics metrics) {
+    this(writeStream, mapping, metrics, null);
+  }
+
+  /**
+   * @param release when not {@code null}, the adapter owns the items: an item is released once its write completes,
+   *                or as soon as it is received when the adapter is terminated
+   */
+  public WriteStreamSubscriberImpl(WriteStream<T> writeStream, Function<R, T> mapping, StreamMetrics metrics, java.util.function.Consumer<? super R> release) {
     Objects.requireNonNull(writeStream, "writeStream");
     Objects.requireNonNull(mapping, "mapping");
+    Objects.requireNonNull(metrics, "metrics");
     this.writeStream = writeStream;
     this.mapping = mapping;
+    this.metrics = metrics;
+    this.release = release;
   }
 
   @Override
@@ -82,13 +109,101 @@ public class WriteStreamSubscriberImpl<R, T> implements WriteStreamSubscriber<R>
         }
       }
     });
-    writeStream.drainHandler(v -> requestMore());
+    writeStream.drainHandler(v -> {
+      synchronized (this) {
+        writeQueueFull = false;
+      }
+      metrics.drained();
+      FlightRecorderEvents.WRITE_QUEUE_DRAINED.emit(correlationId);
+      requestMore();
+    });
     requestMore();
   }
 
+  /**
+   * The subscription of a read stream adapter piped to this subscriber, pausing and resuming the read stream on behalf of
+   * the adapter so it records them like requests.
+   */
+  interface Pipe extends Subscription {
+
+    void pause();
+
+    void resume();
+  }
+
+  /**
+   * Pipe a read stream to the write stream, when the read stream adapter is directly subscribed by this subscriber.
+   * <p>
+   * The items do not go through the Rx signals and the back-pressure relies on pausing the read stream when the write
+   * stream queue is full and resuming it from the drain handler, like a Vert.x pipe. The callbacks of this subscriber are
+   * honoured, and each piped item is recorded as requested by the metrics.
+   *
+   * @param stream the paused read stream
+   * @param f the mapping function of the read stream adapter
+   * @param pipe the subscription of the read stream adapter, cancelling it releases the read stream
+   */
+  <X> void pipe(ReadStream<X> stream, Function<X, R> f, Pipe pipe) {
+    piped = pipe;
+    stream.endHandler(v -> {
+      pipe.cancel();
+      onComplete();
+    });
+    stream.exceptionHandler(err -> {
+      pipe.cancel();
+      onError(err);
+    });
+    stream.handler(item -> onNext(f.apply(item)));
+    onSubscribe(pipe);
+  }
+
+  /**
+   * Send a region of a file with the zero-copy {@code sendFile} of the write stream, when a file flowable is directly
+   * subscribed by this subscriber.
+   * <p>
+   * An HTTP server response is ended by {@code sendFile}, a net socket is ended afterwards. A failure to send the file
+   * is reported to the {@link #onError(Consumer)} callback, unless the write stream failed.
+   *
+   * @return {@code false} when the write stream cannot send files, the file must then be streamed
+   */
+  boolean sendFile(String path, long offset, long length) {
+    boolean response = writeStream instanceof HttpServerResponse;
+    if (response ? ((HttpServerResponse) writeStream).headWritten() : !(writeStream instanceof NetSocket)) {
+      return false;
+    }
+    onSubscribe(EmptySubscription.INSTANCE);
+    if (getSubscription() != EmptySubscription.INSTANCE) {
+      // Already subscribed
+      return true;
+    }
+    Future<Void> fut;
+    try {
+      if (response) {
+        fut = ((HttpServerResponse) writeStream).sendFile(path, offset, length);
+      } else {
+        fut = ((NetSocket) writeStream).sendFile(path, offset, length);
+      }
+    } catch (Throwable t) {
+      Exceptions.throwIfFatal(t);
+      fut = Future.failedFuture(t);
+    }
+    fut.onComplete(ar -> {
+      if (ar.failed()) {
+        if (!isDone()) {
+          onError(ar.cause());
+        }
+      } else if (!response) {
+        onComplete();
+      } else if (setDone()) {
+        writeStreamEnd(ar);
+      }
+    });
+    return true;
+  }
+
   @Override
   public void onNext(R r) {
     if (isDone()) {
+      release(r);
       return;
     }
 
@@ -105,10 +220,29 @@ public class WriteStreamSubscriberImpl<R, T> implements WriteStreamSubscriber<R>
     }
 
     try {
-      writeStream.write(mapping.apply(r));
-      synchronized (this) {
-        outstanding--;
+      if (release != null) {
+        // Recorded by the Netty leak detector when the item is a leaked reference counted object
+        ReferenceCountUtil.touch(r, "WriteStreamSubscriber");
+        Future<Void> write;
+        try {
+          write = writeStream.write(mapping.apply(r));
+        } catch (Throwable t) {
+          release(r);
+          throw t;
+        }
+        write.onComplete(ar -> release(r));
+      } else {
+        writeStream.write(mapping.apply(r));
+      }
+      if (piped == null) {
+        synchronized (this) {
+          outstanding--;
+        }
+      } else {
+        // The read stream is resumed, each item is an implicit request
+        metrics.requested(1L);
       }
+      metrics.emitted();
     } catch (Throwable t) {
       Exceptions.throwIfFatal(t);
       Throwable throwable;
@@ -124,7 +258,23 @@ public class WriteStreamSubscriberImpl<R, T> implements WriteStreamSubscriber<R>
     }
 
     if (!writeStream.writeQueueFull()) {
-      requestMore();
+      if (piped == null) {
+        requestMore();
+      }
+    } else {
+      Pipe pipe = piped;
+      if (pipe != null) {
+        pipe.pause();
+      }
+      boolean reported;
+      synchronized (this) {
+        reported = writeQueueFull;
+        writeQueueFull = true;
+      }
+      if (!reported) {
+        metrics.writeQueueFull();
+        FlightRecorderEvents.WRITE_QUEUE_FULL.emit(correlationId);
+      }
     }
   }
 
@@ -190,6 +340,17 @@ public class WriteStreamSubscriberImpl<R, T> implements WriteStreamSubscriber<R>
     }
   }
 
+  private void release(R r) {
+    if (release != null && r != null) {
+      try {
+        release.accept(r);
+      } catch (Throwable t) {
+        Exceptions.throwIfFatal(t);
+        RxJavaPlugins.onError(t);
+      }
+    }
+  }
+
   private synchronized Subscription getSubscription() {
     return subscription;
   }
@@ -211,6 +372,13 @@ public class WriteStreamSubscriberImpl<R, T> implements WriteStreamSubscriber<R>
   }
 
   private void requestMore() {
+    Pipe pipe = piped;
+    if (pipe != null) {
+      if (!isDone()) {
+        pipe.resume();
+      }
+      return;
+    }
     Subscription s = getSubscription();
     if (s == null) {
       return;
@@ -221,6 +389,7 @@ public class WriteStreamSubscriberImpl<R, T> implements WriteStreamSubscriber<R>
       }
       outstanding = BATCH_SIZE;
     }
+    metrics.requested(BATCH_SIZE);
     s.request(BATCH_SIZE);
   }
 
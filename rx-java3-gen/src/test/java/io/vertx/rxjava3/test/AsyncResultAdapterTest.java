@@ -3,6 +3,8 @@ package io.vertx.rxjava3.test;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Maybe;
 import io.reactivex.rxjava3.core.Single;
+import io.vertx.core.Future;
+import io.vertx.rxjava3.VertxRxPlugins;
 import io.vertx.rxjava3.codegen.rxjava3.MethodWithCompletable;
 import io.vertx.rxjava3.codegen.rxjava3.MethodWithMaybeString;
 import io.vertx.rxjava3.codegen.rxjava3.MethodWithSingleString;
@@ -43,4 +45,39 @@ public class AsyncResultAdapterTest extends VertxTestBase {
     single.subscribe(this::fail, err -> testComplete());
     await();
   }
+
+  @Test
+  public void testOperationTimer() {
+    waitFor(2);
+    VertxRxPlugins.setOperationTimer((operation, durationNanos, succeeded) -> {
+      assertEquals("io.vertx.codegen.rxjava3.MethodWithSingleString#doSomethingWithResult", operation);
+      assertTrue(durationNanos >= 0);
+      assertTrue(succeeded);
+      complete();
+    });
+    try {
+      MethodWithSingleString meth = new MethodWithSingleString(() -> Future.succeededFuture("foo"));
+      meth.rxDoSomethingWithResult().subscribe(result -> complete(), this::fail);
+      await();
+    } finally {
+      VertxRxPlugins.setOperationTimer(null);
+    }
+  }
+
+  @Test
+  public void testOperationTimerFailure() {
+    waitFor(2);
+    VertxRxPlugins.setOperationTimer((operation, durationNanos, succeeded) -> {
+      assertEquals("io.vertx.codegen.rxjava3.MethodWithCompletable#doSomethingWithResult", operation);
+      assertFalse(succeeded);
+      complete();
+    });
+    try {
+      MethodWithCompletable meth = new MethodWithCompletable(() -> Future.failedFuture("failure"));
+      meth.rxDoSomethingWithResult().subscribe(this::fail, err -> complete());
+      await();
+    } finally {
+      VertxRxPlugins.setOperationTimer(null);
+    }
+  }
 }
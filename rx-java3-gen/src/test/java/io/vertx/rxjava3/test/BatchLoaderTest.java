@@ -0,0 +1,179 @@
+package io.vertx.rxjava3.test;
+
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.subjects.SingleSubject;
+import io.vertx.core.Context;
+import io.vertx.rxjava3.BatchLoader;
+import io.vertx.rxjava3.BatchMetrics;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BatchLoaderTest extends VertxTestBase {
+
+  private final List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+
+  private Single<Map<Integer, String>> loadAll(List<Integer> keys) {
+    batches.add(keys);
+    Map<Integer, String> values = new HashMap<>();
+    for (Integer key : keys) {
+      if (key >= 0) {
+        values.put(key, "value-" + key);
+      }
+    }
+    return Single.just(values);
+  }
+
+  @Test
+  public void testBatch() throws Exception {
+    BatchLoader<Integer, String> loader = BatchLoader.create(vertx, this::loadAll, 100);
+    Context context = vertx.getOrCreateContext();
+    List<String> results = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch latch = new CountDownLatch(4);
+    context.runOnContext(v -> {
+      for (int key : Arrays.asList(1, 2, 3, 2)) {
+        loader.load(key).subscribe(value -> {
+          results.add(value);
+          latch.countDown();
+        }, this::fail);
+      }
+    });
+    awaitLatch(latch);
+    assertEquals(Collections.singletonList(Arrays.asList(1, 2, 3)), batches);
+    assertEquals(Arrays.asList("value-1", "value-2", "value-2", "value-3"), sorted(results));
+  }
+
+  private static List<String> sorted(List<String> list) {
+    List<String> copy = new ArrayList<>(list);
+    Collections.sort(copy);
+    return copy;
+  }
+
+  @Test
+  public void testMaxBatchSize() throws Exception {
+    BatchLoader<Integer, String> loader = BatchLoader.create(vertx, this::loadAll, 2);
+    CountDownLatch latch = new CountDownLatch(5);
+    vertx.runOnContext(v -> {
+      for (int i = 0; i < 5; i++) {
+        loader.load(i).subscribe(value -> latch.countDown(), this::fail);
+      }
+    });
+    awaitLatch(latch);
+    assertEquals(Arrays.asList(Arrays.asList(0, 1), Arrays.asList(2, 3), Collections.singletonList(4)), batches);
+  }
+
+  @Test
+  public void testMaxDelay() throws Exception {
+    BatchLoader<Integer, String> loader = BatchLoader.create(vertx, this::loadAll, 100, 200, TimeUnit.MILLISECONDS, BatchMetrics.NOOP);
+    CountDownLatch latch = new CountDownLatch(2);
+    vertx.runOnContext(v -> {
+      loader.load(1).subscribe(value -> latch.countDown(), this::fail);
+      // A later event loop iteration
+      vertx.setTimer(10, id -> loader.load(2).subscribe(value -> latch.countDown(), this::fail));
+    });
+    awaitLatch(latch);
+    assertEquals(Collections.singletonList(Arrays.asList(1, 2)), batches);
+  }
+
+  @Test
+  public void testMissingKey() {
+    BatchLoader<Integer, String> loader = BatchLoader.create(vertx, this::loadAll, 100);
+    vertx.runOnContext(v -> {
+      loader.load(1).subscribe(value -> assertEquals("value-1", value), this::fail);
+      loader.load(-1).subscribe(value -> fail(), err -> {
+        assertTrue(err instanceof NoSuchElementException);
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testFailure() throws Exception {
+    BatchLoader<Integer, String> loader = BatchLoader.create(vertx, keys -> Single.error(new IllegalStateException()), 100);
+    CountDownLatch latch = new CountDownLatch(2);
+    vertx.runOnContext(v -> {
+      for (int i = 0; i < 2; i++) {
+        loader.load(i).subscribe(value -> fail(), err -> {
+          assertTrue(err instanceof IllegalStateException);
+          latch.countDown();
+        });
+      }
+    });
+    awaitLatch(latch);
+  }
+
+  @Test
+  public void testNonVertxThread() throws Exception {
+    BatchLoader<Integer, String> loader = BatchLoader.create(vertx, this::loadAll, 100);
+    assertEquals("value-1", loader.load(1).blockingGet());
+    assertEquals(1, batches.size());
+  }
+
+  @Test
+  public void testNonVertxThreadBatch() throws Exception {
+    BatchLoader<Integer, String> loader = BatchLoader.create(vertx, this::loadAll, 100, 200, TimeUnit.MILLISECONDS, BatchMetrics.NOOP);
+    CountDownLatch latch = new CountDownLatch(3);
+    for (int i = 0; i < 3; i++) {
+      loader.load(i).subscribe(value -> latch.countDown(), this::fail);
+    }
+    awaitLatch(latch);
+    // The loads share the context of the loader
+    assertEquals(Collections.singletonList(Arrays.asList(0, 1, 2)), batches);
+  }
+
+  @Test
+  public void testDisposeBeforeDispatch() {
+    AtomicInteger calls = new AtomicInteger();
+    BatchLoader<Integer, String> loader = BatchLoader.create(vertx, keys -> {
+      calls.incrementAndGet();
+      return loadAll(keys);
+    }, 100);
+    vertx.runOnContext(v -> {
+      loader.load(1).subscribe(value -> fail(), this::fail).dispose();
+      loader.load(2).subscribe(value -> {
+        assertEquals(Collections.singletonList(Collections.singletonList(2)), batches);
+        assertEquals(1, calls.get());
+        testComplete();
+      }, this::fail);
+    });
+    await();
+  }
+
+  @Test
+  public void testCancelBatch() {
+    SingleSubject<Map<Integer, String>> call = SingleSubject.create();
+    AtomicInteger cancelled = new AtomicInteger();
+    BatchLoader<Integer, String> loader = BatchLoader.create(vertx, keys -> call, 100, 0L, TimeUnit.MILLISECONDS, new BatchMetrics() {
+      @Override
+      public void cancelled() {
+        cancelled.incrementAndGet();
+      }
+    });
+    vertx.runOnContext(v -> {
+      Disposable first = loader.load(1).subscribe(value -> fail(), this::fail);
+      Disposable second = loader.load(2).subscribe(value -> fail(), this::fail);
+      vertx.runOnContext(v2 -> {
+        assertTrue(call.hasObservers());
+        first.dispose();
+        assertTrue(call.hasObservers());
+        second.dispose();
+        assertFalse(call.hasObservers());
+        assertEquals(1, cancelled.get());
+        testComplete();
+      });
+    });
+    await();
+  }
+}
@@ -0,0 +1,137 @@
+package io.vertx.rxjava3.test;
+
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.subjects.MaybeSubject;
+import io.reactivex.rxjava3.subjects.SingleSubject;
+import io.vertx.rxjava3.MaybeHelper;
+import io.vertx.rxjava3.SingleHelper;
+import io.vertx.rxjava3.impl.TtlCache;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CoalescingTest {
+
+  private final List<SingleSubject<String>> calls = new ArrayList<>();
+
+  private Single<String> load(String key) {
+    SingleSubject<String> call = SingleSubject.create();
+    calls.add(call);
+    return call;
+  }
+
+  @Test
+  public void testCoalesce() {
+    Function<String, Single<String>> lookup = SingleHelper.coalescing(this::load);
+    TestObserver<String> first = lookup.apply("foo").test();
+    TestObserver<String> second = lookup.apply("foo").test();
+    TestObserver<String> other = lookup.apply("bar").test();
+    assertEquals(2, calls.size());
+    calls.get(0).onSuccess("foo-value");
+    first.assertValue("foo-value");
+    second.assertValue("foo-value");
+    other.assertEmpty();
+    // Without cache, a new lookup calls the loader again
+    lookup.apply("foo").test();
+    assertEquals(3, calls.size());
+  }
+
+  @Test
+  public void testFailureNotCached() {
+    Function<String, Single<String>> lookup = SingleHelper.coalescing(this::load, 1, TimeUnit.MINUTES, 16);
+    TestObserver<String> first = lookup.apply("foo").test();
+    TestObserver<String> second = lookup.apply("foo").test();
+    calls.get(0).onError(new IllegalStateException());
+    first.assertError(IllegalStateException.class);
+    second.assertError(IllegalStateException.class);
+    lookup.apply("foo").test();
+    assertEquals(2, calls.size());
+  }
+
+  @Test
+  public void testReferenceCountedDispose() {
+    Function<String, Single<String>> lookup = SingleHelper.coalescing(this::load);
+    TestObserver<String> first = lookup.apply("foo").test();
+    TestObserver<String> second = lookup.apply("foo").test();
+    first.dispose();
+    assertTrue(calls.get(0).hasObservers());
+    second.dispose();
+    assertFalse(calls.get(0).hasObservers());
+    // The disposed call is not shared anymore
+    lookup.apply("foo").test();
+    assertEquals(2, calls.size());
+  }
+
+  @Test
+  public void testDisposedOnSubscribe() {
+    Function<String, Single<String>> lookup = SingleHelper.coalescing(this::load);
+    lookup.apply("foo").test(true).assertEmpty();
+    assertTrue(calls.isEmpty());
+    TestObserver<String> observer = lookup.apply("foo").test();
+    assertEquals(1, calls.size());
+    calls.get(0).onSuccess("foo-value");
+    observer.assertValue("foo-value");
+  }
+
+  @Test
+  public void testCache() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    Function<String, Single<Integer>> lookup = SingleHelper.coalescing(key -> Single.fromCallable(loads::incrementAndGet), 100, TimeUnit.MILLISECONDS, 16);
+    lookup.apply("foo").test().assertValue(1);
+    lookup.apply("foo").test().assertValue(1);
+    lookup.apply("bar").test().assertValue(2);
+    Thread.sleep(150);
+    lookup.apply("foo").test().assertValue(3);
+  }
+
+  @Test
+  public void testMaybeEmptyCached() {
+    AtomicInteger loads = new AtomicInteger();
+    Function<String, Maybe<String>> lookup = MaybeHelper.coalescing(key -> {
+      loads.incrementAndGet();
+      return Maybe.empty();
+    }, 1, TimeUnit.MINUTES, 16);
+    lookup.apply("foo").test().assertComplete().assertNoValues();
+    lookup.apply("foo").test().assertComplete().assertNoValues();
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void testMaybeCoalesce() {
+    MaybeSubject<String> call = MaybeSubject.create();
+    AtomicInteger loads = new AtomicInteger();
+    Function<String, Maybe<String>> lookup = MaybeHelper.coalescing(key -> {
+      loads.incrementAndGet();
+      return call;
+    });
+    TestObserver<String> first = lookup.apply("foo").test();
+    TestObserver<String> second = lookup.apply("foo").test();
+    call.onSuccess("value");
+    first.assertValue("value");
+    second.assertValue("value");
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void testCacheBounded() {
+    TtlCache<Integer, String> cache = new TtlCache<>(1, TimeUnit.MINUTES, 64);
+    for (int i = 0; i < 1000; i++) {
+      cache.put(i, "value-" + i);
+    }
+    assertTrue(cache.size() <= 64);
+    assertEquals("value-999", cache.get(999));
+    cache.invalidate(999);
+    assertNull(cache.get(999));
+  }
+}
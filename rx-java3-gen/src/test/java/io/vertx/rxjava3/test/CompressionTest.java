@@ -0,0 +1,186 @@
+package io.vertx.rxjava3.test;
+
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.rxjava3.FlowableHelper;
+import io.vertx.rxjava3.impl.FlowableCodec;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CompressionTest {
+
+  private static byte[] data(int size) {
+    // Compressible but not trivially
+    Random random = new Random(0);
+    byte[] data = new byte[size];
+    for (int i = 0; i < size; i++) {
+      data[i] = (byte) ('a' + random.nextInt(8));
+    }
+    return data;
+  }
+
+  private static Flowable<Buffer> chunks(byte[] data, int chunkSize) {
+    return Flowable.range(0, (data.length + chunkSize - 1) / chunkSize)
+      .map(i -> Buffer.buffer().appendBytes(data, i * chunkSize, Math.min(chunkSize, data.length - i * chunkSize)));
+  }
+
+  private static byte[] concat(List<Buffer> buffers) {
+    Buffer result = Buffer.buffer();
+    buffers.forEach(result::appendBuffer);
+    return result.getBytes();
+  }
+
+  private static byte[] readFully(InputStream in) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] bytes = new byte[4096];
+    int n;
+    while ((n = in.read(bytes)) != -1) {
+      out.write(bytes, 0, n);
+    }
+    return out.toByteArray();
+  }
+
+  @Test
+  public void testGzip() throws Exception {
+    byte[] data = data(200_000);
+    List<Buffer> compressed = chunks(data, 1000)
+      .compose(FlowableHelper.gzip())
+      .toList()
+      .blockingGet();
+    for (int i = 0; i < compressed.size() - 1; i++) {
+      assertEquals(FlowableCodec.CHUNK_SIZE, compressed.get(i).length());
+    }
+    assertTrue(compressed.get(compressed.size() - 1).length() <= FlowableCodec.CHUNK_SIZE);
+    assertArrayEquals(data, readFully(new GZIPInputStream(new ByteArrayInputStream(concat(compressed)))));
+  }
+
+  @Test
+  public void testGunzip() throws Exception {
+    byte[] data = data(200_000);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(data);
+    }
+    List<Buffer> decompressed = chunks(out.toByteArray(), 100)
+      .compose(FlowableHelper.gunzip())
+      .toList()
+      .blockingGet();
+    assertArrayEquals(data, concat(decompressed));
+  }
+
+  @Test
+  public void testDeflateInflate() {
+    byte[] data = data(100_000);
+    List<Buffer> decompressed = chunks(data, 3000)
+      .compose(FlowableHelper.deflate(9, null))
+      .compose(FlowableHelper.inflate())
+      .toList()
+      .blockingGet();
+    assertArrayEquals(data, concat(decompressed));
+  }
+
+  @Test
+  public void testEmpty() throws Exception {
+    List<Buffer> compressed = Flowable.<Buffer>empty()
+      .compose(FlowableHelper.gzip())
+      .toList()
+      .blockingGet();
+    assertEquals(0, readFully(new GZIPInputStream(new ByteArrayInputStream(concat(compressed)))).length);
+  }
+
+  @Test
+  public void testScheduler() {
+    byte[] data = data(100_000);
+    List<Buffer> decompressed = chunks(data, 1000)
+      .compose(FlowableHelper.gzip(1, Schedulers.computation()))
+      .compose(FlowableHelper.gunzip(Schedulers.computation()))
+      .toList()
+      .blockingGet();
+    assertArrayEquals(data, concat(decompressed));
+  }
+
+  @Test
+  public void testSchedulerRunsCodecOnRequest() {
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+    TestSubscriber<Buffer> subscriber = chunks(data(100_000), 1000)
+      .compose(FlowableHelper.gzip(1, Schedulers.single()))
+      .doOnNext(buffer -> threads.add(Thread.currentThread().getName()))
+      .test(0L);
+    // The requests of this thread do not run the codec
+    for (int i = 0; i < 10; i++) {
+      subscriber.request(1);
+    }
+    subscriber.request(Long.MAX_VALUE);
+    subscriber.awaitDone(10, TimeUnit.SECONDS).assertComplete();
+    assertEquals(1, threads.size());
+    assertTrue(threads.iterator().next().startsWith("RxSingleScheduler"));
+  }
+
+  @Test
+  public void testBackPressure() {
+    AtomicLong requested = new AtomicLong();
+    TestSubscriber<Buffer> subscriber = chunks(data(100_000), 1000)
+      .doOnRequest(requested::addAndGet)
+      .compose(FlowableHelper.deflate())
+      .compose(FlowableHelper.inflate())
+      .test(0L);
+    subscriber.assertNoValues();
+    subscriber.request(1);
+    subscriber.assertValueCount(1);
+    assertTrue(requested.get() < 100);
+    subscriber.request(Long.MAX_VALUE);
+    subscriber.assertComplete();
+  }
+
+  @Test
+  public void testInflateBackPressure() throws Exception {
+    // Zeros compress about 1000 to 1, the 8 MB are a single compressed buffer
+    int size = 8 * 1024 * 1024;
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(new byte[size]);
+    }
+    Buffer compressed = Buffer.buffer(out.toByteArray());
+    TestSubscriber<Buffer> subscriber = Flowable.just(compressed)
+      .compose(FlowableHelper.gunzip())
+      .test(0L);
+    subscriber.request(1);
+    subscriber.assertValueCount(1).assertNotComplete();
+    assertEquals(FlowableCodec.CHUNK_SIZE, subscriber.values().get(0).length());
+    // Completes with the last demanded chunk
+    subscriber.request(size / FlowableCodec.CHUNK_SIZE - 1);
+    subscriber.assertValueCount(size / FlowableCodec.CHUNK_SIZE).assertComplete();
+    for (Buffer chunk : subscriber.values()) {
+      assertEquals(FlowableCodec.CHUNK_SIZE, chunk.length());
+      for (int i = 0; i < chunk.length(); i++) {
+        assertEquals(0, chunk.getByte(i));
+      }
+    }
+  }
+
+  @Test
+  public void testCorrupted() {
+    Flowable.just(Buffer.buffer("not compressed data"))
+      .compose(FlowableHelper.gunzip())
+      .test()
+      .assertNoValues()
+      .assertError(Exception.class);
+  }
+}
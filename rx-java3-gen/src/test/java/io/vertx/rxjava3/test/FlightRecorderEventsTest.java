@@ -0,0 +1,142 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3.test;
+
+import io.reactivex.rxjava3.core.Scheduler;
+import io.vertx.lang.rx.test.FakeWriteStream;
+import io.vertx.rxjava3.FlowableHelper;
+import io.vertx.rxjava3.RxHelper;
+import io.vertx.test.core.VertxTestBase;
+import io.vertx.test.fakestream.FakeStream;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Records the events with Flight Recorder, the JFR API is used reflectively since the tests compile against the
+ * Java 8 API.
+ */
+public class FlightRecorderEventsTest extends VertxTestBase {
+
+  private static final String TASK_SCHEDULED = "io.vertx.rx.TaskScheduled";
+  private static final String TASK_EXECUTED = "io.vertx.rx.TaskExecuted";
+  private static final String STREAM_PAUSED = "io.vertx.rx.StreamPaused";
+  private static final String STREAM_RESUMED = "io.vertx.rx.StreamResumed";
+  private static final String WRITE_QUEUE_FULL = "io.vertx.rx.WriteQueueFull";
+  private static final String WRITE_QUEUE_DRAINED = "io.vertx.rx.WriteQueueDrained";
+
+  private static Class<?> recordingClass() {
+    try {
+      return Class.forName("jdk.jfr.Recording");
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+  }
+
+  @Test
+  public void testSchedulerEvents() throws Exception {
+    List<Object> events = record(() -> {
+      Scheduler.Worker worker = RxHelper.scheduler(vertx).createWorker();
+      CountDownLatch latch = new CountDownLatch(2);
+      worker.schedule(latch::countDown);
+      worker.schedule(latch::countDown);
+      awaitLatch(latch);
+      worker.dispose();
+    }, TASK_SCHEDULED, TASK_EXECUTED);
+    List<Long> scheduled = correlationIds(events, TASK_SCHEDULED);
+    List<Long> executed = correlationIds(events, TASK_EXECUTED);
+    assertEquals(2, scheduled.size());
+    assertEquals(2, executed.size());
+    // The events of a worker share its correlation id
+    long correlationId = scheduled.get(0);
+    assertTrue(correlationId > 0L);
+    assertEquals(correlationId, (long) scheduled.get(1));
+    assertEquals(correlationId, (long) executed.get(0));
+    assertEquals(correlationId, (long) executed.get(1));
+  }
+
+  @Test
+  public void testPipeEvents() throws Exception {
+    List<Object> events = record(() -> {
+      FakeStream<Integer> stream = new FakeStream<>();
+      FakeWriteStream writeStream = new FakeWriteStream(vertx);
+      CountDownLatch latch = new CountDownLatch(1);
+      vertx.runOnContext(v -> {
+        FlowableHelper.toFlowable(stream)
+          .subscribe(RxHelper.toSubscriber(writeStream).onWriteStreamEnd(latch::countDown));
+        for (int i = 0; i < 10000; i++) {
+          stream.write(i);
+        }
+        stream.end();
+      });
+      awaitLatch(latch);
+    }, STREAM_PAUSED, STREAM_RESUMED, WRITE_QUEUE_FULL, WRITE_QUEUE_DRAINED);
+    List<Long> paused = correlationIds(events, STREAM_PAUSED);
+    List<Long> resumed = correlationIds(events, STREAM_RESUMED);
+    assertFalse(paused.isEmpty());
+    assertFalse(resumed.isEmpty());
+    assertEquals(paused.get(0), resumed.get(0));
+    assertFalse(correlationIds(events, WRITE_QUEUE_FULL).isEmpty());
+    assertFalse(correlationIds(events, WRITE_QUEUE_DRAINED).isEmpty());
+  }
+
+  interface Body {
+    void run() throws Exception;
+  }
+
+  private List<Object> record(Body body, String... names) throws Exception {
+    Class<?> recordingClass = recordingClass();
+    Assume.assumeNotNull(recordingClass);
+    Object recording = recordingClass.getConstructor().newInstance();
+    try {
+      for (String name : names) {
+        recordingClass.getMethod("enable", String.class).invoke(recording, name);
+      }
+      recordingClass.getMethod("start").invoke(recording);
+      body.run();
+      recordingClass.getMethod("stop").invoke(recording);
+      File file = File.createTempFile("rx", ".jfr");
+      file.deleteOnExit();
+      recordingClass.getMethod("dump", Path.class).invoke(recording, file.toPath());
+      return readAllEvents(file.toPath());
+    } finally {
+      recordingClass.getMethod("close").invoke(recording);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Object> readAllEvents(Path path) throws Exception {
+    Class<?> recordingFile = Class.forName("jdk.jfr.consumer.RecordingFile");
+    return (List<Object>) recordingFile.getMethod("readAllEvents", Path.class).invoke(null, path);
+  }
+
+  private static List<Long> correlationIds(List<Object> events, String name) throws Exception {
+    List<Long> ids = new ArrayList<>();
+    for (Object event : events) {
+      Object type = event.getClass().getMethod("getEventType").invoke(event);
+      if (name.equals(type.getClass().getMethod("getName").invoke(type))) {
+        ids.add((Long) event.getClass().getMethod("getLong", String.class).invoke(event, "correlationId"));
+      }
+    }
+    return ids;
+  }
+}
@@ -0,0 +1,79 @@
+package io.vertx.rxjava3.test;
+
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.processors.PublishProcessor;
+import io.reactivex.rxjava3.schedulers.TestScheduler;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import io.vertx.rxjava3.impl.FlowableBatcher;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+
+public class FlowableBatcherTest {
+
+  @Test
+  public void testBatchBySize() {
+    Flowable.range(0, 7)
+      .compose(new FlowableBatcher<>(3, null, 0L, 0L, null, null))
+      .test()
+      .assertValues(Arrays.asList(0, 1, 2), Arrays.asList(3, 4, 5), Arrays.asList(6))
+      .assertComplete();
+  }
+
+  @Test
+  public void testBatchByWeight() {
+    Flowable.just("a", "bb", "ccc", "d")
+      .compose(new FlowableBatcher<String>(10, String::length, 3L, 0L, null, null))
+      .test()
+      .assertValues(Arrays.asList("a", "bb"), Arrays.asList("ccc"), Arrays.asList("d"))
+      .assertComplete();
+  }
+
+  @Test
+  public void testBatchByDelay() {
+    TestScheduler scheduler = new TestScheduler();
+    PublishProcessor<Integer> source = PublishProcessor.create();
+    TestSubscriber<List<Integer>> subscriber = source
+      .compose(new FlowableBatcher<>(10, null, 0L, 100L, TimeUnit.MILLISECONDS, scheduler))
+      .test();
+    source.onNext(0);
+    source.onNext(1);
+    subscriber.assertNoValues();
+    scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+    subscriber.assertValues(Arrays.asList(0, 1));
+    source.onNext(2);
+    source.onComplete();
+    subscriber.assertValues(Arrays.asList(0, 1), Arrays.asList(2));
+    subscriber.assertComplete();
+  }
+
+  @Test
+  public void testBackPressure() {
+    AtomicLong requested = new AtomicLong();
+    TestSubscriber<List<Integer>> subscriber = Flowable.range(0, 100)
+      .doOnRequest(requested::addAndGet)
+      .compose(new FlowableBatcher<>(4, null, 0L, 0L, null, null))
+      .test(0L);
+    // A single batch is buffered ahead
+    assertEquals(4L, requested.get());
+    subscriber.assertNoValues();
+    subscriber.request(1);
+    subscriber.assertValues(Arrays.asList(0, 1, 2, 3));
+    assertEquals(8L, requested.get());
+  }
+
+  @Test
+  public void testError() {
+    Throwable failure = new Throwable();
+    Flowable.range(0, 2).concatWith(Flowable.error(failure))
+      .compose(new FlowableBatcher<>(3, null, 0L, 0L, null, null))
+      .test()
+      .assertNoValues()
+      .assertError(failure);
+  }
+}
@@ -1,6 +1,10 @@
 package io.vertx.rxjava3.test;
 
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
+import io.reactivex.rxjava3.internal.fuseable.QueueFuseable;
+import io.reactivex.rxjava3.internal.fuseable.QueueSubscription;
+import io.reactivex.rxjava3.schedulers.Schedulers;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.streams.ReadStream;
@@ -10,8 +14,13 @@ import io.vertx.lang.rx.test.ReadStreamAdapterBackPressureTest;
 import io.vertx.rxjava3.impl.FlowableReadStream;
 import io.vertx.test.fakestream.FakeStream;
 import org.junit.Test;
+import org.reactivestreams.Subscription;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 /**
@@ -80,4 +89,69 @@ public class FlowableReadStreamAdapterBackPressureTest extends ReadStreamAdapter
     subscribe(observable, subscriber);
     subscriber.assertEmpty();
   }
+
+  @Test
+  public void testAsyncFusion() throws Throwable {
+    FakeStream<Buffer> stream = new FakeStream<>();
+    AtomicReference<QueueSubscription<Buffer>> subscription = new AtomicReference<>();
+    AtomicInteger signals = new AtomicInteger();
+    AtomicBoolean completed = new AtomicBoolean();
+    toObservable(stream).subscribe(new FlowableSubscriber<Buffer>() {
+      @Override
+      public void onSubscribe(Subscription s) {
+        QueueSubscription<Buffer> qs = (QueueSubscription<Buffer>) s;
+        assertEquals(QueueFuseable.ASYNC, qs.requestFusion(QueueFuseable.ANY));
+        subscription.set(qs);
+        qs.request(2);
+      }
+      @Override
+      public void onNext(Buffer buffer) {
+        assertNull(buffer);
+        signals.incrementAndGet();
+      }
+      @Override
+      public void onError(Throwable t) {
+        fail(t);
+      }
+      @Override
+      public void onComplete() {
+        completed.set(true);
+      }
+    });
+    stream.write(Buffer.buffer("0"));
+    stream.write(Buffer.buffer("1"));
+    stream.write(Buffer.buffer("2"));
+    QueueSubscription<Buffer> qs = subscription.get();
+    assertEquals(2, signals.get());
+    assertEquals("0", qs.poll().toString());
+    assertEquals("1", qs.poll().toString());
+    assertNull(qs.poll());
+    assertTrue(qs.isEmpty());
+    qs.request(1);
+    assertEquals(3, signals.get());
+    stream.end();
+    assertTrue(completed.get());
+    assertEquals("2", qs.poll().toString());
+    assertNull(qs.poll());
+  }
+
+  @Test
+  public void testObserveOnFusion() {
+    FakeStream<Buffer> stream = new FakeStream<>();
+    List<String> received = new ArrayList<>();
+    toObservable(stream)
+      .observeOn(Schedulers.single())
+      .subscribe(buffer -> received.add(buffer.toString()), this::fail, () -> {
+        assertEquals(1000, received.size());
+        for (int i = 0; i < 1000; i++) {
+          assertEquals("" + i, received.get(i));
+        }
+        testComplete();
+      });
+    for (int i = 0; i < 1000; i++) {
+      stream.write(Buffer.buffer("" + i));
+    }
+    stream.end();
+    await();
+  }
 }
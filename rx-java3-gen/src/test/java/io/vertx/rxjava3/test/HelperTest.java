@@ -10,17 +10,29 @@ import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.core.SingleObserver;
 import io.reactivex.rxjava3.functions.Function;
 import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjava3.processors.PublishProcessor;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.rxjava3.CompletableHelper;
 import io.vertx.rxjava3.FlowableHelper;
 import io.vertx.rxjava3.MaybeHelper;
 import io.vertx.rxjava3.ObservableHelper;
 import io.vertx.rxjava3.SingleHelper;
+import io.vertx.rxjava3.impl.MappedFile;
+import io.vertx.rxjava3.StreamMetrics;
 import io.vertx.test.core.VertxTestBase;
 import io.vertx.test.fakestream.FakeStream;
 import org.junit.Test;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static java.util.function.Function.identity;
 
 /**
@@ -157,4 +169,119 @@ public class HelperTest extends VertxTestBase {
       RxJavaPlugins.reset();
     }
   }
+
+  @Test
+  public void testMappedFile() throws Exception {
+    byte[] content = new byte[100_000];
+    new Random().nextBytes(content);
+    File file = File.createTempFile("mapped", ".bin");
+    file.deleteOnExit();
+    Files.write(file.toPath(), content);
+    List<Buffer> chunks = FlowableHelper.mappedFile(vertx, file.getAbsolutePath(), 4096).toList().blockingGet();
+    assertEquals((content.length + 4095) / 4096, chunks.size());
+    Buffer result = Buffer.buffer();
+    for (Buffer chunk : chunks) {
+      assertTrue(chunk.length() <= 4096);
+      result.appendBuffer(chunk);
+    }
+    assertEquals(Buffer.buffer(content), result);
+  }
+
+  @Test
+  public void testMappedFileWindows() throws Exception {
+    byte[] content = new byte[10_500];
+    new Random().nextBytes(content);
+    File file = File.createTempFile("mapped", ".bin");
+    file.deleteOnExit();
+    Files.write(file.toPath(), content);
+    // Windows of 4000 bytes
+    Flowable<Buffer> flowable = MappedFile.flowable(file.getAbsolutePath(), 1000, 4500);
+    flowable.test(0L)
+      .requestMore(3)
+      .assertValueCount(3)
+      .assertNotComplete();
+    List<Buffer> chunks = flowable.toList().blockingGet();
+    assertEquals(11, chunks.size());
+    assertEquals(500, chunks.get(10).length());
+    Buffer result = Buffer.buffer();
+    chunks.forEach(result::appendBuffer);
+    assertEquals(Buffer.buffer(content), result);
+  }
+
+  @Test
+  public void testWriteToFile() throws Exception {
+    File file = File.createTempFile("written", ".txt");
+    file.deleteOnExit();
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 10_000; i++) {
+      expected.append("line-").append(i).append('\n');
+    }
+    Flowable<Buffer> lines = Flowable.range(0, 10_000).map(i -> Buffer.buffer("line-" + i + "\n"));
+    FlowableHelper.writeToFile(vertx, lines, file.getAbsolutePath(), new OpenOptions().setTruncateExisting(true))
+      .blockingAwait();
+    assertEquals(expected.toString(), new String(Files.readAllBytes(file.toPath())));
+  }
+
+  @Test
+  public void testWriteToFileAppendAndSync() throws Exception {
+    File file = File.createTempFile("written", ".txt");
+    file.deleteOnExit();
+    Files.write(file.toPath(), "head\n".getBytes());
+    AtomicLong written = new AtomicLong();
+    AtomicLong synced = new AtomicLong();
+    StreamMetrics metrics = new StreamMetrics() {
+      @Override
+      public void written(long bytes) {
+        written.addAndGet(bytes);
+      }
+      @Override
+      public void synced() {
+        synced.incrementAndGet();
+      }
+    };
+    Flowable<Buffer> chunks = Flowable.range(0, 100).map(i -> Buffer.buffer(new byte[1000]));
+    FlowableHelper.writeToFile(vertx, chunks, file.getAbsolutePath(), new OpenOptions().setAppend(true), 10_000, 0, metrics)
+      .blockingAwait();
+    assertEquals(100_000, written.get());
+    assertTrue(synced.get() >= 1);
+    assertEquals(100_005, file.length());
+  }
+
+  @Test
+  public void testToReadStreamReleasesBufferedOnCancel() {
+    AtomicLong buffered = new AtomicLong();
+    StreamMetrics metrics = new StreamMetrics() {
+      @Override
+      public void buffered() {
+        buffered.incrementAndGet();
+      }
+      @Override
+      public void unbuffered() {
+        buffered.decrementAndGet();
+      }
+    };
+    PublishProcessor<Integer> processor = PublishProcessor.create();
+    ReadStream<Integer> stream = FlowableHelper.toReadStream(processor, metrics);
+    stream.pause();
+    stream.handler(item -> fail());
+    processor.onNext(0);
+    processor.onNext(1);
+    processor.onNext(2);
+    assertEquals(3, buffered.get());
+    stream.handler(null);
+    assertEquals(0, buffered.get());
+    assertFalse(processor.hasSubscribers());
+  }
+
+  @Test
+  public void testWriteToFileError() throws Exception {
+    File file = File.createTempFile("written", ".txt");
+    file.deleteOnExit();
+    Exception expected = new Exception();
+    Flowable<Buffer> chunks = Flowable.concat(Flowable.just(Buffer.buffer("foo")), Flowable.error(expected));
+    FlowableHelper.writeToFile(vertx, chunks, file.getAbsolutePath(), new OpenOptions())
+      .test()
+      .await()
+      .assertError(expected);
+  }
 }
@@ -0,0 +1,160 @@
+package io.vertx.rxjava3.test;
+
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.rxjava3.FlowableHelper;
+import io.vertx.rxjava3.impl.FlowableMapBlocking;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class MapBlockingTest extends VertxTestBase {
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static List<Integer> range(int count) {
+    return IntStream.range(0, count).boxed().collect(Collectors.toList());
+  }
+
+  @Test
+  public void testOrdered() {
+    Context context = vertx.getOrCreateContext();
+    AtomicInteger concurrent = new AtomicInteger();
+    AtomicInteger maxConcurrent = new AtomicInteger();
+    List<Integer> results = new ArrayList<>();
+    context.runOnContext(v -> Flowable.range(0, 500)
+      .compose(FlowableHelper.mapBlocking(vertx, i -> {
+        assertTrue(Context.isOnWorkerThread());
+        int n = concurrent.incrementAndGet();
+        maxConcurrent.accumulateAndGet(n, Math::max);
+        // Later items complete first
+        sleep(i % 3 == 0 ? 2 : 0);
+        concurrent.decrementAndGet();
+        return i * 2;
+      }, 4, true))
+      .subscribe(result -> {
+        assertSame(context, Vertx.currentContext());
+        results.add(result);
+      }, this::fail, () -> {
+        assertSame(context, Vertx.currentContext());
+        assertEquals(range(500).stream().map(i -> i * 2).collect(Collectors.toList()), results);
+        assertTrue(maxConcurrent.get() <= 4);
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testUnordered() {
+    List<Integer> results = Collections.synchronizedList(new ArrayList<>());
+    Flowable.range(0, 500)
+      .compose(FlowableHelper.mapBlocking(vertx, i -> {
+        sleep(i % 7 == 0 ? 2 : 0);
+        return i;
+      }, 8, false))
+      .subscribe(results::add, this::fail, () -> {
+        List<Integer> sorted = new ArrayList<>(results);
+        Collections.sort(sorted);
+        assertEquals(range(500), sorted);
+        testComplete();
+      });
+    await();
+  }
+
+  @Test
+  public void testWorkerExecutor() {
+    WorkerExecutor executor = vertx.createSharedWorkerExecutor("map-blocking-test", 2);
+    Flowable.range(0, 100)
+      .compose(FlowableHelper.mapBlocking(executor, i -> {
+        assertTrue(Thread.currentThread().getName().startsWith("map-blocking-test"));
+        return i;
+      }, 2, true))
+      .toList()
+      .subscribe(results -> {
+        assertEquals(range(100), results);
+        executor.close();
+        testComplete();
+      }, this::fail);
+    await();
+  }
+
+  @Test
+  public void testMapperFailure() {
+    List<Integer> results = Collections.synchronizedList(new ArrayList<>());
+    Flowable.range(0, 100)
+      .compose(FlowableHelper.mapBlocking(vertx, i -> {
+        if (i == 50) {
+          throw new IllegalArgumentException();
+        }
+        return i;
+      }, 4, true))
+      .subscribe(results::add, err -> {
+        assertTrue(err instanceof IllegalArgumentException);
+        // Ordered, every result before the failure has been emitted
+        assertEquals(range(50), results);
+        testComplete();
+      }, this::fail);
+    await();
+  }
+
+  @Test
+  public void testBackPressure() throws Exception {
+    int parallelism = 2;
+    AtomicLong requested = new AtomicLong();
+    AtomicInteger mapped = new AtomicInteger();
+    TestSubscriber<Integer> subscriber = Flowable.range(0, 1000)
+      .doOnRequest(requested::addAndGet)
+      .compose(FlowableHelper.<Integer, Integer>mapBlocking(vertx, i -> {
+        mapped.incrementAndGet();
+        return i;
+      }, parallelism, true))
+      .test(0L);
+    subscriber.request(10);
+    subscriber.awaitCount(10);
+    // Wait for the prefetched items to be mapped
+    waitUntil(() -> mapped.get() == parallelism * FlowableMapBlocking.MAX_BATCH_SIZE);
+    assertEquals(parallelism * FlowableMapBlocking.MAX_BATCH_SIZE, requested.get());
+    subscriber.assertValueCount(10);
+    subscriber.request(Long.MAX_VALUE);
+    subscriber.await(10, TimeUnit.SECONDS);
+    subscriber.assertValueSequence(range(1000)).assertComplete();
+  }
+
+  @Test
+  public void testCancel() {
+    AtomicInteger mapped = new AtomicInteger();
+    Flowable.range(0, 1000)
+      .compose(FlowableHelper.mapBlocking(vertx, i -> {
+        mapped.incrementAndGet();
+        sleep(1);
+        return i;
+      }, 2, true))
+      .take(5)
+      .toList()
+      .subscribe(results -> {
+        assertEquals(range(5), results);
+        vertx.setTimer(100, id -> {
+          assertTrue(mapped.get() <= 2 * FlowableMapBlocking.MAX_BATCH_SIZE);
+          testComplete();
+        });
+      }, this::fail);
+    await();
+  }
+}
@@ -1,6 +1,10 @@
 package io.vertx.rxjava3.test;
 
 import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.internal.fuseable.QueueDisposable;
+import io.reactivex.rxjava3.internal.fuseable.QueueFuseable;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.streams.ReadStream;
@@ -11,6 +15,8 @@ import io.vertx.test.fakestream.FakeStream;
 import org.junit.Test;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -59,4 +65,43 @@ public class ObservableReadStreamAdapterTest extends ReadStreamAdapterTestBase<B
     subscribe(observable, subscriber);
     subscriber.assertEmpty();
   }
+
+  @Test
+  public void testAsyncFusion() throws Throwable {
+    FakeStream<Buffer> stream = new FakeStream<>();
+    AtomicReference<QueueDisposable<Buffer>> disposable = new AtomicReference<>();
+    AtomicInteger signals = new AtomicInteger();
+    AtomicBoolean completed = new AtomicBoolean();
+    toObservable(stream).subscribe(new Observer<Buffer>() {
+      @Override
+      public void onSubscribe(Disposable d) {
+        QueueDisposable<Buffer> qd = (QueueDisposable<Buffer>) d;
+        assertEquals(QueueFuseable.ASYNC, qd.requestFusion(QueueFuseable.ANY));
+        disposable.set(qd);
+      }
+      @Override
+      public void onNext(Buffer buffer) {
+        assertNull(buffer);
+        signals.incrementAndGet();
+      }
+      @Override
+      public void onError(Throwable t) {
+        fail(t);
+      }
+      @Override
+      public void onComplete() {
+        completed.set(true);
+      }
+    });
+    stream.write(Buffer.buffer("0"));
+    stream.write(Buffer.buffer("1"));
+    stream.end();
+    QueueDisposable<Buffer> qd = disposable.get();
+    assertEquals(2, signals.get());
+    assertTrue(completed.get());
+    assertEquals("0", qd.poll().toString());
+    assertEquals("1", qd.poll().toString());
+    assertNull(qd.poll());
+    assertTrue(qd.isEmpty());
+  }
 }
@@ -0,0 +1,150 @@
+package io.vertx.rxjava3.test;
+
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.rxjava3.FlowableHelper;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class RecordParserTest {
+
+  private static Flowable<Buffer> chunks(String... chunks) {
+    return Flowable.fromArray(chunks).map(Buffer::buffer);
+  }
+
+  private static List<String> strings(List<Buffer> records) {
+    return records.stream().map(Buffer::toString).collect(Collectors.toList());
+  }
+
+  @Test
+  public void testDelimited() {
+    List<Buffer> records = chunks("foo\nba", "r\nbaz\n", "", "qux")
+      .compose(FlowableHelper.recordParser("\n", 16))
+      .toList()
+      .blockingGet();
+    assertEquals(Arrays.asList("foo", "bar", "baz", "qux"), strings(records));
+  }
+
+  @Test
+  public void testDelimiterSpanningBuffers() {
+    List<Buffer> records = chunks("a\r", "\nb\r\n", "\r\n")
+      .compose(FlowableHelper.recordParser("\r\n", 16))
+      .toList()
+      .blockingGet();
+    assertEquals(Arrays.asList("a", "b", ""), strings(records));
+  }
+
+  @Test
+  public void testRecordsAreSlices() {
+    Buffer buffer = Buffer.buffer("foo\nbar\n");
+    List<Buffer> records = Flowable.just(buffer)
+      .compose(FlowableHelper.recordParser("\n", 16))
+      .toList()
+      .blockingGet();
+    buffer.setByte(4, (byte) 'c');
+    assertEquals(Arrays.asList("foo", "car"), strings(records));
+  }
+
+  @Test
+  public void testRecordTooLong() {
+    chunks("abc\n", "abcd", "ef\n")
+      .compose(FlowableHelper.recordParser("\n", 4))
+      .test()
+      .assertValueCount(1)
+      .assertError(IllegalStateException.class);
+  }
+
+  @Test
+  public void testFixedSize() {
+    List<Buffer> records = chunks("ab", "cdefg", "h", "ijkl")
+      .compose(FlowableHelper.fixedSize(4))
+      .toList()
+      .blockingGet();
+    assertEquals(Arrays.asList("abcd", "efgh", "ijkl"), strings(records));
+  }
+
+  @Test
+  public void testFixedSizeTruncated() {
+    chunks("abcde")
+      .compose(FlowableHelper.fixedSize(4))
+      .test()
+      .assertValue(record -> record.toString().equals("abcd"))
+      .assertError(IllegalStateException.class);
+  }
+
+  @Test
+  public void testLengthPrefixed() {
+    Buffer frames = Buffer.buffer()
+      .appendUnsignedShort(3).appendString("foo")
+      .appendUnsignedShort(0)
+      .appendUnsignedShort(6).appendString("barbaz");
+    // One byte per buffer
+    List<Buffer> bytes = new ArrayList<>();
+    for (int i = 0; i < frames.length(); i++) {
+      bytes.add(frames.getBuffer(i, i + 1));
+    }
+    List<Buffer> records = Flowable.fromIterable(bytes)
+      .compose(FlowableHelper.lengthPrefixed(2, 16))
+      .toList()
+      .blockingGet();
+    assertEquals(Arrays.asList("foo", "", "barbaz"), strings(records));
+  }
+
+  @Test(timeout = 10_000)
+  public void testRecordSpanningManySmallBuffers() {
+    int size = 4 * 1024 * 1024;
+    Buffer large = Buffer.buffer(size);
+    for (int i = 0; i < size; i++) {
+      large.appendByte((byte) i);
+    }
+    Buffer frames = Buffer.buffer()
+      .appendInt(3).appendString("foo")
+      .appendInt(size).appendBuffer(large)
+      .appendInt(3).appendString("bar");
+    // The large record spans 65536 buffers, it is accumulated without copying the previous buffers again
+    int chunkSize = 64;
+    List<Buffer> records = Flowable.range(0, (frames.length() + chunkSize - 1) / chunkSize)
+      .map(i -> frames.getBuffer(i * chunkSize, Math.min(frames.length(), (i + 1) * chunkSize)))
+      .compose(FlowableHelper.lengthPrefixed(4, size))
+      .toList()
+      .blockingGet();
+    assertEquals(3, records.size());
+    assertEquals("foo", records.get(0).toString());
+    assertEquals(large, records.get(1));
+    assertEquals("bar", records.get(2).toString());
+  }
+
+  @Test
+  public void testLengthPrefixedTooLong() {
+    Flowable.just(Buffer.buffer().appendInt(17))
+      .compose(FlowableHelper.lengthPrefixed(4, 16))
+      .test()
+      .assertNoValues()
+      .assertError(IllegalStateException.class);
+  }
+
+  @Test
+  public void testBackPressure() {
+    AtomicLong requested = new AtomicLong();
+    TestSubscriber<Buffer> subscriber = Flowable.range(0, 100)
+      .map(i -> Buffer.buffer(i + "\n"))
+      .doOnRequest(requested::addAndGet)
+      .compose(FlowableHelper.recordParser("\n", 16))
+      .test(0L);
+    subscriber.assertNoValues();
+    assertEquals(0, requested.get());
+    subscriber.request(2);
+    subscriber.assertValueCount(2);
+    assertEquals(2, requested.get());
+    subscriber.request(Long.MAX_VALUE);
+    subscriber.assertValueCount(100).assertComplete();
+  }
+}
@@ -5,15 +5,26 @@ import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.core.Scheduler;
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjava3.schedulers.Schedulers;
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
 import io.vertx.rxjava3.ContextScheduler;
 import io.vertx.rxjava3.RxHelper;
+import io.vertx.rxjava3.StallDetector;
+import io.vertx.rxjava3.VertxRxPlugins;
+import io.vertx.rxjava3.SchedulerMetrics;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -40,6 +51,8 @@ public class SchedulerTest extends VertxTestBase {
   protected void tearDown() throws Exception {
     workerExecutor.close();
     super.tearDown();
+    VertxRxPlugins.uninstall();
+    StallDetector.uninstall();
     RxJavaPlugins.setScheduleHandler(null);
   }
 
@@ -431,4 +444,342 @@ public class SchedulerTest extends VertxTestBase {
       .subscribe(value -> latch.countDown());
     assertFalse("doOnError should not have been invoked", latch.await(1, SECONDS));
   }
+
+  @Test
+  public void testInlineOnSameContext() {
+    Context context = vertx.getOrCreateContext();
+    context.runOnContext(v -> {
+      Scheduler.Worker worker = RxHelper.scheduler(context, true).createWorker();
+      List<String> events = new ArrayList<>();
+      worker.schedule(() -> {
+        events.add("outer-start");
+        worker.schedule(() -> events.add("nested"));
+        events.add("outer-end");
+      });
+      events.add("scheduled");
+      // Nested actions are trampolined and do not run on top of the outer action
+      assertEquals(Arrays.asList("outer-start", "outer-end", "nested", "scheduled"), events);
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testInlineFromAnotherThread() throws Exception {
+    Context context = vertx.getOrCreateContext();
+    Scheduler.Worker worker = RxHelper.scheduler(context, true).createWorker();
+    CountDownLatch latch = new CountDownLatch(1);
+    worker.schedule(() -> {
+      assertSame(context, Vertx.currentContext());
+      latch.countDown();
+    });
+    awaitLatch(latch);
+  }
+
+  @Test
+  public void testInlineDispatchedActionTrampolinesNestedActions() {
+    Context context = vertx.getOrCreateContext();
+    Scheduler.Worker worker = RxHelper.scheduler(context, true).createWorker();
+    List<String> events = Collections.synchronizedList(new ArrayList<>());
+    // Scheduled from a non Vert.x thread, the outer action is dispatched with runOnContext
+    worker.schedule(() -> {
+      assertSame(context, Vertx.currentContext());
+      events.add("outer-start");
+      worker.schedule(() -> {
+        events.add("nested");
+        worker.schedule(() -> {
+          events.add("nested-nested");
+          assertEquals(Arrays.asList("outer-start", "outer-end", "nested", "nested-end", "nested-nested"), events);
+          testComplete();
+        });
+        events.add("nested-end");
+      });
+      events.add("outer-end");
+    });
+    await();
+  }
+
+  private static Thread thread(Context context) throws Exception {
+    CompletableFuture<Thread> thread = new CompletableFuture<>();
+    context.runOnContext(v -> thread.complete(Thread.currentThread()));
+    return thread.get(10, SECONDS);
+  }
+
+  @Test
+  public void testInlineTrampolineIsPerContext() throws Exception {
+    Scheduler.Worker worker = RxHelper.scheduler(vertx, true).createWorker();
+    Context contextA = vertx.getOrCreateContext();
+    Context contextB;
+    do {
+      contextB = vertx.getOrCreateContext();
+    } while (thread(contextB) == thread(contextA));
+    Context b = contextB;
+    CountDownLatch ran = new CountDownLatch(1);
+    contextA.runOnContext(v -> {
+      worker.schedule(() -> {
+        // While context A drains its actions, an action scheduled on context B runs on context B
+        b.runOnContext(v2 -> worker.schedule(() -> {
+          assertSame(b, Vertx.currentContext());
+          ran.countDown();
+        }));
+        try {
+          assertTrue(ran.await(10, SECONDS));
+        } catch (InterruptedException e) {
+          fail(e);
+        }
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testInlineFromExecuteBlocking() {
+    Context context = vertx.getOrCreateContext();
+    Scheduler.Worker worker = RxHelper.scheduler(context, true).createWorker();
+    context.executeBlocking(() -> {
+      Thread blockingThread = Thread.currentThread();
+      // The context is current on the worker thread, the action is not run inline
+      worker.schedule(() -> {
+        assertNotSame(blockingThread, Thread.currentThread());
+        assertEventLoopThread(Thread.currentThread());
+        assertSame(context, Vertx.currentContext());
+        testComplete();
+      });
+      return null;
+    });
+    await();
+  }
+
+  @Test
+  public void testInlineObserveOnPreservesOrder() {
+    Context context = vertx.getOrCreateContext();
+    context.runOnContext(v -> {
+      List<Integer> items = new ArrayList<>();
+      Flowable.range(0, 1000)
+        .observeOn(RxHelper.scheduler(context, true))
+        .doOnNext(i -> assertSame(context, Vertx.currentContext()))
+        .subscribe(items::add, this::fail, () -> {
+          assertEquals(1000, items.size());
+          for (int i = 0; i < items.size(); i++) {
+            assertEquals(i, (int) items.get(i));
+          }
+          testComplete();
+        });
+    });
+    await();
+  }
+
+  @Test
+  public void testPluginsInstall() {
+    VertxRxPlugins.install(vertx);
+    assertSame(Schedulers.computation(), Schedulers.computation());
+    assertSame(Schedulers.computation(), Schedulers.single());
+    assertSame(Schedulers.computation(), Schedulers.newThread());
+    assertNotSame(Schedulers.computation(), Schedulers.io());
+    Context context = vertx.getOrCreateContext();
+    context.runOnContext(v -> {
+      Flowable.interval(1, MILLISECONDS)
+        .take(3)
+        .buffer(10, MILLISECONDS)
+        .delay(1, MILLISECONDS)
+        .doOnNext(list -> assertSame(context, Vertx.currentContext()))
+        .ignoreElements()
+        .subscribe(this::testComplete, this::fail);
+    });
+    await();
+  }
+
+  @Test
+  public void testPluginsIoScheduler() {
+    VertxRxPlugins.install(vertx);
+    Flowable.just(0)
+      .observeOn(Schedulers.io())
+      .subscribe(v -> {
+        assertTrue(Context.isOnWorkerThread());
+        testComplete();
+      }, this::fail);
+    await();
+  }
+
+  @Test
+  public void testPluginsCaptureContext() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      VertxRxPlugins.install(vertx);
+      Scheduler scheduler = Schedulers.from(executor);
+      Context context = vertx.getOrCreateContext();
+      context.runOnContext(v -> {
+        scheduler.scheduleDirect(() -> {
+          // Dispatched back to the event loop
+          assertEventLoopThread(Thread.currentThread());
+          assertSame(context, Vertx.currentContext());
+          testComplete();
+        }, 1, MILLISECONDS);
+      });
+      await();
+      assertNull(executor.submit(Vertx::currentContext).get());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testPluginsCaptureContextIgnoresNonVertxThreads() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      VertxRxPlugins.install(vertx);
+      Scheduler scheduler = Schedulers.from(executor);
+      Thread executorThread = executor.submit(Thread::currentThread).get();
+      scheduler.scheduleDirect(() -> {
+        assertSame(executorThread, Thread.currentThread());
+        assertNull(Vertx.currentContext());
+        testComplete();
+      });
+      await();
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testPluginsUninstallRestoresScheduleHandler() {
+    AtomicInteger scheduled = new AtomicInteger();
+    RxJavaPlugins.setScheduleHandler(action -> {
+      scheduled.incrementAndGet();
+      return action;
+    });
+    VertxRxPlugins.install(vertx);
+    try {
+      VertxRxPlugins.install(vertx);
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+    Schedulers.computation().scheduleDirect(() -> {});
+    assertEquals(1, scheduled.get());
+    VertxRxPlugins.uninstall();
+    Schedulers.trampoline().scheduleDirect(() -> {});
+    assertEquals(2, scheduled.get());
+  }
+
+  @Test
+  public void testMetrics() throws Exception {
+    AtomicInteger queued = new AtomicInteger();
+    AtomicInteger completed = new AtomicInteger();
+    AtomicLong queueDelay = new AtomicLong();
+    AtomicLong runTime = new AtomicLong();
+    SchedulerMetrics metrics = new SchedulerMetrics() {
+      @Override
+      public void queued() {
+        queued.incrementAndGet();
+      }
+      @Override
+      public void started(long queueDelayNanos) {
+        queueDelay.addAndGet(queueDelayNanos);
+      }
+      @Override
+      public void completed(long runTimeNanos) {
+        runTime.addAndGet(runTimeNanos);
+        completed.incrementAndGet();
+      }
+    };
+    Scheduler.Worker worker = RxHelper.scheduler(vertx, metrics).createWorker();
+    CountDownLatch latch = new CountDownLatch(1);
+    worker.schedule(() -> {
+      try {
+        Thread.sleep(10);
+      } catch (InterruptedException e) {
+        fail(e);
+      }
+      latch.countDown();
+    });
+    awaitLatch(latch);
+    assertWaitUntil(() -> completed.get() == 1);
+    assertEquals(1, queued.get());
+    assertTrue(queueDelay.get() >= 0);
+    assertTrue(runTime.get() >= MILLISECONDS.toNanos(10));
+  }
+
+  @Test
+  public void testMetricsDiscarded() {
+    AtomicInteger queued = new AtomicInteger();
+    AtomicInteger discarded = new AtomicInteger();
+    SchedulerMetrics metrics = new SchedulerMetrics() {
+      @Override
+      public void queued() {
+        queued.incrementAndGet();
+      }
+      @Override
+      public void discarded() {
+        discarded.incrementAndGet();
+      }
+    };
+    Context context = vertx.getOrCreateContext();
+    Scheduler.Worker worker = RxHelper.scheduler(context, metrics).createWorker();
+    context.runOnContext(v -> {
+      Disposable disposable = worker.schedule(() -> fail());
+      disposable.dispose();
+      context.runOnContext(v2 -> {
+        assertEquals(1, queued.get());
+        assertEquals(1, discarded.get());
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testStallDetector() {
+    StallDetector.install(10, MILLISECONDS, true, stall -> {
+      assertTrue(stall.getDurationNanos() > MILLISECONDS.toNanos(10));
+      assertTrue(stall.getThreadName().startsWith("vert.x-eventloop-thread"));
+      assertTrue(Arrays.stream(stall.getStackTrace()).anyMatch(element -> element.getMethodName().equals("sleep")));
+      assertTrue(Arrays.stream(stall.getAssemblySite().getStackTrace()).anyMatch(element -> element.getMethodName().equals("testStallDetector")));
+      testComplete();
+    });
+    Scheduler.Worker worker = RxHelper.scheduler(vertx).createWorker();
+    worker.schedule(() -> {
+      try {
+        Thread.sleep(200);
+      } catch (InterruptedException e) {
+        fail(e);
+      }
+    });
+    await();
+  }
+
+  @Test
+  public void testStallDetectorDoesNotCaptureAssemblySiteByDefault() {
+    StallDetector.install(10, MILLISECONDS, stall -> {
+      assertNull(stall.getAssemblySite());
+      testComplete();
+    });
+    Scheduler.Worker worker = RxHelper.scheduler(vertx).createWorker();
+    worker.schedule(() -> {
+      try {
+        Thread.sleep(200);
+      } catch (InterruptedException e) {
+        fail(e);
+      }
+    });
+    await();
+  }
+
+  @Test
+  public void testStallDetectorIgnoresBlockingScheduler() throws Exception {
+    AtomicInteger stalls = new AtomicInteger();
+    StallDetector.install(10, MILLISECONDS, stall -> stalls.incrementAndGet());
+    Scheduler.Worker worker = RxHelper.blockingScheduler(vertx).createWorker();
+    CountDownLatch latch = new CountDownLatch(1);
+    worker.schedule(() -> {
+      try {
+        Thread.sleep(100);
+      } catch (InterruptedException e) {
+        fail(e);
+      }
+      latch.countDown();
+    });
+    awaitLatch(latch);
+    assertEquals(0, stalls.get());
+  }
 }
@@ -0,0 +1,159 @@
+package io.vertx.rxjava3.test;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.processors.PublishProcessor;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.rxjava3.CompletableHelper;
+import io.vertx.rxjava3.FlowableHelper;
+import io.vertx.rxjava3.MaybeHelper;
+import io.vertx.rxjava3.SingleHelper;
+import io.vertx.rxjava3.impl.TimerWheel;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+public class TimeoutTest extends VertxTestBase {
+
+  @Test
+  public void testSingleTimeout() {
+    Context context = vertx.getOrCreateContext();
+    AtomicBoolean disposed = new AtomicBoolean();
+    long now = System.currentTimeMillis();
+    Single.never()
+      .doOnDispose(() -> disposed.set(true))
+      .compose(SingleHelper.timeout(context, 50, MILLISECONDS))
+      .subscribe(item -> fail(), err -> {
+        assertTrue(err instanceof TimeoutException);
+        assertTrue(System.currentTimeMillis() - now >= 50);
+        assertSame(context, vertx.getOrCreateContext());
+        assertTrue(disposed.get());
+        testComplete();
+      });
+    await();
+  }
+
+  @Test
+  public void testSingleSuccess() {
+    AtomicInteger timeouts = new AtomicInteger();
+    Single.just("foo")
+      .compose(SingleHelper.timeout(vertx, 10, MILLISECONDS))
+      .subscribe(item -> {
+        assertEquals("foo", item);
+        vertx.setTimer(50, id -> {
+          assertEquals(0, timeouts.get());
+          testComplete();
+        });
+      }, err -> timeouts.incrementAndGet());
+    await();
+  }
+
+  @Test
+  public void testMaybeTimeout() {
+    Maybe.never()
+      .compose(MaybeHelper.timeout(vertx, 10, MILLISECONDS))
+      .subscribe(item -> fail(), err -> {
+        assertTrue(err instanceof TimeoutException);
+        testComplete();
+      }, this::fail);
+    await();
+  }
+
+  @Test
+  public void testMaybeComplete() {
+    Maybe.empty()
+      .compose(MaybeHelper.timeout(vertx, 10, MILLISECONDS))
+      .subscribe(item -> fail(), this::fail, this::testComplete);
+    await();
+  }
+
+  @Test
+  public void testCompletableTimeout() {
+    Completable.never()
+      .compose(CompletableHelper.timeout(vertx, 10, MILLISECONDS))
+      .subscribe(this::fail, err -> {
+        assertTrue(err instanceof TimeoutException);
+        testComplete();
+      });
+    await();
+  }
+
+  @Test
+  public void testFlowableTimeout() {
+    Context context = vertx.getOrCreateContext();
+    PublishProcessor<Integer> source = PublishProcessor.create();
+    AtomicInteger received = new AtomicInteger();
+    source
+      .compose(FlowableHelper.timeout(context, 50, MILLISECONDS))
+      .subscribe(item -> received.incrementAndGet(), err -> {
+        assertTrue(err instanceof TimeoutException);
+        assertEquals(3, received.get());
+        assertFalse(source.hasSubscribers());
+        testComplete();
+      });
+    AtomicInteger count = new AtomicInteger();
+    context.runOnContext(v -> vertx.setPeriodic(10, id -> {
+      source.onNext(count.get());
+      if (count.incrementAndGet() == 3) {
+        vertx.cancelTimer(id);
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testDispose() {
+    Context context = vertx.getOrCreateContext();
+    AtomicInteger timeouts = new AtomicInteger();
+    Disposable disposable = Single.never()
+      .compose(SingleHelper.timeout(context, 10, MILLISECONDS))
+      .subscribe(item -> fail(), err -> timeouts.incrementAndGet());
+    disposable.dispose();
+    vertx.setTimer(50, id -> {
+      assertEquals(0, timeouts.get());
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testManyTimeouts() throws Exception {
+    int num = 10_000;
+    Context context = vertx.getOrCreateContext();
+    CountDownLatch latch = new CountDownLatch(num);
+    context.runOnContext(v -> {
+      for (int i = 0; i < num; i++) {
+        Single<Object> single = i % 2 == 0 ? Single.never() : Single.just(i);
+        single
+          .compose(SingleHelper.timeout(vertx, 20 + i % (TimerWheel.WHEEL_SIZE * TimerWheel.TICK_MILLIS), MILLISECONDS))
+          .subscribe(item -> latch.countDown(), err -> latch.countDown());
+      }
+    });
+    awaitLatch(latch);
+  }
+
+  @Test
+  public void testDefaultWheelRemovedOnClose() throws Exception {
+    Field field = TimerWheel.class.getDeclaredField("defaultWheels");
+    field.setAccessible(true);
+    Map<?, ?> defaultWheels = (Map<?, ?>) field.get(null);
+    Vertx other = Vertx.vertx();
+    TimerWheel.get(other);
+    assertTrue(defaultWheels.containsKey(other));
+    CountDownLatch latch = new CountDownLatch(1);
+    other.close().onComplete(ar -> latch.countDown());
+    awaitLatch(latch);
+    assertFalse(defaultWheels.containsKey(other));
+  }
+}
@@ -21,11 +21,20 @@ import io.reactivex.rxjava3.core.Observer;
 import io.reactivex.rxjava3.exceptions.ProtocolViolationException;
 import io.reactivex.rxjava3.exceptions.UndeliverableException;
 import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.lang.rx.test.FakeWriteStream;
 import io.vertx.rxjava3.RxHelper;
+import io.vertx.rxjava3.SpillCodec;
+import io.vertx.rxjava3.StreamMetrics;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
 import static org.hamcrest.CoreMatchers.*;
 
 /**
@@ -187,4 +196,56 @@ public class WriteStreamObserverTest extends VertxTestBase {
     await();
     assertFalse("Did not expect writeStream end method to be invoked", writeStream.endInvoked());
   }
+
+  @Test
+  public void testOverflow() throws Exception {
+    Path spillDirectory = Files.createTempDirectory("spill");
+    AtomicLong buffered = new AtomicLong();
+    AtomicLong spilled = new AtomicLong();
+    AtomicLong spilledBytes = new AtomicLong();
+    StreamMetrics metrics = new StreamMetrics() {
+      @Override
+      public void buffered() {
+        buffered.incrementAndGet();
+      }
+      @Override
+      public void unbuffered() {
+        buffered.decrementAndGet();
+      }
+      @Override
+      public void spilled(long bytes) {
+        spilled.incrementAndGet();
+        spilledBytes.addAndGet(bytes);
+      }
+      @Override
+      public void unspilled(long bytes) {
+        spilledBytes.addAndGet(-bytes);
+      }
+    };
+    SpillCodec<Integer> codec = new SpillCodec<Integer>() {
+      @Override
+      public Buffer encode(Integer item) {
+        return Buffer.buffer().appendInt(item);
+      }
+      @Override
+      public Integer decode(Buffer buffer) {
+        return buffer.getInt(0);
+      }
+    };
+    FakeWriteStream writeStream = new FakeWriteStream(vertx);
+    Observer<Integer> observer = RxHelper.toObserver(writeStream, Function.<Integer>identity(), 16, spillDirectory, codec, metrics)
+      .onWriteStreamEnd(this::complete);
+    int count = 10000;
+    Observable.range(0, count).subscribe(observer);
+    await();
+    assertTrue("Expected drainHandler to be invoked", writeStream.drainHandlerInvoked());
+    assertEquals(count, writeStream.getCount());
+    assertTrue("Expected writeStream end method to be invoked", writeStream.endInvoked());
+    assertTrue("Expected items to be spilled", spilled.get() > 0);
+    assertEquals(0L, buffered.get());
+    assertEquals(0L, spilledBytes.get());
+    try (Stream<Path> files = Files.list(spillDirectory)) {
+      assertEquals(0L, files.count());
+    }
+  }
 }
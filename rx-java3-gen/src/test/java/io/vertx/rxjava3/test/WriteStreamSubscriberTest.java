@@ -16,20 +16,34 @@
 
 package io.vertx.rxjava3.test;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.reactivex.rxjava3.core.*;
 import io.reactivex.rxjava3.exceptions.ProtocolViolationException;
 import io.reactivex.rxjava3.exceptions.UndeliverableException;
 import io.reactivex.rxjava3.plugins.RxJavaPlugins;
 import io.reactivex.rxjava3.schedulers.Schedulers;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.lang.rx.test.FakeWriteStream;
+import io.vertx.rxjava3.FlowableHelper;
 import io.vertx.rxjava3.RxHelper;
+import io.vertx.rxjava3.StreamMetrics;
 import io.vertx.test.core.Repeat;
 import io.vertx.test.core.VertxTestBase;
+import io.vertx.test.fakestream.FakeStream;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.reactivestreams.Subscriber;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 import static org.hamcrest.CoreMatchers.*;
 
@@ -86,6 +100,189 @@ public class WriteStreamSubscriberTest extends VertxTestBase {
     assertTrue("Expected writeStream end method to be invoked", writeStream.endInvoked());
   }
 
+  @Test
+  public void testMetrics() throws Exception {
+    AtomicLong requested = new AtomicLong();
+    AtomicLong emitted = new AtomicLong();
+    AtomicLong writeQueueFull = new AtomicLong();
+    AtomicLong drained = new AtomicLong();
+    StreamMetrics metrics = new StreamMetrics() {
+      @Override
+      public void requested(long amount) {
+        requested.addAndGet(amount);
+      }
+      @Override
+      public void emitted() {
+        emitted.incrementAndGet();
+      }
+      @Override
+      public void writeQueueFull() {
+        writeQueueFull.incrementAndGet();
+      }
+      @Override
+      public void drained() {
+        drained.incrementAndGet();
+      }
+    };
+    FakeWriteStream writeStream = new FakeWriteStream(vertx);
+    Subscriber<Integer> subscriber = RxHelper.toSubscriber(writeStream, Function.identity(), metrics).onWriteStreamEnd(this::complete);
+    int count = 10000;
+    Flowable.range(0, count)
+      .observeOn(RxHelper.scheduler(vertx))
+      .subscribeOn(RxHelper.scheduler(vertx))
+      .subscribe(subscriber);
+    await();
+    assertEquals(count, emitted.get());
+    assertTrue(requested.get() >= count);
+    assertTrue(writeQueueFull.get() > 0);
+    assertTrue(drained.get() > 0);
+  }
+
+  @Test
+  public void testRelease() throws Exception {
+    AtomicLong released = new AtomicLong();
+    FakeWriteStream writeStream = new FakeWriteStream(vertx);
+    Subscriber<Integer> subscriber = RxHelper.toSubscriber(writeStream, Function.identity(), StreamMetrics.NOOP, item -> released.incrementAndGet())
+      .onWriteStreamEnd(this::complete);
+    int count = 10000;
+    Flowable.range(0, count)
+      .observeOn(RxHelper.scheduler(vertx))
+      .subscribeOn(RxHelper.scheduler(vertx))
+      .subscribe(subscriber);
+    await();
+    assertEquals(count, released.get());
+  }
+
+  @Test
+  public void testReleaseAfterTermination() throws Exception {
+    List<Integer> released = new ArrayList<>();
+    FakeWriteStream writeStream = new FakeWriteStream(vertx);
+    Subscriber<Integer> subscriber = RxHelper.toSubscriber(writeStream, Function.identity(), StreamMetrics.NOOP, released::add);
+    Flowable.<Integer>never().subscribe(subscriber);
+    subscriber.onError(new Exception());
+    subscriber.onNext(0);
+    assertEquals(0, writeStream.getCount());
+    assertEquals(1, released.size());
+  }
+
+  @Test
+  public void testPooledSubscriber() throws Exception {
+    File file = File.createTempFile("pooled", ".txt");
+    file.deleteOnExit();
+    AsyncFile asyncFile = vertx.fileSystem().openBlocking(file.getAbsolutePath(), new OpenOptions());
+    List<ByteBuf> buffers = new ArrayList<>();
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      String chunk = "chunk-" + i + "\n";
+      ByteBuf buffer = PooledByteBufAllocator.DEFAULT.directBuffer();
+      buffer.writeCharSequence(chunk, StandardCharsets.UTF_8);
+      buffers.add(buffer);
+      expected.append(chunk);
+    }
+    Flowable.fromIterable(buffers)
+      .subscribe(RxHelper.toPooledSubscriber(asyncFile).onWriteStreamEnd(this::complete));
+    await();
+    for (ByteBuf buffer : buffers) {
+      assertEquals(0, buffer.refCnt());
+    }
+    assertEquals(expected.toString(), new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testPipe() throws Exception {
+    FakeStream<Integer> stream = new FakeStream<>();
+    FakeWriteStream writeStream = new FakeWriteStream(vertx);
+    int count = 10000;
+    vertx.runOnContext(v -> {
+      FlowableHelper.toFlowable(stream)
+        .subscribe(RxHelper.toSubscriber(writeStream).onWriteStreamEnd(this::complete));
+      for (int i = 0; i < count; i++) {
+        stream.write(i);
+      }
+      assertTrue(stream.isPaused());
+      stream.end();
+    });
+    await();
+    assertTrue("Expected drainHandler to be invoked", writeStream.drainHandlerInvoked());
+    assertEquals(count, writeStream.getCount());
+    assertTrue("Expected writeStream end method to be invoked", writeStream.endInvoked());
+  }
+
+  @Test
+  public void testPipeMetrics() throws Exception {
+    AtomicLong readRequested = new AtomicLong();
+    AtomicLong readEmitted = new AtomicLong();
+    AtomicLong writeRequested = new AtomicLong();
+    AtomicLong writeEmitted = new AtomicLong();
+    AtomicLong writeQueueFull = new AtomicLong();
+    AtomicLong drained = new AtomicLong();
+    StreamMetrics readMetrics = new StreamMetrics() {
+      @Override
+      public void requested(long amount) {
+        readRequested.addAndGet(amount);
+      }
+      @Override
+      public void emitted() {
+        readEmitted.incrementAndGet();
+      }
+    };
+    StreamMetrics writeMetrics = new StreamMetrics() {
+      @Override
+      public void requested(long amount) {
+        writeRequested.addAndGet(amount);
+      }
+      @Override
+      public void emitted() {
+        writeEmitted.incrementAndGet();
+      }
+      @Override
+      public void writeQueueFull() {
+        writeQueueFull.incrementAndGet();
+      }
+      @Override
+      public void drained() {
+        drained.incrementAndGet();
+      }
+    };
+    FakeStream<Integer> stream = new FakeStream<>();
+    FakeWriteStream writeStream = new FakeWriteStream(vertx);
+    int count = 10000;
+    vertx.runOnContext(v -> {
+      FlowableHelper.toFlowable(stream, Function.identity(), readMetrics)
+        .subscribe(RxHelper.toSubscriber(writeStream, Function.identity(), writeMetrics).onWriteStreamEnd(this::complete));
+      for (int i = 0; i < count; i++) {
+        stream.write(i);
+      }
+      stream.end();
+    });
+    await();
+    assertEquals(count, writeStream.getCount());
+    assertEquals(count, readEmitted.get());
+    assertEquals(count, readRequested.get());
+    assertEquals(count, writeEmitted.get());
+    assertEquals(count, writeRequested.get());
+    assertTrue(writeQueueFull.get() > 0);
+    assertTrue(drained.get() > 0);
+  }
+
+  @Test
+  public void testPipeError() throws Exception {
+    Exception expected = new Exception();
+    FakeStream<Integer> stream = new FakeStream<>();
+    FakeWriteStream writeStream = new FakeWriteStream(vertx);
+    vertx.runOnContext(v -> {
+      FlowableHelper.toFlowable(stream)
+        .subscribe(RxHelper.toSubscriber(writeStream).onError(throwable -> {
+          assertThat(throwable, is(sameInstance(expected)));
+          complete();
+        }));
+      stream.write(0);
+      stream.fail(expected);
+    });
+    await();
+    assertFalse("Did not expect writeStream end method to be invoked", writeStream.endInvoked());
+  }
+
   @Test
   public void testCannotSubscribeTwice() throws Exception {
     waitFor(2);
@@ -16,10 +16,17 @@
 
 package examples;
 
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Single;
 import io.vertx.docgen.Source;
 import io.vertx.rxjava3.kafka.client.consumer.KafkaConsumer;
+import io.vertx.rxjava3.kafka.client.consumer.KafkaConsumerHelper;
 import io.vertx.rxjava3.kafka.client.consumer.KafkaConsumerRecord;
+import io.vertx.rxjava3.kafka.client.consumer.KafkaConsumerRecords;
+
+import java.time.Duration;
 
 @Source
 public class KafkaClientExamples {
@@ -39,4 +46,45 @@ public class KafkaClientExamples {
 
     });
   }
+
+  public void batchConsumer(KafkaConsumer<String, Long> consumer) {
+
+    Flowable<KafkaConsumerRecords<String, Long>> flowable = KafkaConsumerHelper.toBatchFlowable(consumer, Duration.ofMillis(100));
+
+    flowable.subscribe(records -> {
+
+      // Process the batch of records returned by a poll
+      System.out.println("Got " + records.size() + " records");
+    });
+  }
+
+  public void partitionConsumer(KafkaConsumer<String, Long> consumer) {
+
+    Completable processing = KafkaConsumerHelper.processByPartition(consumer, Duration.ofMillis(100), record -> {
+
+      // Process the record, the offset is committed after the records of a batch are processed
+      return Completable.complete();
+    });
+
+    processing.subscribe(() -> {}, err -> {
+      System.out.println("Processing failed: " + err.getMessage());
+    });
+  }
+
+  public void partitionGroups(KafkaConsumer<String, Long> consumer) {
+
+    Completable processing = KafkaConsumerHelper.groupByPartition(consumer, Duration.ofMillis(100), 256)
+      .flatMapCompletable(partition -> partition
+        .concatMapSingle(record -> {
+
+          // Process the record, then acknowledge it by emitting it
+          return Single.just(record);
+        })
+        .compose(KafkaConsumerHelper.commitAcknowledged(consumer))
+        .ignoreElements(), false, Integer.MAX_VALUE);
+
+    processing.subscribe(() -> {}, err -> {
+      System.out.println("Processing failed: " + err.getMessage());
+    });
+  }
 }
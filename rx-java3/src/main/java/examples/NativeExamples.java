@@ -15,16 +15,28 @@ import io.vertx.core.file.AsyncFile;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.file.OpenOptions;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.NetSocket;
 import io.vertx.core.streams.Pump;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.docgen.Source;
+import io.vertx.rxjava3.BatchLoader;
 import io.vertx.rxjava3.CompletableHelper;
 import io.vertx.rxjava3.FlowableHelper;
 import io.vertx.rxjava3.MaybeHelper;
 import io.vertx.rxjava3.RxHelper;
+import io.vertx.rxjava3.VertxRxPlugins;
 import io.vertx.rxjava3.SingleHelper;
-
+import io.vertx.rxjava3.StallDetector;
+import io.vertx.rxjava3.SpillCodec;
+import io.vertx.rxjava3.micrometer.MicrometerSchedulerMetrics;
+import io.vertx.rxjava3.micrometer.MicrometerStreamMetrics;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -52,6 +64,25 @@ public class NativeExamples {
     pump.start();
   }
 
+  public void streamMetrics(AsyncFile file, HttpServerResponse response) {
+    Flowable<Buffer> flowable = FlowableHelper.toFlowable(file, Function.identity(), MicrometerStreamMetrics.create("file-read"));
+    flowable.subscribe(RxHelper.toSubscriber(response, Function.identity(), MicrometerStreamMetrics.create("response-write")));
+  }
+
+  public void writeStreamObserverOverflow(Observable<String> logs, NetSocket socket) {
+    SpillCodec<Buffer> codec = new SpillCodec<Buffer>() {
+      @Override
+      public Buffer encode(Buffer item) {
+        return item;
+      }
+      @Override
+      public Buffer decode(Buffer buffer) {
+        return buffer;
+      }
+    };
+    logs.subscribe(RxHelper.toObserver(socket, (String line) -> Buffer.buffer(line + "\n"), 1024, Paths.get("/var/tmp"), codec, MicrometerStreamMetrics.create("log-shipping")));
+  }
+
   public <T> Handler<AsyncResult<T>> getHandler() {
     throw new UnsupportedOperationException();
   }
@@ -96,6 +127,60 @@ public class NativeExamples {
     RxJavaPlugins.setNewThreadSchedulerHandler(s -> RxHelper.scheduler(vertx));
   }
 
+  public void schedulerMetrics(Vertx vertx) {
+    Scheduler scheduler = RxHelper.scheduler(vertx, MicrometerSchedulerMetrics.create("event-loop"));
+    Observable<Long> timer = Observable.interval(100, 100, TimeUnit.MILLISECONDS, scheduler);
+  }
+
+  public void stallDetector() {
+    StallDetector.install(2, TimeUnit.MILLISECONDS, true, stall -> System.out.println(stall));
+  }
+
+  public void installPlugins(Vertx vertx) {
+    VertxRxPlugins.install(vertx);
+  }
+
+  public void timeout(Vertx vertx, Single<Buffer> response) {
+    response
+      .compose(SingleHelper.timeout(vertx, 200, TimeUnit.MILLISECONDS))
+      .subscribe(
+        buffer -> {
+          // Process the response
+        },
+        err -> {
+          // May be a java.util.concurrent.TimeoutException
+        });
+  }
+
+  public void recordParser(NetSocket socket) {
+    FlowableHelper.toFlowable(socket)
+      .compose(FlowableHelper.recordParser("\n", 1024))
+      .subscribe(line -> {
+        // Process the line
+      });
+  }
+
+  public void gzip(Vertx vertx, AsyncFile file, NetSocket socket) {
+    FlowableHelper.toFlowable(file)
+      .compose(FlowableHelper.gzip(6, RxHelper.blockingScheduler(vertx)))
+      .subscribe(RxHelper.toSubscriber(socket));
+  }
+
+  public void coalescing(Function<String, Single<JsonObject>> fetchConfig) {
+    Function<String, Single<JsonObject>> config = SingleHelper.coalescing(fetchConfig, 30, TimeUnit.SECONDS, 1000);
+    config.apply("my-service").subscribe(json -> {
+      // Concurrent lookups of my-service share a single fetch, the result is cached for 30 seconds
+    });
+  }
+
+  public void batchLoader(Vertx vertx, Function<List<Long>, Single<Map<Long, JsonObject>>> findUsers) {
+    // findUsers runs a single SELECT ... WHERE id IN (...) query for all the keys
+    BatchLoader<Long, JsonObject> users = BatchLoader.create(vertx, findUsers, 100);
+    users.load(42L).subscribe(user -> {
+      // Loaded in a batch with the other users requested in the same event loop iteration
+    });
+  }
+
   private class MyPojo {
   }
 
@@ -10,7 +10,9 @@ import io.vertx.docgen.Source;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Source
 public class RxPgClientExamples {
@@ -97,6 +99,47 @@ public class RxPgClientExamples {
     });
   }
 
+  public void streamingQuery03Example(Pool pool) {
+
+    Flowable<String> flowable = pool.rxGetConnection().flatMapPublisher(conn -> conn
+      .rxBegin()
+      .flatMapPublisher(tx ->
+        conn
+          .rxPrepare("SELECT * FROM users WHERE first_name LIKE $1")
+          .flatMapPublisher(preparedQuery -> {
+            // Map the rows as they are received, without creating the Rxified Row wrapper
+            RowStream<Row> stream = preparedQuery.createStream(50, Tuple.of("julien"));
+            return SqlClientHelper.toFlowable(stream, row -> row.getString("last_name"));
+          })
+          .doAfterTerminate(tx::commit)));
+
+    flowable.subscribe(lastName -> {
+      System.out.println("User: " + lastName);
+    });
+  }
+
+  public void streamingQuery04Example(Pool pool) {
+
+    // Borrows a connection, opens a cursor in a transaction and releases everything when done or cancelled
+    Flowable<Row> flowable = SqlClientHelper.rxQueryStream(pool, "SELECT * FROM users", 50);
+
+    flowable.subscribe(row -> {
+      System.out.println("User: " + row.getString("last_name"));
+    });
+  }
+
+  public void collectorExample(Pool pool) {
+
+    // Collect the last names without materializing the row set
+    Single<List<String>> single = SqlClientHelper.rxExecute(
+      pool.query("SELECT * FROM users"),
+      Collectors.mapping(row -> row.getString("last_name"), Collectors.toList()));
+
+    single.subscribe(lastNames -> {
+      System.out.println("Got " + lastNames.size() + " users");
+    });
+  }
+
   public void connection01Example(Pool pool) {
 
     Maybe<RowSet<Row>> maybe = pool.withConnection(conn ->
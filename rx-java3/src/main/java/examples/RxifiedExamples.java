@@ -21,6 +21,7 @@ import io.vertx.core.http.WebSocketClientOptions;
 import io.vertx.core.impl.NoStackTraceThrowable;
 import io.vertx.docgen.Source;
 import io.vertx.rxjava3.MaybeHelper;
+import io.vertx.rxjava3.VertxRxPlugins;
 import io.vertx.rxjava3.WriteStreamSubscriber;
 import io.vertx.rxjava3.core.AbstractVerticle;
 import io.vertx.rxjava3.core.FlowableHelper;
@@ -36,6 +37,7 @@ import io.vertx.rxjava3.core.eventbus.MessageConsumer;
 import io.vertx.rxjava3.core.file.AsyncFile;
 import io.vertx.rxjava3.core.file.FileSystem;
 import io.vertx.rxjava3.core.http.*;
+import io.vertx.rxjava3.micrometer.MicrometerOperationTimer;
 
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -53,6 +55,13 @@ public class RxifiedExamples {
       .subscribe(data -> System.out.println("Read data: " + data.toString("UTF-8")));
   }
 
+  public void sendFile(Vertx vertx, HttpServer server) {
+    server.requestHandler(request -> {
+      FlowableHelper.fromFile(vertx, "/data.txt")
+        .subscribe(request.response().toSubscriber());
+    });
+  }
+
   private static void checkAuth(Handler<AsyncResult<Void>> handler) {
     throw new UnsupportedOperationException();
   }
@@ -148,6 +157,18 @@ public class RxifiedExamples {
     return null;
   }
 
+  public void mapBlocking(Vertx vertx, Flowable<String> passwords) {
+    passwords
+      .compose(FlowableHelper.mapBlocking(vertx, password -> hash(password), 4, true))
+      .subscribe(hash -> {
+        // Hashes are emitted in the order of the passwords, on the caller context
+      });
+  }
+
+  private String hash(String password) {
+    return null;
+  }
+
   public void scheduler(Vertx vertx) {
     Scheduler scheduler = RxHelper.scheduler(vertx);
     Observable<Long> timer = Observable.interval(100, 100, TimeUnit.MILLISECONDS, scheduler);
@@ -164,6 +185,14 @@ public class RxifiedExamples {
     RxJavaPlugins.setNewThreadSchedulerHandler(s -> RxHelper.scheduler(vertx));
   }
 
+  public void operationTimer() {
+    VertxRxPlugins.setOperationTimer(MicrometerOperationTimer.create());
+  }
+
+  public void installPlugins(Vertx vertx) {
+    VertxRxPlugins.install(vertx.getDelegate());
+  }
+
   private class MyPojo {
   }
 
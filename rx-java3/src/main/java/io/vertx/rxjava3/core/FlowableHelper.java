@@ -2,9 +2,18 @@ package io.vertx.rxjava3.core;
 
 import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.core.type.TypeReference;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.FlowableTransformer;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.rxjava3.core.buffer.Buffer;
+import io.vertx.rxjava3.impl.FlowableFile;
 import io.vertx.rxjava3.impl.FlowableUnmarshaller;
+import io.vertx.rxjava3.StreamMetrics;
+
+import java.util.function.Function;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -26,4 +35,181 @@ public class FlowableHelper {
   public static <T> FlowableTransformer<Buffer, T> unmarshaller(TypeReference<T> mappedTypeRef, ObjectCodec mapper) {
     return new FlowableUnmarshaller<>(Buffer::getDelegate, mappedTypeRef, mapper);
   }
+
+  /**
+   * Create a {@link Flowable} reading the file at {@code path}, when it is subscribed directly by the {@code toSubscriber()}
+   * of an {@link io.vertx.rxjava3.core.http.HttpServerResponse} or a {@link io.vertx.rxjava3.core.net.NetSocket} the file
+   * is transferred with {@code sendFile}, see {@link io.vertx.rxjava3.FlowableHelper#fromFile(io.vertx.core.Vertx, String)}.
+   *
+   * @param vertx the vertx instance
+   * @param path the file path
+   * @return the flowable
+   */
+  public static Flowable<Buffer> fromFile(Vertx vertx, String path) {
+    return fromFile(vertx, path, 0L, Long.MAX_VALUE);
+  }
+
+  /**
+   * Like {@link #fromFile(Vertx, String)} but reading {@code length} bytes from {@code offset}.
+   */
+  public static Flowable<Buffer> fromFile(Vertx vertx, String path, long offset, long length) {
+    return RxJavaPlugins.onAssembly(new FlowableFile<>(vertx.getDelegate(), path, offset, length, Buffer::newInstance));
+  }
+
+  /**
+   * Create a {@link Flowable} emitting the content of the file at {@code path} in {@code chunkSize} buffers, the file is
+   * memory-mapped, see {@link io.vertx.rxjava3.FlowableHelper#mappedFile(io.vertx.core.Vertx, String, int)}.
+   *
+   * @param vertx the vertx instance
+   * @param path the file path
+   * @param chunkSize the size of the buffers
+   * @return the flowable
+   */
+  public static Flowable<Buffer> mappedFile(Vertx vertx, String path, int chunkSize) {
+    return io.vertx.rxjava3.FlowableHelper.mappedFile(vertx.getDelegate(), path, chunkSize).map(Buffer::newInstance);
+  }
+
+  /**
+   * Write the buffers of a {@code flowable} to the file at {@code path} with gathering writes, see
+   * {@link io.vertx.rxjava3.FlowableHelper#writeToFile(io.vertx.core.Vertx, Flowable, String, OpenOptions)}.
+   *
+   * @param vertx the vertx instance
+   * @param flowable the buffers to write
+   * @param path the file path
+   * @param options the options to open the file
+   * @return the completable
+   */
+  public static Completable writeToFile(Vertx vertx, Flowable<Buffer> flowable, String path, OpenOptions options) {
+    return writeToFile(vertx, flowable, path, options, 0L, 0L, StreamMetrics.NOOP);
+  }
+
+  /**
+   * Like {@link #writeToFile(Vertx, Flowable, String, OpenOptions)} but syncing the writes, see
+   * {@link io.vertx.rxjava3.FlowableHelper#writeToFile(io.vertx.core.Vertx, Flowable, String, OpenOptions, long, long, StreamMetrics)}.
+   */
+  public static Completable writeToFile(Vertx vertx, Flowable<Buffer> flowable, String path, OpenOptions options,
+                                        long syncBytes, long syncMillis, StreamMetrics metrics) {
+    return io.vertx.rxjava3.FlowableHelper.writeToFile(vertx.getDelegate(), flowable.map(Buffer::getDelegate), path, options,
+      syncBytes, syncMillis, metrics);
+  }
+
+  /**
+   * Returns a transformer splitting a flowable of buffers into delimited records, see
+   * {@link io.vertx.rxjava3.FlowableHelper#recordParser(String, int)}.
+   */
+  public static FlowableTransformer<Buffer, Buffer> recordParser(String delimiter, int maxRecordSize) {
+    return rxified(io.vertx.rxjava3.FlowableHelper.recordParser(delimiter, maxRecordSize));
+  }
+
+  /**
+   * Like {@link #recordParser(String, int)} with a {@link Buffer} delimiter.
+   */
+  public static FlowableTransformer<Buffer, Buffer> recordParser(Buffer delimiter, int maxRecordSize) {
+    return rxified(io.vertx.rxjava3.FlowableHelper.recordParser(delimiter.getDelegate(), maxRecordSize));
+  }
+
+  /**
+   * Returns a transformer splitting a flowable of buffers into fixed size records, see
+   * {@link io.vertx.rxjava3.FlowableHelper#fixedSize(int)}.
+   */
+  public static FlowableTransformer<Buffer, Buffer> fixedSize(int size) {
+    return rxified(io.vertx.rxjava3.FlowableHelper.fixedSize(size));
+  }
+
+  /**
+   * Returns a transformer splitting a flowable of buffers into length prefixed records, see
+   * {@link io.vertx.rxjava3.FlowableHelper#lengthPrefixed(int, int)}.
+   */
+  public static FlowableTransformer<Buffer, Buffer> lengthPrefixed(int fieldLength, int maxRecordSize) {
+    return rxified(io.vertx.rxjava3.FlowableHelper.lengthPrefixed(fieldLength, maxRecordSize));
+  }
+
+  /**
+   * Returns a transformer compressing a flowable of buffers in the gzip format, see {@link io.vertx.rxjava3.FlowableHelper#gzip()}.
+   */
+  public static FlowableTransformer<Buffer, Buffer> gzip() {
+    return rxified(io.vertx.rxjava3.FlowableHelper.gzip());
+  }
+
+  /**
+   * See {@link io.vertx.rxjava3.FlowableHelper#gzip(int, Scheduler)}.
+   */
+  public static FlowableTransformer<Buffer, Buffer> gzip(int level, Scheduler scheduler) {
+    return rxified(io.vertx.rxjava3.FlowableHelper.gzip(level, scheduler));
+  }
+
+  /**
+   * Returns a transformer decompressing a flowable of gzip compressed buffers, see {@link io.vertx.rxjava3.FlowableHelper#gunzip()}.
+   */
+  public static FlowableTransformer<Buffer, Buffer> gunzip() {
+    return rxified(io.vertx.rxjava3.FlowableHelper.gunzip());
+  }
+
+  /**
+   * See {@link io.vertx.rxjava3.FlowableHelper#gunzip(Scheduler)}.
+   */
+  public static FlowableTransformer<Buffer, Buffer> gunzip(Scheduler scheduler) {
+    return rxified(io.vertx.rxjava3.FlowableHelper.gunzip(scheduler));
+  }
+
+  /**
+   * Returns a transformer compressing a flowable of buffers in the zlib format, see {@link io.vertx.rxjava3.FlowableHelper#deflate()}.
+   */
+  public static FlowableTransformer<Buffer, Buffer> deflate() {
+    return rxified(io.vertx.rxjava3.FlowableHelper.deflate());
+  }
+
+  /**
+   * See {@link io.vertx.rxjava3.FlowableHelper#deflate(int, Scheduler)}.
+   */
+  public static FlowableTransformer<Buffer, Buffer> deflate(int level, Scheduler scheduler) {
+    return rxified(io.vertx.rxjava3.FlowableHelper.deflate(level, scheduler));
+  }
+
+  /**
+   * Returns a transformer decompressing a flowable of zlib compressed buffers, see {@link io.vertx.rxjava3.FlowableHelper#inflate()}.
+   */
+  public static FlowableTransformer<Buffer, Buffer> inflate() {
+    return rxified(io.vertx.rxjava3.FlowableHelper.inflate());
+  }
+
+  /**
+   * See {@link io.vertx.rxjava3.FlowableHelper#inflate(Scheduler)}.
+   */
+  public static FlowableTransformer<Buffer, Buffer> inflate(Scheduler scheduler) {
+    return rxified(io.vertx.rxjava3.FlowableHelper.inflate(scheduler));
+  }
+
+  /**
+   * Returns a transformer compressing a flowable of buffers in the zstd format, see {@link io.vertx.rxjava3.FlowableHelper#zstd(Scheduler)}.
+   */
+  public static FlowableTransformer<Buffer, Buffer> zstd(Scheduler scheduler) {
+    return rxified(io.vertx.rxjava3.FlowableHelper.zstd(scheduler));
+  }
+
+  /**
+   * Returns a transformer compressing a flowable of buffers in the Brotli format, see {@link io.vertx.rxjava3.FlowableHelper#brotli(Scheduler)}.
+   */
+  public static FlowableTransformer<Buffer, Buffer> brotli(Scheduler scheduler) {
+    return rxified(io.vertx.rxjava3.FlowableHelper.brotli(scheduler));
+  }
+
+  /**
+   * Returns a transformer mapping the items with a blocking {@code mapper} on the worker pool, see
+   * {@link io.vertx.rxjava3.FlowableHelper#mapBlocking(io.vertx.core.Vertx, Function, int, boolean)}.
+   */
+  public static <T, R> FlowableTransformer<T, R> mapBlocking(Vertx vertx, Function<? super T, ? extends R> mapper, int parallelism, boolean ordered) {
+    return io.vertx.rxjava3.FlowableHelper.mapBlocking(vertx.getDelegate(), mapper, parallelism, ordered);
+  }
+
+  /**
+   * Like {@link #mapBlocking(Vertx, Function, int, boolean)} but the {@code mapper} runs on the threads of the {@code executor}.
+   */
+  public static <T, R> FlowableTransformer<T, R> mapBlocking(WorkerExecutor executor, Function<? super T, ? extends R> mapper, int parallelism, boolean ordered) {
+    return io.vertx.rxjava3.FlowableHelper.mapBlocking(executor.getDelegate(), mapper, parallelism, ordered);
+  }
+
+  private static FlowableTransformer<Buffer, Buffer> rxified(FlowableTransformer<io.vertx.core.buffer.Buffer, io.vertx.core.buffer.Buffer> transformer) {
+    return upstream -> upstream.map(Buffer::getDelegate).compose(transformer).map(Buffer::newInstance);
+  }
 }
@@ -9,6 +9,7 @@ import io.vertx.rxjava3.core.Context;
 import io.vertx.rxjava3.core.Vertx;
 import io.vertx.rxjava3.core.WorkerExecutor;
 import io.vertx.rxjava3.impl.AsyncResultSingle;
+import io.vertx.rxjava3.SchedulerMetrics;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -95,4 +96,71 @@ public class RxHelper {
     return io.vertx.rxjava3.RxHelper.scheduler(vertx.getDelegate());
   }
 
+  /**
+   * Like {@link #scheduler(Context)}, with {@code inline} execution of the actions scheduled from the {@code context},
+   * see {@link io.vertx.rxjava3.RxHelper#scheduler(io.vertx.core.Vertx, boolean)}.
+   *
+   * @param context the context object
+   * @param inline whether to execute actions inline
+   * @return the scheduler
+   */
+  public static Scheduler scheduler(Context context, boolean inline) {
+    return io.vertx.rxjava3.RxHelper.scheduler(context.getDelegate(), inline);
+  }
+
+  /**
+   * Like {@link #scheduler(Vertx)}, with {@code inline} execution of the actions scheduled from the context they are bound to,
+   * see {@link io.vertx.rxjava3.RxHelper#scheduler(io.vertx.core.Vertx, boolean)}.
+   *
+   * @param vertx the vertx object
+   * @param inline whether to execute actions inline
+   * @return the scheduler
+   */
+  public static Scheduler scheduler(Vertx vertx, boolean inline) {
+    return io.vertx.rxjava3.RxHelper.scheduler(vertx.getDelegate(), inline);
+  }
+
+  /**
+   * Like {@link #scheduler(Context)}, reporting the actions queue delay and execution time to {@code metrics}.
+   *
+   * @param context the context object
+   * @param metrics the scheduler metrics
+   * @return the scheduler
+   */
+  public static Scheduler scheduler(Context context, SchedulerMetrics metrics) {
+    return io.vertx.rxjava3.RxHelper.scheduler(context.getDelegate(), metrics);
+  }
+
+  /**
+   * Like {@link #scheduler(Vertx)}, reporting the actions queue delay and execution time to {@code metrics}.
+   *
+   * @param vertx the vertx object
+   * @param metrics the scheduler metrics
+   * @return the scheduler
+   */
+  public static Scheduler scheduler(Vertx vertx, SchedulerMetrics metrics) {
+    return io.vertx.rxjava3.RxHelper.scheduler(vertx.getDelegate(), metrics);
+  }
+
+  /**
+   * Like {@link #blockingScheduler(Vertx)}, reporting the actions queue delay and execution time to {@code metrics}.
+   *
+   * @param vertx the vertx object
+   * @param metrics the scheduler metrics
+   * @return the scheduler
+   */
+  public static Scheduler blockingScheduler(Vertx vertx, SchedulerMetrics metrics) {
+    return io.vertx.rxjava3.RxHelper.blockingScheduler(vertx.getDelegate(), metrics);
+  }
+
+  /**
+   * Like {@link #blockingScheduler(WorkerExecutor)}, reporting the actions queue delay and execution time to {@code metrics}.
+   *
+   * @param executor the worker executor object
+   * @param metrics the scheduler metrics
+   * @return the scheduler
+   */
+  public static Scheduler blockingScheduler(WorkerExecutor executor, SchedulerMetrics metrics) {
+    return io.vertx.rxjava3.RxHelper.blockingScheduler(executor.getDelegate(), metrics);
+  }
 }
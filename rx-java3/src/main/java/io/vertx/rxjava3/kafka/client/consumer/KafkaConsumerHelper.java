@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3.kafka.client.consumer;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableTransformer;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.flowables.GroupedFlowable;
+import io.reactivex.rxjava3.functions.Function;
+import io.vertx.kafka.client.common.TopicPartition;
+import io.vertx.kafka.client.consumer.OffsetAndMetadata;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helpers consuming Kafka records by batches with {@link KafkaConsumer#rxPoll(Duration)} instead of the record by record
+ * {@link KafkaConsumer#toFlowable()} stream.
+ * <p>
+ * The consumer must not be used as a stream (no handler set) and the helpers committing offsets expect the
+ * {@code enable.auto.commit} consumer property to be {@code false}.
+ */
+public class KafkaConsumerHelper {
+
+  /**
+   * Adapts the consumer to a {@link Flowable} of the non empty batches of records returned by {@link KafkaConsumer#rxPoll(Duration)}.
+   * <p>
+   * The consumer is polled when the subscriber requests batches, cancelling the subscription stops polling.
+   *
+   * @param consumer the consumer
+   * @param pollTimeout the timeout of each poll
+   * @return the flowable of batches
+   */
+  public static <K, V> Flowable<KafkaConsumerRecords<K, V>> toBatchFlowable(KafkaConsumer<K, V> consumer, Duration pollTimeout) {
+    return consumer.rxPoll(pollTimeout)
+      .repeat()
+      .filter(records -> !records.isEmpty());
+  }
+
+  /**
+   * Like {@link #groupByPartition(KafkaConsumer, Duration, int)} with a buffer size of {@link Flowable#bufferSize()}.
+   *
+   * @param consumer the consumer
+   * @param pollTimeout the timeout of each poll
+   * @return the flowable of partitions
+   */
+  public static <K, V> Flowable<GroupedFlowable<TopicPartition, KafkaConsumerRecord<K, V>>> groupByPartition(KafkaConsumer<K, V> consumer, Duration pollTimeout) {
+    return groupByPartition(consumer, pollTimeout, Flowable.bufferSize());
+  }
+
+  /**
+   * Like {@link #toBatchFlowable(KafkaConsumer, Duration)} but emits the records grouped by {@link TopicPartition},
+   * the records of a group are emitted in the partition order.
+   * <p>
+   * The consumer is polled again when the groups have consumed the records of the previous poll, at most
+   * {@code bufferSize} records are buffered for the groups. The groups must be subscribed to, otherwise the consumer
+   * is not polled anymore. Offsets are not committed, use {@link #commitAcknowledged(KafkaConsumer)} on a group to commit
+   * the offsets of its records once they are processed.
+   *
+   * @param consumer the consumer
+   * @param pollTimeout the timeout of each poll
+   * @param bufferSize the maximum number of records buffered for the groups
+   * @return the flowable of partitions
+   */
+  public static <K, V> Flowable<GroupedFlowable<TopicPartition, KafkaConsumerRecord<K, V>>> groupByPartition(KafkaConsumer<K, V> consumer, Duration pollTimeout, int bufferSize) {
+    return toBatchFlowable(consumer, pollTimeout)
+      .concatMapIterable(KafkaConsumerHelper::toList, 1)
+      .groupBy(KafkaConsumerHelper::topicPartition, record -> record, false, bufferSize);
+  }
+
+  /**
+   * Commits the offset of each record emitted by the upstream, the record is emitted downstream once its offset
+   * has been committed.
+   * <p>
+   * Applied to a group emitted by {@link #groupByPartition(KafkaConsumer, Duration, int)} after the records are
+   * processed, a record is acknowledged by emitting it once it has been processed:
+   * <pre>
+   * partition
+   *   .concatMapSingle(record -&gt; process(record).toSingleDefault(record))
+   *   .compose(KafkaConsumerHelper.commitAcknowledged(consumer))
+   * </pre>
+   *
+   * @param consumer the consumer
+   * @return the transformer committing the offsets
+   */
+  public static <K, V> FlowableTransformer<KafkaConsumerRecord<K, V>, KafkaConsumerRecord<K, V>> commitAcknowledged(KafkaConsumer<K, V> consumer) {
+    return upstream -> upstream.concatMapSingle(record -> {
+      Map<TopicPartition, OffsetAndMetadata> offsets = Collections.singletonMap(topicPartition(record), new OffsetAndMetadata(record.offset() + 1, null));
+      return consumer.rxCommit(offsets).ignoreElement().andThen(Single.just(record));
+    });
+  }
+
+  /**
+   * Process the records of the consumer with the provided {@code handler}.
+   * <p>
+   * The partitions are processed concurrently, the records of a partition are processed sequentially in the partition order:
+   * the handler is called for a record after the {@link Completable} returned for the previous record of the same partition
+   * has completed. After all the records of a partition returned by a poll have been processed, their offset is committed.
+   * <p>
+   * The returned {@link Completable} fails when a handler or a commit fails, disposing it stops the processing.
+   *
+   * @param consumer the consumer
+   * @param pollTimeout the timeout of each poll
+   * @param handler the record handler
+   * @return a completable processing the records when subscribed
+   */
+  public static <K, V> Completable processByPartition(KafkaConsumer<K, V> consumer, Duration pollTimeout, Function<KafkaConsumerRecord<K, V>, Completable> handler) {
+    return toBatchFlowable(consumer, pollTimeout)
+      .concatMapIterable(KafkaConsumerHelper::byPartition, 1)
+      .groupBy(batch -> topicPartition(batch.get(0)))
+      .flatMapCompletable(partition -> partition.concatMapCompletable(batch -> Flowable
+        .fromIterable(batch)
+        .concatMapCompletable(handler)
+        .andThen(Completable.defer(() -> {
+          long offset = batch.get(batch.size() - 1).offset() + 1;
+          Map<TopicPartition, OffsetAndMetadata> offsets = Collections.singletonMap(partition.getKey(), new OffsetAndMetadata(offset, null));
+          return consumer.rxCommit(offsets).ignoreElement();
+        }))), false, Integer.MAX_VALUE);
+  }
+
+  private static TopicPartition topicPartition(KafkaConsumerRecord<?, ?> record) {
+    return new TopicPartition(record.topic(), record.partition());
+  }
+
+  private static <K, V> List<KafkaConsumerRecord<K, V>> toList(KafkaConsumerRecords<K, V> records) {
+    List<KafkaConsumerRecord<K, V>> list = new ArrayList<>(records.size());
+    for (int i = 0; i < records.size(); i++) {
+      list.add(records.recordAt(i));
+    }
+    return list;
+  }
+
+  private static <K, V> Iterable<List<KafkaConsumerRecord<K, V>>> byPartition(KafkaConsumerRecords<K, V> records) {
+    Map<TopicPartition, List<KafkaConsumerRecord<K, V>>> partitions = new LinkedHashMap<>();
+    for (int i = 0; i < records.size(); i++) {
+      KafkaConsumerRecord<K, V> record = records.recordAt(i);
+      partitions.computeIfAbsent(topicPartition(record), tp -> new ArrayList<>()).add(record);
+    }
+    return partitions.values();
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.micrometer.backends.BackendRegistries;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+
+/**
+ * The metrics instances of a registry, created once per name so that the instances created with the same name share
+ * the same meters. The registries are weakly referenced.
+ */
+final class MeterCache<M> {
+
+  /**
+   * @return the default registry of Vert.x Micrometer metrics
+   * @throws IllegalStateException when Vert.x Micrometer metrics is not enabled
+   */
+  static MeterRegistry defaultRegistry() {
+    MeterRegistry registry = BackendRegistries.getDefaultNow();
+    if (registry == null) {
+      throw new IllegalStateException("Vert.x Micrometer metrics is not enabled");
+    }
+    return registry;
+  }
+
+  private final Map<MeterRegistry, ConcurrentMap<String, M>> metrics = Collections.synchronizedMap(new WeakHashMap<>());
+  private final BiFunction<MeterRegistry, String, M> factory;
+
+  MeterCache(BiFunction<MeterRegistry, String, M> factory) {
+    this.factory = factory;
+  }
+
+  /**
+   * Get or create the metrics named {@code name}.
+   */
+  M get(MeterRegistry registry, String name) {
+    Objects.requireNonNull(registry, "registry");
+    Objects.requireNonNull(name, "name");
+    return metrics
+      .computeIfAbsent(registry, r -> new ConcurrentHashMap<>())
+      .computeIfAbsent(name, n -> factory.apply(registry, n));
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.rxjava3.BatchMetrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer implementation of the batch loader metrics.
+ * <p>
+ * The meters are tagged with the {@code name} of the loader, loaders created with the same name share the same meters:
+ *
+ * <ul>
+ *   <li>{@code vertx.rx.batch.size}: distribution of the number of distinct keys of the dispatched batches</li>
+ *   <li>{@code vertx.rx.batch.requests}: counter of the load requests served by the batches, compared to the count of
+ *   {@code vertx.rx.batch.size} it shows how many round trips are saved</li>
+ *   <li>{@code vertx.rx.batch.latency}: timer of the batch calls, tagged with the {@code outcome}, {@code success} or {@code failure}</li>
+ *   <li>{@code vertx.rx.batch.cancelled}: counter of the batches cancelled by their callers</li>
+ * </ul>
+ */
+public class MicrometerBatchMetrics implements BatchMetrics {
+
+  private static final MeterCache<MicrometerBatchMetrics> METRICS = new MeterCache<>(MicrometerBatchMetrics::new);
+
+  /**
+   * Like {@link #create(MeterRegistry, String)} with the default registry of Vert.x Micrometer metrics.
+   *
+   * @param name the loader name
+   * @return the metrics
+   * @throws IllegalStateException when Vert.x Micrometer metrics is not enabled
+   */
+  public static MicrometerBatchMetrics create(String name) {
+    return create(MeterCache.defaultRegistry(), name);
+  }
+
+  /**
+   * Get or create the metrics of the loaders named {@code name}.
+   *
+   * @param registry the registry of the meters
+   * @param name the loader name
+   * @return the metrics
+   */
+  public static MicrometerBatchMetrics create(MeterRegistry registry, String name) {
+    return METRICS.get(registry, name);
+  }
+
+  private final DistributionSummary size;
+  private final Counter requests;
+  private final Timer succeeded;
+  private final Timer failed;
+  private final Counter cancelled;
+
+  private MicrometerBatchMetrics(MeterRegistry registry, String name) {
+    size = DistributionSummary.builder("vertx.rx.batch.size")
+      .description("Number of distinct keys of the dispatched batches")
+      .tag("name", name)
+      .register(registry);
+    requests = Counter.builder("vertx.rx.batch.requests")
+      .description("Number of load requests served by the batches")
+      .tag("name", name)
+      .register(registry);
+    succeeded = Timer.builder("vertx.rx.batch.latency")
+      .description("Batch calls duration")
+      .tag("name", name)
+      .tag("outcome", "success")
+      .publishPercentileHistogram()
+      .register(registry);
+    failed = Timer.builder("vertx.rx.batch.latency")
+      .description("Batch calls duration")
+      .tag("name", name)
+      .tag("outcome", "failure")
+      .publishPercentileHistogram()
+      .register(registry);
+    cancelled = Counter.builder("vertx.rx.batch.cancelled")
+      .description("Number of batches cancelled by their callers")
+      .tag("name", name)
+      .register(registry);
+  }
+
+  @Override
+  public void dispatched(int keys, int requests) {
+    size.record(keys);
+    this.requests.increment(requests);
+  }
+
+  @Override
+  public void succeeded(long latencyNanos) {
+    succeeded.record(latencyNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void failed(long latencyNanos) {
+    failed.record(latencyNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void cancelled() {
+    cancelled.increment();
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.rxjava3.OperationTimer;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer implementation of the operation timer.
+ * <p>
+ * Operations are recorded by the {@code vertx.rx.operation} timer, tagged with the {@code operation} identifier and
+ * the {@code outcome} ({@code success} or {@code failure}), publishing the 50th, 99th and 99.9th percentiles.
+ * <p>
+ * The timers of an operation are created on its first completion, after which recording does not allocate.
+ */
+public class MicrometerOperationTimer implements OperationTimer {
+
+  /**
+   * Like {@link #create(MeterRegistry)} with the default registry of Vert.x Micrometer metrics.
+   *
+   * @return the timer
+   * @throws IllegalStateException when Vert.x Micrometer metrics is not enabled
+   */
+  public static MicrometerOperationTimer create() {
+    return create(MeterCache.defaultRegistry());
+  }
+
+  /**
+   * Create an operation timer.
+   *
+   * @param registry the registry of the meters
+   * @return the timer
+   */
+  public static MicrometerOperationTimer create(MeterRegistry registry) {
+    return new MicrometerOperationTimer(Objects.requireNonNull(registry, "registry"));
+  }
+
+  private final MeterRegistry registry;
+  private final ConcurrentMap<String, Timer[]> timers = new ConcurrentHashMap<>();
+
+  private MicrometerOperationTimer(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public void record(String operation, long durationNanos, boolean succeeded) {
+    Timer[] pair = timers.get(operation);
+    if (pair == null) {
+      pair = timers.computeIfAbsent(operation, op -> new Timer[] { timer(op, "success"), timer(op, "failure") });
+    }
+    pair[succeeded ? 0 : 1].record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private Timer timer(String operation, String outcome) {
+    return Timer.builder("vertx.rx.operation")
+      .description("Latency of the Rxified API asynchronous operations")
+      .tag("operation", operation)
+      .tag("outcome", outcome)
+      .publishPercentiles(0.5, 0.99, 0.999)
+      .register(registry);
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3.micrometer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.rxjava3.SchedulerMetrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Micrometer implementation of the scheduler metrics.
+ * <p>
+ * The meters are tagged with the {@code name} of the scheduler, schedulers created with the same name share the same meters:
+ *
+ * <ul>
+ *   <li>{@code vertx.rx.scheduler.queue.delay}: timer of the time actions wait on the event loop or the worker pool before running</li>
+ *   <li>{@code vertx.rx.scheduler.run.time}: timer of the actions execution time</li>
+ *   <li>{@code vertx.rx.scheduler.in.flight}: gauge of the actions queued or running</li>
+ * </ul>
+ */
+public class MicrometerSchedulerMetrics implements SchedulerMetrics {
+
+  private static final MeterCache<MicrometerSchedulerMetrics> METRICS = new MeterCache<>(MicrometerSchedulerMetrics::new);
+
+  /**
+   * Like {@link #create(MeterRegistry, String)} with the default registry of Vert.x Micrometer metrics.
+   *
+   * @param name the scheduler name
+   * @return the metrics
+   * @throws IllegalStateException when Vert.x Micrometer metrics is not enabled
+   */
+  public static MicrometerSchedulerMetrics create(String name) {
+    return create(MeterCache.defaultRegistry(), name);
+  }
+
+  /**
+   * Get or create the metrics of the schedulers named {@code name}.
+   *
+   * @param registry the registry of the meters
+   * @param name the scheduler name
+   * @return the metrics
+   */
+  public static MicrometerSchedulerMetrics create(MeterRegistry registry, String name) {
+    return METRICS.get(registry, name);
+  }
+
+  private final Timer queueDelay;
+  private final Timer runTime;
+  private final AtomicLong inFlight;
+
+  private MicrometerSchedulerMetrics(MeterRegistry registry, String name) {
+    queueDelay = Timer.builder("vertx.rx.scheduler.queue.delay")
+      .description("Time actions wait before running")
+      .tag("name", name)
+      .publishPercentileHistogram()
+      .register(registry);
+    runTime = Timer.builder("vertx.rx.scheduler.run.time")
+      .description("Actions execution time")
+      .tag("name", name)
+      .publishPercentileHistogram()
+      .register(registry);
+    inFlight = new AtomicLong();
+    Gauge.builder("vertx.rx.scheduler.in.flight", inFlight, AtomicLong::get)
+      .description("Number of actions queued or running")
+      .tag("name", name)
+      .register(registry);
+  }
+
+  @Override
+  public void queued() {
+    inFlight.incrementAndGet();
+  }
+
+  @Override
+  public void started(long queueDelayNanos) {
+    queueDelay.record(queueDelayNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void completed(long runTimeNanos) {
+    inFlight.decrementAndGet();
+    runTime.record(runTimeNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void discarded() {
+    inFlight.decrementAndGet();
+  }
+}
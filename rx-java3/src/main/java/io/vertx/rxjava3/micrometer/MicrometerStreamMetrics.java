@@ -0,0 +1,181 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.rxjava3.StreamMetrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Micrometer implementation of the stream adapters metrics.
+ * <p>
+ * The meters are tagged with the {@code name} of the adapter, adapters created with the same name share the same meters:
+ *
+ * <ul>
+ *   <li>{@code vertx.rx.stream.requests}: counter of the requests issued to the producer</li>
+ *   <li>{@code vertx.rx.stream.requested}: counter of the items requested from the producer, unbounded requests are not counted</li>
+ *   <li>{@code vertx.rx.stream.emitted}: counter of the items delivered to the consumer</li>
+ *   <li>{@code vertx.rx.stream.buffered}: gauge of the items waiting in the adapters buffer</li>
+ *   <li>{@code vertx.rx.stream.write.queue.full}: counter of the times the write stream queue was found full</li>
+ *   <li>{@code vertx.rx.stream.drained}: counter of the write stream drain handler calls</li>
+ *   <li>{@code vertx.rx.stream.spilled}: counter of the items spilled to disk</li>
+ *   <li>{@code vertx.rx.stream.spilled.bytes}: gauge of the bytes of the items waiting on disk</li>
+ *   <li>{@code vertx.rx.stream.written.bytes}: counter of the bytes written to files, its rate is the write throughput</li>
+ *   <li>{@code vertx.rx.stream.synced}: counter of the file syncs</li>
+ * </ul>
+ */
+public class MicrometerStreamMetrics implements StreamMetrics {
+
+  private static final MeterCache<MicrometerStreamMetrics> METRICS = new MeterCache<>(MicrometerStreamMetrics::new);
+
+  /**
+   * Like {@link #create(MeterRegistry, String)} with the default registry of Vert.x Micrometer metrics.
+   *
+   * @param name the adapter name
+   * @return the metrics
+   * @throws IllegalStateException when Vert.x Micrometer metrics is not enabled
+   */
+  public static MicrometerStreamMetrics create(String name) {
+    return create(MeterCache.defaultRegistry(), name);
+  }
+
+  /**
+   * Get or create the metrics of the adapters named {@code name}.
+   *
+   * @param registry the registry of the meters
+   * @param name the adapter name
+   * @return the metrics
+   */
+  public static MicrometerStreamMetrics create(MeterRegistry registry, String name) {
+    return METRICS.get(registry, name);
+  }
+
+  private final Counter requests;
+  private final Counter requested;
+  private final Counter emitted;
+  private final AtomicLong buffered;
+  private final Counter writeQueueFull;
+  private final Counter drained;
+  private final Counter spilled;
+  private final AtomicLong spilledBytes;
+  private final Counter writtenBytes;
+  private final Counter synced;
+
+  private MicrometerStreamMetrics(MeterRegistry registry, String name) {
+    requests = Counter.builder("vertx.rx.stream.requests")
+      .description("Number of requests issued to the producer")
+      .tag("name", name)
+      .register(registry);
+    requested = Counter.builder("vertx.rx.stream.requested")
+      .description("Number of items requested from the producer")
+      .tag("name", name)
+      .register(registry);
+    emitted = Counter.builder("vertx.rx.stream.emitted")
+      .description("Number of items delivered to the consumer")
+      .tag("name", name)
+      .register(registry);
+    buffered = new AtomicLong();
+    Gauge.builder("vertx.rx.stream.buffered", buffered, AtomicLong::get)
+      .description("Number of items waiting in the adapter buffer")
+      .tag("name", name)
+      .register(registry);
+    writeQueueFull = Counter.builder("vertx.rx.stream.write.queue.full")
+      .description("Number of times the write stream queue was found full")
+      .tag("name", name)
+      .register(registry);
+    drained = Counter.builder("vertx.rx.stream.drained")
+      .description("Number of write stream drain handler calls")
+      .tag("name", name)
+      .register(registry);
+    spilled = Counter.builder("vertx.rx.stream.spilled")
+      .description("Number of items spilled to disk")
+      .tag("name", name)
+      .register(registry);
+    spilledBytes = new AtomicLong();
+    Gauge.builder("vertx.rx.stream.spilled.bytes", spilledBytes, AtomicLong::get)
+      .description("Number of bytes of the items waiting on disk")
+      .baseUnit("bytes")
+      .tag("name", name)
+      .register(registry);
+    writtenBytes = Counter.builder("vertx.rx.stream.written.bytes")
+      .description("Number of bytes written to files")
+      .baseUnit("bytes")
+      .tag("name", name)
+      .register(registry);
+    synced = Counter.builder("vertx.rx.stream.synced")
+      .description("Number of file syncs")
+      .tag("name", name)
+      .register(registry);
+  }
+
+  @Override
+  public void requested(long amount) {
+    requests.increment();
+    if (amount != Long.MAX_VALUE) {
+      requested.increment(amount);
+    }
+  }
+
+  @Override
+  public void emitted() {
+    emitted.increment();
+  }
+
+  @Override
+  public void buffered() {
+    buffered.incrementAndGet();
+  }
+
+  @Override
+  public void unbuffered() {
+    buffered.decrementAndGet();
+  }
+
+  @Override
+  public void writeQueueFull() {
+    writeQueueFull.increment();
+  }
+
+  @Override
+  public void drained() {
+    drained.increment();
+  }
+
+  @Override
+  public void spilled(long bytes) {
+    spilled.increment();
+    spilledBytes.addAndGet(bytes);
+  }
+
+  @Override
+  public void unspilled(long bytes) {
+    spilledBytes.addAndGet(-bytes);
+  }
+
+  @Override
+  public void written(long bytes) {
+    writtenBytes.increment(bytes);
+  }
+
+  @Override
+  public void synced() {
+    synced.increment();
+  }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.rxjava3.sqlclient;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableTransformer;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import io.vertx.rxjava3.FlowableHelper;
+import io.vertx.rxjava3.impl.AsyncResultSingle;
+import io.vertx.rxjava3.impl.FlowableBatcher;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * Helpers operating on the Vert.x {@link io.vertx.sqlclient.Row} instead of its Rxified wrapper.
+ * <p>
+ * Mapping functions are applied on the driver row before it is emitted, so the Rxified {@link Row} wrapper
+ * is never allocated and the driver row is not retained by the pipeline.
+ */
+public class SqlClientHelper {
+
+  /**
+   * Like {@link RowStream#toFlowable()}, except the provided {@code mapping} function is applied to each driver row.
+   * <p>
+   * The returned flowable takes over the handlers of the stream, the stream {@link RowStream#toFlowable()} and
+   * {@link RowStream#toObservable()} adapters should not be used anymore.
+   *
+   * @param stream the stream to adapt
+   * @param mapping the function mapping each row
+   * @return the adapted flowable
+   */
+  public static <T> Flowable<T> toFlowable(RowStream<Row> stream, Function<io.vertx.sqlclient.Row, T> mapping) {
+    io.vertx.sqlclient.RowStream<io.vertx.sqlclient.Row> delegate = stream.getDelegate();
+    return FlowableHelper.toFlowable(delegate, mapping);
+  }
+
+  /**
+   * Execute the {@code query} and reduce the driver rows with the provided {@code collector}.
+   * <p>
+   * This is the Rxified equivalent of {@link io.vertx.sqlclient.Query#collecting(Collector)}.
+   *
+   * @param query the query to execute
+   * @param collector the collector reducing the rows
+   * @return a single emitting the collector result
+   */
+  public static <R> Single<R> rxExecute(Query<RowSet<Row>> query, Collector<io.vertx.sqlclient.Row, ?, R> collector) {
+    io.vertx.sqlclient.Query<io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row>> delegate = query.getDelegate();
+    return AsyncResultSingle.toSingle(() -> delegate.collecting(collector).execute(), io.vertx.sqlclient.SqlResult::value);
+  }
+
+  /**
+   * Like {@link #rxExecute(Query, Collector)} but executing a prepared query with the provided {@code tuple}.
+   */
+  public static <R> Single<R> rxExecute(PreparedQuery<RowSet<Row>> query, Tuple tuple, Collector<io.vertx.sqlclient.Row, ?, R> collector) {
+    io.vertx.sqlclient.PreparedQuery<io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row>> delegate = query.getDelegate();
+    return AsyncResultSingle.toSingle(() -> delegate.collecting(collector).execute(tuple.getDelegate()), io.vertx.sqlclient.SqlResult::value);
+  }
+
+  /**
+   * Execute the {@code query} and emit each driver row mapped with the provided {@code mapping} function.
+   * <p>
+   * This is the Rxified equivalent of {@link io.vertx.sqlclient.Query#mapping(java.util.function.Function)}.
+   *
+   * @param query the query to execute
+   * @param mapping the function mapping each row
+   * @return a flowable emitting the mapped rows
+   */
+  public static <T> Flowable<T> rxExecute(Query<RowSet<Row>> query, Function<io.vertx.sqlclient.Row, T> mapping) {
+    io.vertx.sqlclient.Query<io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row>> delegate = query.getDelegate();
+    return AsyncResultSingle.toSingle(() -> delegate.mapping(mapping).execute(), Function.<io.vertx.sqlclient.RowSet<T>>identity())
+      .flattenAsFlowable(rows -> rows);
+  }
+
+  /**
+   * Like {@link #rxExecute(Query, Function)} but executing a prepared query with the provided {@code tuple}.
+   */
+  public static <T> Flowable<T> rxExecute(PreparedQuery<RowSet<Row>> query, Tuple tuple, Function<io.vertx.sqlclient.Row, T> mapping) {
+    io.vertx.sqlclient.PreparedQuery<io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row>> delegate = query.getDelegate();
+    return AsyncResultSingle.toSingle(() -> delegate.mapping(mapping).execute(tuple.getDelegate()), Function.<io.vertx.sqlclient.RowSet<T>>identity())
+      .flattenAsFlowable(rows -> rows);
+  }
+
+  /**
+   * Stream the rows of the {@code sql} query with a cursor, the returned flowable takes care of borrowing a connection
+   * from the {@code pool}, running the cursor in a transaction and giving the connection back to the pool when it
+   * terminates or is cancelled.
+   * <p>
+   * Rows are fetched by batches of {@code fetchSize} rows when the subscriber requests them, so the number of rows held
+   * in memory is bounded regardless of the size of the result.
+   *
+   * @param pool the pool
+   * @param sql the query
+   * @param fetchSize the number of rows fetched by the cursor at a time
+   * @return a flowable emitting the rows
+   */
+  public static Flowable<Row> rxQueryStream(Pool pool, String sql, int fetchSize) {
+    return rxQueryStream(pool, sql, Tuple.tuple(), fetchSize);
+  }
+
+  /**
+   * Like {@link #rxQueryStream(Pool, String, int)} with query arguments.
+   */
+  public static Flowable<Row> rxQueryStream(Pool pool, String sql, Tuple args, int fetchSize) {
+    return pool.rxGetConnection().flatMapPublisher(conn -> queryStream(conn, sql, args, fetchSize, RowStream::toFlowable, conn.rxClose()));
+  }
+
+  /**
+   * Like {@link #rxQueryStream(Pool, String, Tuple, int)}, except the provided {@code mapping} function is applied to each driver row.
+   */
+  public static <T> Flowable<T> rxQueryStream(Pool pool, String sql, Tuple args, int fetchSize, Function<io.vertx.sqlclient.Row, T> mapping) {
+    return pool.rxGetConnection().flatMapPublisher(conn -> queryStream(conn, sql, args, fetchSize, stream -> toFlowable(stream, mapping), conn.rxClose()));
+  }
+
+  /**
+   * Stream the rows of the {@code sql} query with a cursor opened on the provided {@code connection}.
+   * <p>
+   * A transaction is started for the cursor, it is committed when all rows have been emitted and rolled back when
+   * the flowable fails or is cancelled. The connection is not closed.
+   *
+   * @param connection the connection
+   * @param sql the query
+   * @param args the query arguments
+   * @param fetchSize the number of rows fetched by the cursor at a time
+   * @return a flowable emitting the rows
+   */
+  public static Flowable<Row> rxQueryStream(SqlConnection connection, String sql, Tuple args, int fetchSize) {
+    return queryStream(connection, sql, args, fetchSize, RowStream::toFlowable, Completable.complete());
+  }
+
+  /**
+   * Like {@link #rxQueryStream(SqlConnection, String, Tuple, int)}, except the provided {@code mapping} function is applied to each driver row.
+   */
+  public static <T> Flowable<T> rxQueryStream(SqlConnection connection, String sql, Tuple args, int fetchSize, Function<io.vertx.sqlclient.Row, T> mapping) {
+    return queryStream(connection, sql, args, fetchSize, stream -> toFlowable(stream, mapping), Completable.complete());
+  }
+
+  // release is subscribed once the transaction has been committed or rolled back, whichever way the flowable terminates
+  private static <T> Flowable<T> queryStream(SqlConnection connection, String sql, Tuple args, int fetchSize,
+                                             Function<RowStream<Row>, Flowable<T>> adapter, Completable release) {
+    return Flowable.defer(() -> {
+      AtomicBoolean terminated = new AtomicBoolean();
+      AtomicReference<Transaction> transaction = new AtomicReference<>();
+      AtomicReference<PreparedStatement> statement = new AtomicReference<>();
+      AtomicReference<RowStream<Row>> rowStream = new AtomicReference<>();
+      Completable commit = Completable.defer(() -> {
+        if (!terminated.compareAndSet(false, true)) {
+          return Completable.complete();
+        }
+        return statement.get().rxClose().onErrorComplete()
+          .andThen(transaction.get().rxCommit())
+          .onErrorResumeNext(err -> release.onErrorComplete().andThen(Completable.error(err)))
+          .andThen(release);
+      });
+      // Close the cursor, then roll back, then release the connection: the connection is never released mid-transaction
+      Completable rollback = Completable.defer(() -> {
+        if (!terminated.compareAndSet(false, true)) {
+          return Completable.complete();
+        }
+        Completable cleanup = Completable.complete();
+        RowStream<Row> stream = rowStream.get();
+        if (stream != null) {
+          cleanup = cleanup.andThen(stream.rxClose().onErrorComplete());
+        }
+        PreparedStatement ps = statement.get();
+        if (ps != null) {
+          cleanup = cleanup.andThen(ps.rxClose().onErrorComplete());
+        }
+        Transaction tx = transaction.get();
+        if (tx != null) {
+          cleanup = cleanup.andThen(tx.rxRollback().onErrorComplete());
+        }
+        return cleanup.andThen(release.onErrorComplete());
+      });
+      return connection.rxBegin()
+        .flatMap(tx -> {
+          transaction.set(tx);
+          return connection.rxPrepare(sql);
+        })
+        .flatMapPublisher(ps -> {
+          statement.set(ps);
+          RowStream<Row> stream = ps.createStream(fetchSize, args);
+          rowStream.set(stream);
+          return adapter.apply(stream);
+        })
+        .concatWith(commit)
+        .onErrorResumeNext(err -> rollback.andThen(Flowable.error(err)))
+        .doOnCancel(() -> rollback.subscribe(() -> {}, RxJavaPlugins::onError));
+    });
+  }
+
+  /**
+   * Create a transformer executing the upstream tuples with the prepared {@code query} in batches of at most
+   * {@code maxBatchSize} tuples, see {@link #executeBatch(PreparedQuery, int, ToLongFunction, long, long, TimeUnit, Scheduler, int)}.
+   */
+  public static FlowableTransformer<Tuple, RowSet<Row>> executeBatch(PreparedQuery<RowSet<Row>> query, int maxBatchSize, int maxInFlight) {
+    return executeBatch(query, maxBatchSize, null, Long.MAX_VALUE, 0L, TimeUnit.MILLISECONDS, null, maxInFlight);
+  }
+
+  /**
+   * Create a transformer executing the upstream tuples with the prepared {@code query} in batches of at most
+   * {@code maxBatchSize} tuples, a batch is executed at most {@code maxBatchDelay} after its first tuple was received,
+   * see {@link #executeBatch(PreparedQuery, int, ToLongFunction, long, long, TimeUnit, Scheduler, int)}.
+   */
+  public static FlowableTransformer<Tuple, RowSet<Row>> executeBatch(PreparedQuery<RowSet<Row>> query, int maxBatchSize, long maxBatchDelay, TimeUnit unit, int maxInFlight) {
+    return executeBatch(query, maxBatchSize, null, Long.MAX_VALUE, maxBatchDelay, unit, Schedulers.computation(), maxInFlight);
+  }
+
+  /**
+   * Create a transformer grouping the upstream tuples in batches executed with {@link PreparedQuery#rxExecuteBatch(java.util.List)}.
+   * <p>
+   * A batch is executed when it reaches {@code maxBatchSize} tuples, when the weight of its tuples computed by {@code weigher}
+   * reaches {@code maxBatchWeight} (e.g. an estimate of their size in bytes) or when {@code maxBatchDelay} has elapsed since its
+   * first tuple was received.
+   * <p>
+   * Up to {@code maxInFlight} batches are executed concurrently, the result of each batch is emitted in the order of the
+   * batches. Tuples are only requested from the upstream when the downstream requests results, so the ingestion rate is
+   * bounded by the database.
+   * <p>
+   * When the {@code query} is prepared on a connection with pipelining (e.g. {@code PgConnectOptions#setPipeliningLimit}),
+   * the batches in flight are pipelined on this connection, {@code maxInFlight} should not exceed the pipelining limit.
+   *
+   * @param query the prepared query
+   * @param maxBatchSize the maximum number of tuples of a batch
+   * @param weigher the function computing the weight of a tuple, can be {@code null}
+   * @param maxBatchWeight the maximum weight of a batch
+   * @param maxBatchDelay the maximum delay before executing a batch, {@code 0} to disable
+   * @param unit the unit of {@code maxBatchDelay}
+   * @param scheduler the scheduler used for the {@code maxBatchDelay} timer
+   * @param maxInFlight the maximum number of batches executed concurrently
+   * @return the transformer
+   */
+  public static FlowableTransformer<Tuple, RowSet<Row>> executeBatch(PreparedQuery<RowSet<Row>> query,
+                                                                    int maxBatchSize,
+                                                                    ToLongFunction<Tuple> weigher,
+                                                                    long maxBatchWeight,
+                                                                    long maxBatchDelay,
+                                                                    TimeUnit unit,
+                                                                    Scheduler scheduler,
+                                                                    int maxInFlight) {
+    FlowableBatcher<Tuple> batcher = new FlowableBatcher<>(maxBatchSize, weigher, maxBatchWeight, maxBatchDelay, unit, scheduler);
+    return upstream -> upstream
+      .compose(batcher)
+      .concatMapEager(batch -> query.rxExecuteBatch(batch).toFlowable(), maxInFlight, 1);
+  }
+}
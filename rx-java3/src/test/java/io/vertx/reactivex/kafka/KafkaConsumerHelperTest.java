@@ -0,0 +1,169 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.reactivex.kafka;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import io.vertx.rxjava3.kafka.client.consumer.KafkaConsumer;
+import io.vertx.rxjava3.kafka.client.consumer.KafkaConsumerHelper;
+import io.vertx.rxjava3.kafka.client.consumer.KafkaConsumerRecord;
+import io.vertx.test.core.VertxTestBase;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class KafkaConsumerHelperTest extends VertxTestBase {
+
+  private static final TopicPartition P0 = new TopicPartition("the-topic", 0);
+  private static final TopicPartition P1 = new TopicPartition("the-topic", 1);
+
+  private CountingConsumer mock;
+  private KafkaConsumer<String, String> consumer;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    mock = new CountingConsumer();
+    mock.assign(Arrays.asList(P0, P1));
+    Map<TopicPartition, Long> beginning = new HashMap<>();
+    beginning.put(P0, 0L);
+    beginning.put(P1, 0L);
+    mock.updateBeginningOffsets(beginning);
+    consumer = KafkaConsumer.newInstance(io.vertx.kafka.client.consumer.KafkaConsumer.create(vertx, mock));
+  }
+
+  @Override
+  public void tearDown() throws Exception {
+    consumer.close();
+    super.tearDown();
+  }
+
+  private void addRecords(TopicPartition partition, int count) {
+    for (int i = 0; i < count; i++) {
+      mock.addRecord(new ConsumerRecord<>(partition.topic(), partition.partition(), i, "key-" + i, partition.partition() + "-" + i));
+    }
+  }
+
+  private long committed(TopicPartition partition) {
+    OffsetAndMetadata offset = mock.committed(Collections.singleton(partition)).get(partition);
+    return offset != null ? offset.offset() : -1L;
+  }
+
+  @Test
+  public void testProcessByPartition() {
+    addRecords(P0, 3);
+    addRecords(P1, 3);
+    List<String> processed = new CopyOnWriteArrayList<>();
+    Disposable disposable = KafkaConsumerHelper.processByPartition(consumer, Duration.ofMillis(10), record -> {
+      processed.add(record.value());
+      return Completable.complete();
+    }).subscribe(() -> fail("Unexpected completion"), this::fail);
+    assertWaitUntil(() -> committed(P0) == 3L && committed(P1) == 3L);
+    disposable.dispose();
+    List<String> p0 = new ArrayList<>();
+    List<String> p1 = new ArrayList<>();
+    for (String value : processed) {
+      (value.startsWith("0-") ? p0 : p1).add(value);
+    }
+    assertEquals(Arrays.asList("0-0", "0-1", "0-2"), p0);
+    assertEquals(Arrays.asList("1-0", "1-1", "1-2"), p1);
+  }
+
+  @Test
+  public void testProcessByPartitionDoesNotCommitFailedRecords() {
+    addRecords(P0, 3);
+    KafkaConsumerHelper.processByPartition(consumer, Duration.ofMillis(10), record -> record.offset() == 1
+      ? Completable.error(new Exception("boom"))
+      : Completable.complete()
+    ).subscribe(() -> fail("Unexpected completion"), err -> {
+      assertEquals("boom", err.getMessage());
+      assertEquals(-1L, committed(P0));
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testGroupByPartitionCommitsAcknowledgedRecords() {
+    addRecords(P0, 4);
+    addRecords(P1, 2);
+    Set<TopicPartition> groups = Collections.synchronizedSet(new HashSet<>());
+    Disposable disposable = KafkaConsumerHelper.groupByPartition(consumer, Duration.ofMillis(10), 2)
+      .flatMapCompletable(partition -> {
+        groups.add(new TopicPartition(partition.getKey().getTopic(), partition.getKey().getPartition()));
+        return partition
+          .concatMapSingle(record -> Single.just(record))
+          .compose(KafkaConsumerHelper.commitAcknowledged(consumer))
+          .ignoreElements();
+      }, false, Integer.MAX_VALUE)
+      .subscribe(() -> fail("Unexpected completion"), this::fail);
+    assertWaitUntil(() -> committed(P0) == 4L && committed(P1) == 2L);
+    disposable.dispose();
+    assertEquals(new HashSet<>(Arrays.asList(P0, P1)), groups);
+  }
+
+  @Test
+  public void testGroupByPartitionBoundsBuffering() throws Exception {
+    addRecords(P0, 10);
+    TestSubscriber<KafkaConsumerRecord<String, String>> group = new TestSubscriber<>(0L);
+    Disposable disposable = KafkaConsumerHelper.groupByPartition(consumer, Duration.ofMillis(10), 2)
+      .subscribe(partition -> partition.subscribe(group), this::fail);
+    assertWaitUntil(() -> mock.polls.get() >= 1);
+    Thread.sleep(100);
+    // The group did not request any record, the consumer is not polled beyond the first batch
+    assertEquals(1, mock.polls.get());
+    group.assertNoValues();
+    group.request(10);
+    assertWaitUntil(() -> group.values().size() == 10);
+    assertWaitUntil(() -> mock.polls.get() > 1);
+    disposable.dispose();
+    group.cancel();
+  }
+
+  private static class CountingConsumer extends MockConsumer<String, String> {
+
+    final AtomicInteger polls = new AtomicInteger();
+
+    CountingConsumer() {
+      super(OffsetResetStrategy.EARLIEST);
+    }
+
+    @Override
+    public synchronized ConsumerRecords<String, String> poll(Duration timeout) {
+      polls.incrementAndGet();
+      return super.poll(timeout);
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.reactivex.micrometer;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.vertx.rxjava3.BatchLoader;
+import io.vertx.rxjava3.micrometer.MicrometerBatchMetrics;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+public class MicrometerBatchMetricsTest extends VertxTestBase {
+
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+  private Timer latency(String outcome) {
+    Timer timer = registry.find("vertx.rx.batch.latency").tag("name", "the-loader").tag("outcome", outcome).timer();
+    assertNotNull(outcome, timer);
+    return timer;
+  }
+
+  private double counter(String name) {
+    return registry.find(name).tag("name", "the-loader").counter().count();
+  }
+
+  private BatchLoader<Integer, String> loader(Function<List<Integer>, Single<Map<Integer, String>>> batchFunction) {
+    return BatchLoader.create(vertx, batchFunction, 100, 0L, TimeUnit.MILLISECONDS, MicrometerBatchMetrics.create(registry, "the-loader"));
+  }
+
+  @Test
+  public void testSucceeded() throws Exception {
+    BatchLoader<Integer, String> loader = loader(keys -> {
+      Map<Integer, String> values = new HashMap<>();
+      keys.forEach(key -> values.put(key, "value-" + key));
+      return Single.just(values);
+    });
+    CountDownLatch latch = new CountDownLatch(3);
+    vertx.runOnContext(v -> {
+      loader.load(1).subscribe(value -> latch.countDown(), this::fail);
+      loader.load(2).subscribe(value -> latch.countDown(), this::fail);
+      loader.load(2).subscribe(value -> latch.countDown(), this::fail);
+    });
+    awaitLatch(latch);
+    DistributionSummary size = registry.find("vertx.rx.batch.size").tag("name", "the-loader").summary();
+    assertNotNull(size);
+    assertEquals(1L, size.count());
+    assertEquals(2.0, size.totalAmount(), 0.0);
+    assertEquals(3.0, counter("vertx.rx.batch.requests"), 0.0);
+    assertEquals(1L, latency("success").count());
+    assertEquals(0L, latency("failure").count());
+  }
+
+  @Test
+  public void testFailed() {
+    BatchLoader<Integer, String> loader = loader(keys -> Single.error(new Exception("boom")));
+    vertx.runOnContext(v -> loader.load(1).subscribe(value -> fail(), err -> testComplete()));
+    await();
+    assertEquals(1L, latency("failure").count());
+    assertEquals(0L, latency("success").count());
+  }
+
+  @Test
+  public void testCancelled() {
+    BatchLoader<Integer, String> loader = loader(keys -> Single.never());
+    vertx.runOnContext(v -> {
+      Disposable disposable = loader.load(1).subscribe(value -> fail(), this::fail);
+      // Once the batch is dispatched
+      vertx.runOnContext(v2 -> {
+        disposable.dispose();
+        assertEquals(1.0, counter("vertx.rx.batch.cancelled"), 0.0);
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testSharedByName() {
+    MicrometerBatchMetrics metrics = MicrometerBatchMetrics.create(registry, "the-loader");
+    assertSame(metrics, MicrometerBatchMetrics.create(registry, "the-loader"));
+    assertNotSame(metrics, MicrometerBatchMetrics.create(registry, "another-loader"));
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.reactivex.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.rxjava3.VertxRxPlugins;
+import io.vertx.rxjava3.impl.AsyncResultSingle;
+import io.vertx.rxjava3.micrometer.MicrometerOperationTimer;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class MicrometerOperationTimerTest {
+
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+  @After
+  public void tearDown() {
+    VertxRxPlugins.setOperationTimer(null);
+  }
+
+  private Timer timer(String operation, String outcome) {
+    Timer timer = registry.find("vertx.rx.operation").tag("operation", operation).tag("outcome", outcome).timer();
+    assertNotNull(operation + " " + outcome, timer);
+    return timer;
+  }
+
+  @Test
+  public void testRecord() {
+    MicrometerOperationTimer timer = MicrometerOperationTimer.create(registry);
+    timer.record("the-operation", 1000L, true);
+    timer.record("the-operation", 2000L, true);
+    timer.record("the-operation", 3000L, false);
+    timer.record("another-operation", 4000L, true);
+    assertEquals(2L, timer("the-operation", "success").count());
+    assertEquals(1L, timer("the-operation", "failure").count());
+    assertEquals(1L, timer("another-operation", "success").count());
+    // Both outcomes are registered on the first completion
+    assertEquals(0L, timer("another-operation", "failure").count());
+    assertEquals(4, registry.find("vertx.rx.operation").timers().size());
+  }
+
+  @Test
+  public void testOperations() {
+    VertxRxPlugins.setOperationTimer(MicrometerOperationTimer.create(registry));
+    AsyncResultSingle.toSingle("the-operation", () -> Future.succeededFuture("ok"), Function.identity())
+      .test()
+      .assertValue("ok");
+    AsyncResultSingle.toSingle("the-operation", () -> Future.<String>failedFuture("ko"), Function.identity())
+      .test()
+      .assertError(Exception.class);
+    assertEquals(1L, timer("the-operation", "success").count());
+    assertEquals(1L, timer("the-operation", "failure").count());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDefaultRegistryNotEnabled() {
+    MicrometerOperationTimer.create();
+  }
+}
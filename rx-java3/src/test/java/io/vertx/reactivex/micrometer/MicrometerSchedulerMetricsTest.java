@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.reactivex.micrometer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.vertx.core.Context;
+import io.vertx.rxjava3.RxHelper;
+import io.vertx.rxjava3.micrometer.MicrometerSchedulerMetrics;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+public class MicrometerSchedulerMetricsTest extends VertxTestBase {
+
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+  private Timer timer(String name) {
+    Timer timer = registry.find(name).tag("name", "the-scheduler").timer();
+    assertNotNull(name, timer);
+    return timer;
+  }
+
+  private double inFlight() {
+    Gauge gauge = registry.find("vertx.rx.scheduler.in.flight").tag("name", "the-scheduler").gauge();
+    assertNotNull(gauge);
+    return gauge.value();
+  }
+
+  @Test
+  public void testMeters() throws Exception {
+    Scheduler scheduler = RxHelper.scheduler(vertx, MicrometerSchedulerMetrics.create(registry, "the-scheduler"));
+    Scheduler.Worker worker = scheduler.createWorker();
+    CountDownLatch latch = new CountDownLatch(2);
+    worker.schedule(latch::countDown);
+    worker.schedule(latch::countDown);
+    awaitLatch(latch);
+    // The action is recorded once it returns
+    assertWaitUntil(() -> timer("vertx.rx.scheduler.run.time").count() == 2L);
+    assertEquals(2L, timer("vertx.rx.scheduler.queue.delay").count());
+    assertEquals(0.0, inFlight(), 0.0);
+    worker.dispose();
+  }
+
+  @Test
+  public void testDiscardedActionLeavesInFlight() {
+    Scheduler scheduler = RxHelper.scheduler(vertx, MicrometerSchedulerMetrics.create(registry, "the-scheduler"));
+    Context context = vertx.getOrCreateContext();
+    context.runOnContext(v -> {
+      Scheduler.Worker worker = scheduler.createWorker();
+      Disposable disposable = worker.schedule(() -> fail());
+      assertEquals(1.0, inFlight(), 0.0);
+      disposable.dispose();
+      context.runOnContext(v2 -> {
+        assertEquals(0.0, inFlight(), 0.0);
+        assertEquals(0L, timer("vertx.rx.scheduler.run.time").count());
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testSharedByName() {
+    MicrometerSchedulerMetrics metrics = MicrometerSchedulerMetrics.create(registry, "the-scheduler");
+    assertSame(metrics, MicrometerSchedulerMetrics.create(registry, "the-scheduler"));
+    assertNotSame(metrics, MicrometerSchedulerMetrics.create(registry, "another-scheduler"));
+    assertEquals(2, registry.find("vertx.rx.scheduler.in.flight").gauges().size());
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.reactivex.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reactivex.rxjava3.processors.PublishProcessor;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.rxjava3.FlowableHelper;
+import io.vertx.rxjava3.micrometer.MicrometerStreamMetrics;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class MicrometerStreamMetricsTest {
+
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+  private Counter counter(String name) {
+    Counter counter = registry.find(name).tag("name", "the-stream").counter();
+    assertNotNull(name, counter);
+    return counter;
+  }
+
+  private Gauge gauge(String name) {
+    Gauge gauge = registry.find(name).tag("name", "the-stream").gauge();
+    assertNotNull(name, gauge);
+    return gauge;
+  }
+
+  @Test
+  public void testMeters() {
+    MicrometerStreamMetrics metrics = MicrometerStreamMetrics.create(registry, "the-stream");
+    metrics.requested(16);
+    metrics.requested(Long.MAX_VALUE);
+    metrics.emitted();
+    metrics.writeQueueFull();
+    metrics.drained();
+    metrics.spilled(100);
+    metrics.spilled(50);
+    metrics.unspilled(100);
+    metrics.written(1024);
+    metrics.synced();
+    assertEquals(2.0, counter("vertx.rx.stream.requests").count(), 0.0);
+    // Unbounded requests are not counted
+    assertEquals(16.0, counter("vertx.rx.stream.requested").count(), 0.0);
+    assertEquals(1.0, counter("vertx.rx.stream.emitted").count(), 0.0);
+    assertEquals(1.0, counter("vertx.rx.stream.write.queue.full").count(), 0.0);
+    assertEquals(1.0, counter("vertx.rx.stream.drained").count(), 0.0);
+    assertEquals(2.0, counter("vertx.rx.stream.spilled").count(), 0.0);
+    assertEquals(50.0, gauge("vertx.rx.stream.spilled.bytes").value(), 0.0);
+    assertEquals(1024.0, counter("vertx.rx.stream.written.bytes").count(), 0.0);
+    assertEquals(1.0, counter("vertx.rx.stream.synced").count(), 0.0);
+    assertEquals(0.0, gauge("vertx.rx.stream.buffered").value(), 0.0);
+  }
+
+  @Test
+  public void testSharedByName() {
+    MicrometerStreamMetrics metrics = MicrometerStreamMetrics.create(registry, "the-stream");
+    assertSame(metrics, MicrometerStreamMetrics.create(registry, "the-stream"));
+    assertNotSame(metrics, MicrometerStreamMetrics.create(registry, "another-stream"));
+    assertNotSame(metrics, MicrometerStreamMetrics.create(new SimpleMeterRegistry(), "the-stream"));
+    metrics.emitted();
+    MicrometerStreamMetrics.create(registry, "the-stream").emitted();
+    assertEquals(2.0, counter("vertx.rx.stream.emitted").count(), 0.0);
+    for (String name : Arrays.asList("the-stream", "another-stream")) {
+      assertEquals(1, registry.find("vertx.rx.stream.emitted").tag("name", name).counters().size());
+    }
+  }
+
+  @Test
+  public void testBufferedBalancedOnCancel() {
+    MicrometerStreamMetrics metrics = MicrometerStreamMetrics.create(registry, "the-stream");
+    PublishProcessor<Integer> processor = PublishProcessor.create();
+    ReadStream<Integer> stream = FlowableHelper.toReadStream(processor, metrics);
+    stream.pause();
+    stream.handler(item -> fail());
+    processor.onNext(0);
+    processor.onNext(1);
+    processor.onNext(2);
+    assertEquals(3.0, gauge("vertx.rx.stream.buffered").value(), 0.0);
+    stream.handler(null);
+    assertEquals(0.0, gauge("vertx.rx.stream.buffered").value(), 0.0);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDefaultRegistryNotEnabled() {
+    MicrometerStreamMetrics.create("the-stream");
+  }
+}
@@ -11,9 +11,12 @@
 
 package io.vertx.reactivex.sqlclient;
 
+import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Maybe;
 import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.sqlclient.PoolOptions;
 import io.vertx.rxjava3.sqlclient.Pool;
+import io.vertx.rxjava3.sqlclient.SqlClientHelper;
 import io.vertx.rxjava3.sqlclient.Tuple;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.ClassRule;
@@ -42,12 +45,7 @@ public class SqlClientTest extends VertxTestBase {
   @Override
   public void setUp() throws Exception {
     super.setUp();
-    PgConnectOptions connectOptions = new PgConnectOptions();
-    connectOptions.setHost(container.getHost());
-    connectOptions.setPort(container.getMappedPort(5432));
-    connectOptions.setDatabase(container.getDatabaseName());
-    connectOptions.setUser(container.getUsername());
-    connectOptions.setPassword(container.getPassword());
+    PgConnectOptions connectOptions = connectOptions();
     pool = Pool.newInstance(io.vertx.pgclient.PgBuilder.pool(builder -> builder.connectingTo(connectOptions)));
     pool
       .query("drop table if exists folks")
@@ -57,6 +55,16 @@ public class SqlClientTest extends VertxTestBase {
       .blockingGet();
   }
 
+  private static PgConnectOptions connectOptions() {
+    PgConnectOptions connectOptions = new PgConnectOptions();
+    connectOptions.setHost(container.getHost());
+    connectOptions.setPort(container.getMappedPort(5432));
+    connectOptions.setDatabase(container.getDatabaseName());
+    connectOptions.setUser(container.getUsername());
+    connectOptions.setPassword(container.getPassword());
+    return connectOptions;
+  }
+
   @Override
   public void tearDown() throws Exception {
     pool.close();
@@ -75,4 +83,96 @@ public class SqlClientTest extends VertxTestBase {
     }, this::fail);
     await();
   }
+
+  @Test
+  public void testStreamWithMapping() {
+    Maybe<List<String>> single = pool.withTransaction(conn -> conn
+      .rxPrepare("SELECT * FROM folks")
+      .flatMapPublisher(pq -> SqlClientHelper.toFlowable(pq.createStream(2), row -> row.getString(0)))
+      .toList()
+      .toMaybe());
+    single.subscribe(list -> {
+      assertEquals(list, NAMES);
+      testComplete();
+    }, this::fail);
+    await();
+  }
+
+  @Test
+  public void testExecuteWithCollector() {
+    SqlClientHelper.rxExecute(pool.query("SELECT * FROM folks"), Collectors.mapping(row -> row.getString(0), Collectors.toList()))
+      .subscribe(list -> {
+        assertEquals(list, NAMES);
+        testComplete();
+      }, this::fail);
+    await();
+  }
+
+  @Test
+  public void testExecuteWithMapping() {
+    SqlClientHelper.rxExecute(pool.preparedQuery("SELECT * FROM folks WHERE firstname <> $1"), Tuple.of("Peter"), row -> row.getString(0))
+      .toList()
+      .subscribe(list -> {
+        assertEquals(list, Arrays.asList("John", "Paul", "Andrew", "Steven"));
+        testComplete();
+      }, this::fail);
+    await();
+  }
+
+  @Test
+  public void testQueryStream() {
+    SqlClientHelper.rxQueryStream(pool, "SELECT * FROM folks", 2)
+      .map(row -> row.getString(0))
+      .toList()
+      .subscribe(list -> {
+        assertEquals(list, NAMES);
+        testComplete();
+      }, this::fail);
+    await();
+  }
+
+  @Test
+  public void testQueryStreamCancelReleasesConnection() {
+    PgConnectOptions connectOptions = connectOptions();
+    Pool single = Pool.newInstance(io.vertx.pgclient.PgBuilder.pool(builder -> builder
+      .with(new PoolOptions().setMaxSize(1))
+      .connectingTo(connectOptions)));
+    SqlClientHelper.rxQueryStream(single, "SELECT * FROM folks WHERE firstname <> $1", Tuple.of("John"), 1, row -> row.getString(0))
+      .take(2)
+      .toList()
+      .flatMap(list -> {
+        assertEquals(Arrays.asList("Paul", "Peter"), list);
+        // The pool has a single connection, this would hang when the connection was not released
+        // and the timestamps only differ when the connection is still inside the cancelled transaction
+        return single.query("SELECT now() = statement_timestamp()").rxExecute();
+      })
+      .doFinally(single::close)
+      .subscribe(rows -> {
+        assertTrue(rows.iterator().next().getBoolean(0));
+        testComplete();
+      }, this::fail);
+    await();
+  }
+
+  @Test
+  public void testExecuteBatch() {
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      names.add("Name-" + i);
+    }
+    pool.rxGetConnection().flatMap(conn -> Flowable.fromIterable(names)
+        .map(Tuple::of)
+        .compose(SqlClientHelper.executeBatch(conn.preparedQuery("insert into folks (firstname) values ($1)"), 16, 4))
+        .count()
+        .doFinally(conn::close))
+      .flatMap(batches -> {
+        assertEquals(7L, (long) batches);
+        return pool.query("SELECT count(*) FROM folks").rxExecute();
+      })
+      .subscribe(rows -> {
+        assertEquals(NAMES.size() + names.size(), (int) rows.iterator().next().getInteger(0));
+        testComplete();
+      }, this::fail);
+    await();
+  }
 }
@@ -9,6 +9,7 @@ import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.impl.NoStackTraceThrowable;
 import io.vertx.rxjava3.core.AbstractVerticle;
+import io.vertx.rxjava3.core.FlowableHelper;
 import io.vertx.rxjava3.core.RxHelper;
 import io.vertx.rxjava3.core.Vertx;
 import io.vertx.rxjava3.core.buffer.Buffer;
@@ -16,12 +17,19 @@ import io.vertx.rxjava3.core.eventbus.DeliveryContext;
 import io.vertx.rxjava3.core.eventbus.EventBus;
 import io.vertx.rxjava3.core.file.AsyncFile;
 import io.vertx.rxjava3.core.http.*;
+import io.vertx.rxjava3.core.net.NetSocket;
 import io.vertx.rxjava3.core.parsetools.RecordParser;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -126,6 +134,47 @@ public class CoreApiTest extends VertxTestBase {
     assertEquals("0123456789", result);
   }
 
+  @Test
+  public void testHttpServerResponseSendFile() throws Exception {
+    String expected = new String(Files.readAllBytes(Paths.get("src/test/resources/test.txt")), StandardCharsets.UTF_8);
+    vertx.createHttpServer().requestHandler(req -> {
+      FlowableHelper.fromFile(vertx, "src/test/resources/test.txt")
+        .subscribe(req.response().toSubscriber().onWriteStreamEnd(this::complete));
+    }).listen(8080, "localhost").blockingGet();
+    HttpClient client = vertx.createHttpClient();
+    Buffer result = client.rxRequest(HttpMethod.GET, 8080, "localhost", "/")
+      .flatMap(request -> request
+        .rxSend()
+        .flatMap(response -> {
+          // sendFile sets the content length, streamed writes would require a chunked response
+          assertEquals(String.valueOf(expected.length()), response.getHeader("content-length"));
+          return response.body();
+        }))
+      .blockingGet();
+    assertEquals(expected, result.toString());
+    await();
+  }
+
+  @Test
+  public void testNetSocketSendFile() {
+    vertx.createNetServer().connectHandler(so -> {
+      FlowableHelper.fromFile(vertx, "src/test/resources/test.txt", 10, 9)
+        .subscribe(so.toSubscriber());
+    }).listen(1234, "localhost").blockingGet();
+    String result = vertx.createNetClient().rxConnect(1234, "localhost")
+      .flatMapPublisher(NetSocket::toFlowable)
+      .reduce("", (s, b) -> s + b)
+      .blockingGet();
+    assertEquals("Amsterdam", result);
+  }
+
+  @Test
+  public void testFromFile() {
+    String result = FlowableHelper.fromFile(vertx, "src/test/resources/test.txt", 10, 9)
+      .reduce("", (s, b) -> s + b)
+      .blockingGet();
+    assertEquals("Amsterdam", result);
+  }
 
   @Test
   public void shouldRemoveInterceptor() {
@@ -206,4 +255,33 @@ public class CoreApiTest extends VertxTestBase {
 
     await();
   }
+
+  @Test
+  public void testConcurrentToFlowableReturnsSameInstance() throws Exception {
+    AsyncFile file = vertx.fileSystem().rxOpen("src/test/resources/test.txt", new OpenOptions()).blockingGet();
+    int num = 8;
+    CyclicBarrier barrier = new CyclicBarrier(num);
+    Set<Object> flowables = ConcurrentHashMap.newKeySet();
+    Set<Object> subscribers = ConcurrentHashMap.newKeySet();
+    Thread[] threads = new Thread[num];
+    for (int i = 0; i < num; i++) {
+      threads[i] = new Thread(() -> {
+        try {
+          barrier.await();
+        } catch (Exception e) {
+          fail(e);
+        }
+        flowables.add(file.toFlowable());
+        subscribers.add(file.toSubscriber());
+      });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(1, flowables.size());
+    assertEquals(1, subscribers.size());
+    assertSame(file.toFlowable(), flowables.iterator().next());
+    file.rxClose().blockingAwait();
+  }
 }
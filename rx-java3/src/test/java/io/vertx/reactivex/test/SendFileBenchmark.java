@@ -0,0 +1,78 @@
+package io.vertx.reactivex.test;
+
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.rxjava3.core.FlowableHelper;
+import io.vertx.rxjava3.core.Vertx;
+import io.vertx.rxjava3.core.http.HttpClient;
+import io.vertx.rxjava3.core.http.HttpServerResponse;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * End-to-end benchmark serving a file over HTTP, streamed with {@code AsyncFile#toFlowable()} or transferred with
+ * {@code sendFile} by {@link FlowableHelper#fromFile}, it reports the throughput of both paths.
+ * <p>
+ * Arguments: the file size in MB (default 256) and the number of downloads per path (default 10).
+ */
+public class SendFileBenchmark {
+
+  private static final int PORT = 8080;
+
+  public static void main(String[] args) throws Exception {
+    int sizeMB = args.length > 0 ? Integer.parseInt(args[0]) : 256;
+    int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+    Path file = Files.createTempFile("sendfile", ".bin");
+    try {
+      byte[] chunk = new byte[1024 * 1024];
+      new Random(0).nextBytes(chunk);
+      try (OutputStream out = Files.newOutputStream(file)) {
+        for (int i = 0; i < sizeMB; i++) {
+          out.write(chunk);
+        }
+      }
+      long size = Files.size(file);
+      String path = file.toString();
+      Vertx vertx = Vertx.vertx();
+      vertx.createHttpServer().requestHandler(req -> {
+        HttpServerResponse response = req.response();
+        if (req.path().equals("/stream")) {
+          response.putHeader("content-length", String.valueOf(size));
+          vertx.fileSystem().rxOpen(path, new OpenOptions().setRead(true).setWrite(false))
+            .flatMapPublisher(f -> f.toFlowable().doFinally(() -> f.rxClose().subscribe()))
+            .subscribe(response.toSubscriber());
+        } else {
+          FlowableHelper.fromFile(vertx, path).subscribe(response.toSubscriber());
+        }
+      }).listen(PORT, "localhost").blockingGet();
+      HttpClient client = vertx.createHttpClient();
+      for (String uri : new String[] { "/stream", "/sendfile" }) {
+        // Warm-up
+        download(client, uri, size, 2);
+        long start = System.nanoTime();
+        download(client, uri, size, iterations);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-10s %10.1f MB/s%n", uri, iterations * (double) sizeMB / seconds);
+      }
+      vertx.rxClose().blockingAwait();
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  private static void download(HttpClient client, String uri, long size, int iterations) {
+    for (int i = 0; i < iterations; i++) {
+      long received = client.rxRequest(HttpMethod.GET, PORT, "localhost", uri)
+        .flatMap(request -> request
+          .rxSend()
+          .flatMap(response -> response.toFlowable().reduce(0L, (n, buffer) -> n + buffer.length())))
+        .blockingGet();
+      if (received != size) {
+        throw new AssertionError("Received " + received + " bytes instead of " + size);
+      }
+    }
+  }
+}